@@ -3,12 +3,20 @@ package com.kauanferreira.smartdaojdbc;
 import com.kauanferreira.smartdaojdbc.exception.DbException;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Metrics;
 
+import javax.sql.DataSource;
 import java.io.InputStream;
+import java.sql.Array;
 import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -17,17 +25,56 @@ import java.util.Properties;
  * database access in production environments.
  *
  * <p>Settings are loaded from the db.properties file,
- * including pool configuration parameters.</p>
+ * including pool configuration parameters. Each entry can be
+ * overridden with a {@code db.}-prefixed system property.</p>
+ *
+ * <p>When {@code metricsEnabled=true}, the pool publishes its
+ * HikariCP meters (active, idle and pending connections, acquire time)
+ * to the Micrometer global registry, which Spring Boot exports
+ * through the actuator Prometheus endpoint.</p>
+ *
+ * <p>Prepared statements are cached by PgJDBC on each physical connection:
+ * once a SQL text has run {@code prepareThreshold} times it is kept
+ * server-side, parsed once, for every later lease of that connection.
+ * Statements are still prepared and closed through the HikariCP proxy,
+ * so SQL errors reach the pool and broken connections are evicted.
+ * {@link #getPreparedStatementCacheStats()} reports the cache of one
+ * pooled connection.</p>
+ *
+ * <p>When {@code statementStatsEnabled=true}, connections are handed out
+ * wrapped in JDBC proxies that collect per-SQL statistics into
+ * {@link #getStatementStats()} and log statements slower than
+ * {@code slowQueryThresholdMillis}.</p>
+ *
+ * <p>When {@code replicaUrls} lists read replicas, each gets its own
+ * read-only pool behind {@link #getReplicaDataSource()}, which the
+ * DAO factory uses for queries.</p>
+ *
+ * <p>{@link #openDedicatedConnection()} opens a connection outside the
+ * pools, for sessions that stay open for the application's lifetime,
+ * such as the cache invalidation listener.</p>
  *
  * @author Kauan
- * @version 2.0
+ * @version 2.4
  * @since 2026
  */
 public class DB {
 
+    /** Prefix of the system properties overriding db.properties entries. */
+    public static final String SYSTEM_PROPERTY_PREFIX = "db.";
+
     /** HikariCP data source for managing the connection pool. */
     private static HikariDataSource dataSource;
 
+    /** Settings loaded from the db.properties file. */
+    private static Properties properties;
+
+    /** Per-SQL execution statistics, or {@code null} when disabled in db.properties. */
+    private static StatementStats statementStats;
+
+    /** Pools of the read replicas, or {@code null} when none is configured. */
+    private static ReplicaDataSource replicaDataSource;
+
     /**
      * Returns the HikariCP DataSource instance.
      * Used by Spring Boot for Flyway migrations.
@@ -38,25 +85,121 @@ public class DB {
         return dataSource;
     }
 
+    /**
+     * Returns the DataSource spreading queries over the read replicas.
+     * Falls back to the primary pool when no replica answers.
+     *
+     * @return the ReplicaDataSource, or {@code null} if {@code replicaUrls} is empty
+     */
+    public static ReplicaDataSource getReplicaDataSource() {
+        return replicaDataSource;
+    }
+
+    /**
+     * Returns a setting from the db.properties file.
+     *
+     * @param key          the property name
+     * @param defaultValue the value used when the property is absent
+     * @return the configured value, or {@code defaultValue}
+     */
+    public static String getProperty(String key, String defaultValue) {
+        return properties.getProperty(key, defaultValue);
+    }
+
+    /**
+     * Returns the per-SQL execution statistics of the connections handed out.
+     *
+     * @return the StatementStats instance, or {@code null} if {@code statementStatsEnabled=false}
+     */
+    public static StatementStats getStatementStats() {
+        return statementStats;
+    }
+
+    /**
+     * Tells whether pool and DAO metrics are published to Micrometer.
+     *
+     * @return {@code true} if {@code metricsEnabled=true} in db.properties
+     */
+    public static boolean isMetricsEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("metricsEnabled", "false"));
+    }
+
+    /**
+     * Returns the settings and counters of PgJDBC's prepared statement
+     * cache, read from {@code pg_prepared_statements} on one pooled
+     * connection. Each physical connection has its own cache, so the
+     * counters are a sample, not a pool-wide total.
+     *
+     * @return the cache settings and the counters of the leased connection
+     * @throws DbException if the counters cannot be read
+     */
+    public static PreparedStatementCacheStats getPreparedStatementCacheStats() {
+        Connection connection = getConnection();
+
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT count(*), coalesce(sum(generic_plans + custom_plans), 0) "
+                             + "FROM pg_prepared_statements WHERE NOT from_sql")) {
+            resultSet.next();
+            return new PreparedStatementCacheStats(
+                    Integer.parseInt(properties.getProperty("prepareThreshold", "5")),
+                    Integer.parseInt(properties.getProperty("preparedStatementCacheQueries", "256")),
+                    Integer.parseInt(properties.getProperty("preparedStatementCacheSizeMiB", "5")),
+                    resultSet.getInt(1),
+                    resultSet.getLong(2)
+            );
+        } catch (SQLException e) {
+            throw new DbException(e.getMessage(), e);
+        } finally {
+            closeConnection(connection);
+        }
+    }
+
     static {
         try {
-            Properties props = loadProperties();
-
-            HikariConfig config = new HikariConfig();
-            config.setJdbcUrl(props.getProperty("dburl"));
-            config.setUsername(props.getProperty("user"));
-            config.setPassword(props.getProperty("password"));
-            config.setMaximumPoolSize(Integer.parseInt(props.getProperty("maximumPoolSize", "10")));
-            config.setMinimumIdle(Integer.parseInt(props.getProperty("minimumIdle", "5")));
-            config.setConnectionTimeout(Long.parseLong(props.getProperty("connectionTimeout", "30000")));
-            config.setIdleTimeout(Long.parseLong(props.getProperty("idleTimeout", "600000")));
-
-            dataSource = new HikariDataSource(config);
+            properties = loadProperties();
+            dataSource = new HikariDataSource(createConfig());
+            statementStats = createStatementStats();
+            replicaDataSource = createReplicaDataSource();
         } catch (Exception e) {
             throw new DbException("Failed to initialize connection pool: " + e.getMessage());
         }
     }
 
+    /**
+     * Builds a new HikariCP configuration from the db.properties file.
+     * Besides initializing the shared pool, it allows creating
+     * independent pools with tuned settings (e.g., a different
+     * {@code maximumPoolSize} for load tests). Metrics of each pool
+     * are tagged with its pool name.
+     *
+     * @return a HikariConfig populated with the connection and pool settings
+     * @throws DbException if the db.properties file cannot be read
+     */
+    public static HikariConfig createConfig() {
+        Properties props = properties != null ? properties : loadProperties();
+
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(props.getProperty("dburl"));
+        config.setUsername(props.getProperty("user"));
+        config.setPassword(props.getProperty("password"));
+        config.setMaximumPoolSize(Integer.parseInt(props.getProperty("maximumPoolSize", "10")));
+        config.setMinimumIdle(Integer.parseInt(props.getProperty("minimumIdle", "5")));
+        config.setConnectionTimeout(Long.parseLong(props.getProperty("connectionTimeout", "30000")));
+        config.setIdleTimeout(Long.parseLong(props.getProperty("idleTimeout", "600000")));
+        config.addDataSourceProperty("reWriteBatchedInserts", props.getProperty("reWriteBatchedInserts", "true"));
+        config.addDataSourceProperty("prepareThreshold", props.getProperty("prepareThreshold", "5"));
+        config.addDataSourceProperty("preparedStatementCacheQueries",
+                props.getProperty("preparedStatementCacheQueries", "256"));
+        config.addDataSourceProperty("preparedStatementCacheSizeMiB",
+                props.getProperty("preparedStatementCacheSizeMiB", "5"));
+
+        if (Boolean.parseBoolean(props.getProperty("metricsEnabled", "false"))) {
+            config.setMetricRegistry(Metrics.globalRegistry);
+        }
+        return config;
+    }
+
     /**
      * Gets a connection from the HikariCP connection pool.
      *
@@ -64,19 +207,83 @@ public class DB {
      * @throws DbException if an error occurs while obtaining the connection
      */
     public static Connection getConnection() {
+        return getConnection(dataSource);
+    }
+
+    /**
+     * Gets a connection from the given DataSource.
+     * The caller is responsible for returning it with
+     * {@link #closeConnection(Connection)}.
+     *
+     * @param dataSource the pool to borrow the connection from
+     * @return Connection a database connection from the pool
+     * @throws DbException if an error occurs while obtaining the connection
+     */
+    public static Connection getConnection(DataSource dataSource) {
         try {
-            return dataSource.getConnection();
+            Connection connection = dataSource.getConnection();
+            return statementStats == null ? connection : StatementStatsProxy.connection(connection, statementStats);
         } catch (SQLException e) {
-            throw new DbException(e.getMessage());
+            throw new DbException(e.getMessage(), e);
         }
     }
 
     /**
-     * Shuts down the HikariCP connection pool.
+     * Opens a new connection to the primary outside the pool, with the
+     * pool's URL and credentials. Meant for long-lived sessions, such as
+     * {@code LISTEN}, that would otherwise hold a pooled connection forever.
+     * The caller must close it.
+     *
+     * @return a new, unpooled database connection
+     * @throws DbException if the connection cannot be opened
+     */
+    public static Connection openDedicatedConnection() {
+        try {
+            return DriverManager.getConnection(dataSource.getJdbcUrl(), dataSource.getUsername(),
+                    dataSource.getPassword());
+        } catch (SQLException e) {
+            throw new DbException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Prepares a statement on the given connection. PgJDBC reuses the
+     * server-side statement of the same SQL text prepared on an earlier
+     * lease of the physical connection, once past {@code prepareThreshold}.
+     *
+     * @param connection the connection the statement will run on
+     * @param sql        the SQL text to prepare
+     * @return a prepared statement, to be closed with {@link #closeStatement(Statement)}
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public static PreparedStatement prepareStatement(Connection connection, String sql) throws SQLException {
+        return prepareStatement(connection, sql, Statement.NO_GENERATED_KEYS);
+    }
+
+    /**
+     * Prepares a statement on the given connection with the given generated keys flag.
+     *
+     * @param connection        the connection the statement will run on
+     * @param sql               the SQL text to prepare
+     * @param autoGeneratedKeys {@link Statement#RETURN_GENERATED_KEYS} or {@link Statement#NO_GENERATED_KEYS}
+     * @return a prepared statement, to be closed with {@link #closeStatement(Statement)}
+     * @throws SQLException if the statement cannot be prepared
+     * @see #prepareStatement(Connection, String)
+     */
+    public static PreparedStatement prepareStatement(Connection connection, String sql, int autoGeneratedKeys)
+            throws SQLException {
+        return connection.prepareStatement(sql, autoGeneratedKeys);
+    }
+
+    /**
+     * Shuts down the HikariCP connection pool and the replica pools, if any.
      * Should be called when the application is closing
      * to release all database resources.
      */
     public static void closePool() {
+        if (replicaDataSource != null) {
+            replicaDataSource.close();
+        }
         if (dataSource != null && !dataSource.isClosed()) {
             dataSource.close();
         }
@@ -94,7 +301,7 @@ public class DB {
             try {
                 connection.close();
             } catch (SQLException e) {
-                throw new DbException(e.getMessage());
+                throw new DbException(e.getMessage(), e);
             }
         }
     }
@@ -111,7 +318,24 @@ public class DB {
             try {
                 stmt.close();
             } catch (SQLException e) {
-                throw new DbException(e.getMessage());
+                throw new DbException(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Safely frees a SQL Array object.
+     * Checks if the Array is not null before attempting to free it.
+     *
+     * @param array the Array to be freed, can be null
+     * @throws DbException if an error occurs while freeing the Array
+     */
+    public static void freeArray(Array array) {
+        if (array != null) {
+            try {
+                array.free();
+            } catch (SQLException e) {
+                throw new DbException(e.getMessage(), e);
             }
         }
     }
@@ -128,13 +352,54 @@ public class DB {
             try {
                 rs.close();
             } catch (SQLException e) {
-                throw new DbException(e.getMessage());
+                throw new DbException(e.getMessage(), e);
             }
         }
     }
 
+    private static StatementStats createStatementStats() {
+        if (!Boolean.parseBoolean(properties.getProperty("statementStatsEnabled", "false"))) {
+            return null;
+        }
+        long thresholdMillis = Long.parseLong(properties.getProperty("slowQueryThresholdMillis", "500"));
+        return new StatementStats(
+                thresholdMillis < 0 ? null : Duration.ofMillis(thresholdMillis),
+                Integer.parseInt(properties.getProperty("statementStatsMaxStatements", "500"))
+        );
+    }
+
+    private static ReplicaDataSource createReplicaDataSource() {
+        String urls = properties.getProperty("replicaUrls", "").trim();
+
+        if (urls.isEmpty()) {
+            return null;
+        }
+        List<HikariDataSource> replicas = new ArrayList<>();
+
+        for (String url : urls.split(",")) {
+            HikariConfig config = createConfig();
+            config.setPoolName("replica-" + (replicas.size() + 1));
+            config.setJdbcUrl(url.trim());
+            config.setUsername(properties.getProperty("replicaUser", config.getUsername()));
+            config.setPassword(properties.getProperty("replicaPassword", config.getPassword()));
+            config.setMaximumPoolSize(Integer.parseInt(
+                    properties.getProperty("replicaMaximumPoolSize", String.valueOf(config.getMaximumPoolSize()))));
+            config.setConnectionTimeout(Long.parseLong(properties.getProperty("replicaConnectionTimeout", "2000")));
+            config.setReadOnly(true);
+            // A replica that is down must not keep the application from starting
+            config.setInitializationFailTimeout(-1);
+            replicas.add(new HikariDataSource(config));
+        }
+        return new ReplicaDataSource(replicas,
+                ReplicaDataSource.Strategy.parse(properties.getProperty("replicaRouting", "round-robin")),
+                dataSource);
+    }
+
     /**
      * Loads connection properties from the db.properties file.
+     * A system property named {@code db.<key>} overrides {@code <key>},
+     * which lets a test harness point the pool at another server;
+     * when every needed key is overridden the file may be absent.
      *
      * @return Properties object containing the connection and pool settings
      * @throws DbException if the db.properties file is not found or cannot be read
@@ -142,10 +407,23 @@ public class DB {
     private static Properties loadProperties() {
         try (InputStream fs = DB.class.getClassLoader().getResourceAsStream("db.properties")) {
             Properties props = new Properties();
-            props.load(fs);
+            Properties system = System.getProperties();
+
+            if (fs != null) {
+                props.load(fs);
+            } else if (system.getProperty(SYSTEM_PROPERTY_PREFIX + "dburl") == null) {
+                throw new DbException("db.properties not found on the classpath");
+            }
+            for (String name : system.stringPropertyNames()) {
+                if (name.startsWith(SYSTEM_PROPERTY_PREFIX)) {
+                    props.setProperty(name.substring(SYSTEM_PROPERTY_PREFIX.length()), system.getProperty(name));
+                }
+            }
             return props;
+        } catch (DbException e) {
+            throw e;
         } catch (Exception e) {
-            throw new DbException(e.getMessage());
+            throw new DbException(e.getMessage(), e);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.kauanferreira.smartdaojdbc;
+
+/**
+ * Settings and counters of PgJDBC's prepared statement cache on one
+ * physical connection, as reported by {@code pg_prepared_statements}.
+ *
+ * <p>A SQL text is prepared server-side once it has run
+ * {@code prepareThreshold} times on the connection; every later execution
+ * skips the parse. Executions counted here are those of server-prepared
+ * statements only, so the first of each is the miss and the rest are hits.</p>
+ *
+ * @param prepareThreshold executions of a SQL text before it is prepared server-side
+ * @param maxQueries       maximum number of statements cached per connection
+ * @param maxSizeMiB       maximum memory of the statements cached per connection
+ * @param serverPrepared   statements currently prepared server-side on the sampled connection
+ * @param executions       executions of those statements on the sampled connection
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public record PreparedStatementCacheStats(int prepareThreshold, int maxQueries, int maxSizeMiB,
+                                          int serverPrepared, long executions) {
+
+    /**
+     * Returns the fraction of server-prepared executions that reused an
+     * existing statement instead of parsing a new one.
+     *
+     * @return the hit ratio between 0 and 1
+     */
+    public double getHitRatio() {
+        return executions == 0 ? 0.0 : (double) (executions - serverPrepared) / executions;
+    }
+}
@@ -0,0 +1,195 @@
+package com.kauanferreira.smartdaojdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * DataSource spreading connections over the HikariCP pools of one or
+ * more read replicas.
+ *
+ * <p>Each {@link #getConnection()} picks a replica with the configured
+ * {@link Strategy}. If that replica cannot hand out a connection, the
+ * other replicas are tried in turn, then the fallback (usually the
+ * primary), so reads keep working while a replica is down.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class ReplicaDataSource implements DataSource, AutoCloseable {
+
+    /** How the replica serving a connection is chosen. */
+    public enum Strategy {
+        /** Each replica in turn. */
+        ROUND_ROBIN,
+        /** The replica with the fewest connections in use or awaited. */
+        LEAST_PENDING;
+
+        /**
+         * Parses a strategy name such as {@code round-robin} or {@code LEAST_PENDING}.
+         *
+         * @param name the name, case-insensitive, with dashes or underscores
+         * @return the matching strategy
+         * @throws IllegalArgumentException if no strategy has this name
+         */
+        public static Strategy parse(String name) {
+            return valueOf(name.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final List<HikariDataSource> replicas;
+
+    private final Strategy strategy;
+
+    /** Used when no replica answers, or {@code null} to fail instead. */
+    private final DataSource fallback;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Creates a new replica DataSource.
+     *
+     * @param replicas the pools of the replicas, at least one
+     * @param strategy how a replica is picked for each connection
+     * @param fallback used when no replica answers, or {@code null} to fail instead
+     */
+    public ReplicaDataSource(List<HikariDataSource> replicas, Strategy strategy, DataSource fallback) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one replica is required");
+        }
+        this.replicas = List.copyOf(replicas);
+        this.strategy = strategy;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Returns the pools of the replicas, in configuration order.
+     *
+     * @return the replica pools
+     */
+    public List<HikariDataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Returns a connection to a replica, or to the fallback if none answers.
+     *
+     * @return a read-only connection from one of the pools
+     * @throws SQLException if neither the replicas nor the fallback hand out a connection
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        SQLException failure = null;
+
+        for (HikariDataSource replica : candidates()) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (fallback != null) {
+            return fallback.getConnection();
+        }
+        throw failure;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica credentials are set in db.properties");
+    }
+
+    /**
+     * Closes the pools of every replica. The fallback is left open.
+     */
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+    }
+
+    /** Returns the replicas in the order they should be tried. */
+    private List<HikariDataSource> candidates() {
+        int size = replicas.size();
+        int first = strategy == Strategy.LEAST_PENDING ? leastPending() : Math.floorMod(next.getAndIncrement(), size);
+        List<HikariDataSource> ordered = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            ordered.add(replicas.get((first + i) % size));
+        }
+        return ordered;
+    }
+
+    private int leastPending() {
+        int best = 0;
+        int bestLoad = Integer.MAX_VALUE;
+
+        for (int i = 0; i < replicas.size(); i++) {
+            HikariPoolMXBean pool = replicas.get(i).getHikariPoolMXBean();
+            int load = pool == null ? Integer.MAX_VALUE - 1
+                    : pool.getActiveConnections() + pool.getThreadsAwaitingConnection();
+
+            if (load < bestLoad) {
+                best = i;
+                bestLoad = load;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return replicas.getFirst().getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        for (HikariDataSource replica : replicas) {
+            replica.setLogWriter(out);
+        }
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        for (HikariDataSource replica : replicas) {
+            replica.setLoginTimeout(seconds);
+        }
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return replicas.getFirst().getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+}
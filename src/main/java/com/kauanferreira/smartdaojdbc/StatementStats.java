@@ -0,0 +1,249 @@
+package com.kauanferreira.smartdaojdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-SQL execution statistics, collected by the JDBC proxies that
+ * {@link DB} puts around pooled connections when
+ * {@code statementStatsEnabled=true}.
+ *
+ * <p>For each distinct SQL text it keeps the number of executions and
+ * failures, the total and maximum execution time, approximate latency
+ * percentiles, and the rows fetched and affected. Execution time covers
+ * the {@code execute*} call only; fetching the rows of a query is not
+ * included. Statements slower than the threshold are logged with their
+ * bound parameters.</p>
+ *
+ * <p>Percentiles come from a log-scaled histogram with four buckets per
+ * power of two, so they are accurate to about 20%. At most
+ * {@code maxStatements} SQL texts are tracked; executions of further
+ * texts are only counted as untracked.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class StatementStats {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementStats.class);
+
+    /** Histogram buckets: four per power of two of microseconds, up to about 12 days. */
+    private static final int BUCKETS = 4 * 40;
+
+    /** Longest bound parameter value written to the slow-query log. */
+    private static final int MAX_LOGGED_VALUE_LENGTH = 100;
+
+    /** Executions at or above this time are logged; negative disables the log. */
+    private final long slowThresholdNanos;
+
+    /** Maximum number of distinct SQL texts tracked. */
+    private final int maxStatements;
+
+    private final ConcurrentMap<String, Counters> statements = new ConcurrentHashMap<>();
+
+    private final LongAdder untracked = new LongAdder();
+
+    /**
+     * Creates a new statistics collector.
+     *
+     * @param slowThreshold executions at or above this time are logged, {@code null} to disable the log
+     * @param maxStatements maximum number of distinct SQL texts tracked
+     */
+    public StatementStats(Duration slowThreshold, int maxStatements) {
+        this.slowThresholdNanos = slowThreshold == null ? -1 : slowThreshold.toNanos();
+        this.maxStatements = maxStatements;
+    }
+
+    /**
+     * Records one execution of a statement.
+     *
+     * @param sql          the SQL text
+     * @param nanos        the execution time
+     * @param rowsAffected rows inserted, updated or deleted, {@code 0} for queries
+     * @param failed       whether the execution threw
+     * @param parameters   the bound parameters, in order, for the slow-query log
+     */
+    void recordExecution(String sql, long nanos, long rowsAffected, boolean failed, List<Object> parameters) {
+        if (slowThresholdNanos >= 0 && nanos >= slowThresholdNanos) {
+            log.warn("Slow statement ({} ms{}): {} parameters={}", TimeUnit.NANOSECONDS.toMillis(nanos),
+                    failed ? ", failed" : "", sql, format(parameters));
+        }
+        Counters counters = counters(sql);
+
+        if (counters == null) {
+            return;
+        }
+        counters.executions.increment();
+        counters.totalNanos.add(nanos);
+        counters.maxNanos.accumulateAndGet(nanos, Math::max);
+        counters.histogram.incrementAndGet(bucket(nanos));
+        counters.rowsAffected.add(rowsAffected);
+
+        if (failed) {
+            counters.errors.increment();
+        }
+    }
+
+    /**
+     * Records the rows read from the result of a statement.
+     *
+     * @param sql  the SQL text
+     * @param rows the rows fetched before the result set was closed
+     */
+    void recordFetch(String sql, long rows) {
+        Counters counters = statements.get(sql);
+
+        if (counters != null) {
+            counters.rowsFetched.add(rows);
+        }
+    }
+
+    /**
+     * Returns a snapshot of every tracked statement, the ones with the
+     * largest total execution time first.
+     *
+     * @return the statistics of each SQL text
+     */
+    public List<Entry> getStatements() {
+        return statements.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingDouble(Entry::totalMillis).reversed())
+                .toList();
+    }
+
+    /**
+     * Returns the executions of SQL texts beyond the tracking limit.
+     *
+     * @return the number of executions not attributed to any statement
+     */
+    public long getUntrackedExecutions() {
+        return untracked.sum();
+    }
+
+    /**
+     * Forgets every statement and counter.
+     */
+    public void reset() {
+        statements.clear();
+        untracked.reset();
+    }
+
+    private Counters counters(String sql) {
+        Counters counters = statements.get(sql);
+
+        if (counters == null) {
+            if (statements.size() >= maxStatements) {
+                untracked.increment();
+                return null;
+            }
+            counters = statements.computeIfAbsent(sql, key -> new Counters());
+        }
+        return counters;
+    }
+
+    /** Returns the histogram bucket of a duration: four buckets per power of two of microseconds. */
+    private static int bucket(long nanos) {
+        long micros = Math.max(1, nanos / 1000);
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int quarter = exponent >= 2
+                ? (int) (micros >>> (exponent - 2)) & 3
+                : (int) (micros << (2 - exponent)) & 3;
+        return Math.min(BUCKETS - 1, exponent * 4 + quarter);
+    }
+
+    /** Returns the upper bound of a histogram bucket, in milliseconds. */
+    private static double upperBoundMillis(int bucket) {
+        return Math.scalb((4 + bucket % 4 + 1) / 4.0, bucket / 4) / 1000;
+    }
+
+    private static String format(List<Object> parameters) {
+        StringBuilder text = new StringBuilder("[");
+
+        for (int i = 0; i < parameters.size(); i++) {
+            String value = String.valueOf(parameters.get(i));
+
+            if (i > 0) {
+                text.append(", ");
+            }
+            text.append(value.length() > MAX_LOGGED_VALUE_LENGTH
+                    ? value.substring(0, MAX_LOGGED_VALUE_LENGTH) + "..."
+                    : value);
+        }
+        return text.append(']').toString();
+    }
+
+    /** Counters of one SQL text. */
+    private static class Counters {
+        final LongAdder executions = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+        final LongAdder rowsFetched = new LongAdder();
+        final LongAdder rowsAffected = new LongAdder();
+        final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+        Entry snapshot(String sql) {
+            long count = executions.sum();
+            double totalMillis = totalNanos.sum() / 1e6;
+            double maxMillis = maxNanos.get() / 1e6;
+            long[] buckets = new long[BUCKETS];
+
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = histogram.get(i);
+            }
+            return new Entry(sql, count, errors.sum(), totalMillis, count == 0 ? 0 : totalMillis / count, maxMillis,
+                    percentile(buckets, 0.50, maxMillis), percentile(buckets, 0.95, maxMillis),
+                    percentile(buckets, 0.99, maxMillis), rowsFetched.sum(), rowsAffected.sum());
+        }
+
+        private static double percentile(long[] buckets, double percentile, double maxMillis) {
+            long total = 0;
+
+            for (long bucket : buckets) {
+                total += bucket;
+            }
+            long rank = (long) Math.ceil(percentile * total);
+            long seen = 0;
+
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+
+                if (seen >= rank && seen > 0) {
+                    return Math.min(upperBoundMillis(i), maxMillis);
+                }
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Snapshot of the statistics of one SQL text.
+     *
+     * @param sql          the SQL text
+     * @param executions   times the statement ran
+     * @param errors       executions that threw
+     * @param totalMillis  total execution time
+     * @param meanMillis   mean execution time
+     * @param maxMillis    longest execution time
+     * @param p50Millis    approximate median execution time
+     * @param p95Millis    approximate 95th percentile execution time
+     * @param p99Millis    approximate 99th percentile execution time
+     * @param rowsFetched  rows read from the results
+     * @param rowsAffected rows inserted, updated or deleted
+     */
+    public record Entry(String sql, long executions, long errors, double totalMillis, double meanMillis,
+                        double maxMillis, double p50Millis, double p95Millis, double p99Millis,
+                        long rowsFetched, long rowsAffected) {
+    }
+}
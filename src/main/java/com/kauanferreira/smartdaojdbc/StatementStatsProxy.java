@@ -0,0 +1,243 @@
+package com.kauanferreira.smartdaojdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC proxies feeding a {@link StatementStats}.
+ *
+ * <p>A proxied connection hands out proxied statements, which time each
+ * {@code execute*} call, remember the bound parameters for the slow-query
+ * log and count affected rows; their result sets count the rows read
+ * until they are closed. Every other call goes straight to the driver.</p>
+ *
+ * @author Kauan
+ * @version 1.1
+ * @since 2026
+ */
+final class StatementStatsProxy {
+
+    /** Key of the batches of plain statements, whose SQL texts are not tracked one by one. */
+    private static final String UNNAMED_BATCH = "<statement batch>";
+
+    private StatementStatsProxy() {
+    }
+
+    /**
+     * Wraps a connection so that every statement it creates is measured.
+     *
+     * @param connection the connection to wrap
+     * @param stats      the collector of the measurements
+     * @return a proxy of the connection
+     */
+    static Connection connection(Connection connection, StatementStats stats) {
+        return (Connection) Proxy.newProxyInstance(StatementStatsProxy.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection, stats));
+    }
+
+    private static Object statement(Statement statement, Class<?> type, String sql, StatementStats stats) {
+        return Proxy.newProxyInstance(StatementStatsProxy.class.getClassLoader(),
+                new Class<?>[]{type}, new StatementHandler(statement, sql, stats));
+    }
+
+    /** Invokes a driver method, rethrowing what it threw instead of a reflection wrapper. */
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /** Answers {@code equals} and {@code hashCode} by identity, as the driver objects do. */
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return method.getName().equals("equals") ? proxy == args[0] : System.identityHashCode(proxy);
+    }
+
+    private static boolean isIdentityMethod(Method method) {
+        return method.getDeclaringClass() == Object.class
+                && (method.getName().equals("equals") || method.getName().equals("hashCode"));
+    }
+
+    /** Wraps the statements created by a connection. */
+    private static class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final StatementStats stats;
+
+        ConnectionHandler(Connection target, StatementStats stats) {
+            this.target = target;
+            this.stats = stats;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            Object result = StatementStatsProxy.invoke(target, method, args);
+
+            return switch (method.getName()) {
+                case "createStatement" -> statement((Statement) result, Statement.class, null, stats);
+                case "prepareStatement" -> statement((Statement) result, PreparedStatement.class, (String) args[0], stats);
+                case "prepareCall" -> statement((Statement) result, CallableStatement.class, (String) args[0], stats);
+                default -> result;
+            };
+        }
+    }
+
+    /** Times executions and records parameters and affected rows. */
+    private static class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String sql;
+        private final StatementStats stats;
+
+        /** Parameters bound since the last execution, by index. */
+        private final List<Object> parameters = new ArrayList<>();
+
+        /** SQL text of the last execution, which {@code getResultSet} refers to. */
+        private String lastSql;
+
+        StatementHandler(Statement target, String sql, StatementStats stats) {
+            this.target = target;
+            this.sql = sql;
+            this.stats = stats;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            String name = method.getName();
+
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            }
+            Object result = StatementStatsProxy.invoke(target, method, args);
+
+            if (name.equals("getResultSet") && result != null) {
+                return resultSet((ResultSet) result, lastSql != null ? lastSql : UNNAMED_BATCH);
+            }
+            return result;
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            String executedSql = args != null && args.length > 0 && args[0] instanceof String text ? text
+                    : sql != null ? sql : UNNAMED_BATCH;
+            lastSql = executedSql;
+            long start = System.nanoTime();
+            Object result;
+
+            try {
+                result = StatementStatsProxy.invoke(target, method, args);
+            } catch (Throwable e) {
+                stats.recordExecution(executedSql, System.nanoTime() - start, 0, true, parameters);
+                throw e;
+            }
+            long nanos = System.nanoTime() - start;
+            stats.recordExecution(executedSql, nanos, rowsAffected(result), false, parameters);
+
+            if (result instanceof ResultSet resultSet) {
+                return resultSet(resultSet, executedSql);
+            }
+            return result;
+        }
+
+        private long rowsAffected(Object result) throws SQLException {
+            return switch (result) {
+                case Integer count -> Math.max(0, count);
+                case Long count -> Math.max(0, count);
+                case int[] counts -> sum(counts);
+                case long[] counts -> sum(counts);
+                case Boolean hasResultSet when !hasResultSet -> Math.max(0, target.getUpdateCount());
+                case null, default -> 0;
+            };
+        }
+
+        private void bind(int index, Object value) {
+            while (parameters.size() < index) {
+                parameters.add(null);
+            }
+            parameters.set(index - 1, value);
+        }
+
+        private ResultSet resultSet(ResultSet resultSet, String executedSql) {
+            return (ResultSet) Proxy.newProxyInstance(StatementStatsProxy.class.getClassLoader(),
+                    new Class<?>[]{ResultSet.class}, new ResultSetHandler(resultSet, executedSql, stats));
+        }
+
+        private static long sum(int[] counts) {
+            long total = 0;
+            for (int count : counts) {
+                total += Math.max(0, count);
+            }
+            return total;
+        }
+
+        private static long sum(long[] counts) {
+            long total = 0;
+            for (long count : counts) {
+                total += Math.max(0, count);
+            }
+            return total;
+        }
+    }
+
+    /** Counts the rows read from a result set and reports them when it is closed. */
+    private static class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final String sql;
+        private final StatementStats stats;
+        private long rows;
+        private boolean reported;
+
+        ResultSetHandler(ResultSet target, String sql, StatementStats stats) {
+            this.target = target;
+            this.sql = sql;
+            this.stats = stats;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            Object result = StatementStatsProxy.invoke(target, method, args);
+
+            switch (method.getName()) {
+                case "next" -> {
+                    if ((Boolean) result) {
+                        rows++;
+                    }
+                }
+                case "close" -> {
+                    if (!reported) {
+                        reported = true;
+                        stats.recordFetch(sql, rows);
+                    }
+                }
+                default -> {
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.kauanferreira.smartdaojdbc.controller;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.PreparedStatementCacheStats;
+import com.kauanferreira.smartdaojdbc.StatementStats;
+import com.kauanferreira.smartdaojdbc.dao.DaoFactory;
+import com.kauanferreira.smartdaojdbc.dao.batch.BatchLoaderMetrics;
+import com.kauanferreira.smartdaojdbc.dao.batch.BatchingDepartmentDao;
+import com.kauanferreira.smartdaojdbc.dao.batch.BatchingSellerDao;
+import com.kauanferreira.smartdaojdbc.dao.cache.CacheMetrics;
+import com.kauanferreira.smartdaojdbc.dao.cache.CachingDepartmentDao;
+import com.kauanferreira.smartdaojdbc.dao.cache.CachingSellerDao;
+import com.kauanferreira.smartdaojdbc.dao.cache.ResultCachingSellerDao;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST controller exposing runtime statistics of the data access layer.
+ * Intended for operators checking cache efficiency in production.
+ *
+ * @author Kauan
+ * @version 1.3
+ * @since 2026
+ */
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    /**
+     * Returns the settings and counters of PgJDBC's prepared statement
+     * cache, sampled on one pooled connection.
+     *
+     * @return the cache settings, server-prepared statements and hit ratio
+     */
+    @GetMapping("/statement-cache")
+    public ResponseEntity<PreparedStatementCacheStats> statementCache() {
+        return ResponseEntity.ok(DB.getPreparedStatementCacheStats());
+    }
+
+    /**
+     * Returns the counters of the in-process entity and result caches.
+     * Disabled caches are omitted.
+     *
+     * @return hits, misses, evictions and size of each cache, by name
+     */
+    @GetMapping("/caches")
+    public ResponseEntity<Map<String, CacheMetrics>> caches() {
+        Map<String, CacheMetrics> caches = new LinkedHashMap<>();
+
+        CachingDepartmentDao departmentCache = DaoFactory.getDepartmentCache();
+        if (departmentCache != null) {
+            caches.put("departmentById", departmentCache.getByIdMetrics());
+            caches.put("departmentLists", departmentCache.getListMetrics());
+        }
+
+        CachingSellerDao sellerCache = DaoFactory.getSellerCache();
+        if (sellerCache != null) {
+            caches.put("sellerById", sellerCache.getByIdMetrics());
+            caches.put("sellerByEmail", sellerCache.getByEmailMetrics());
+        }
+
+        ResultCachingSellerDao sellerResultCache = DaoFactory.getSellerResultCache();
+        if (sellerResultCache != null) {
+            caches.put("sellerLists", sellerResultCache.getMetrics());
+        }
+        return ResponseEntity.ok(caches);
+    }
+
+    /**
+     * Returns the counters of the findById batch loaders.
+     * Empty when batching is disabled.
+     *
+     * @return requests, coalesced requests, batch size distribution and wait times, by loader
+     */
+    @GetMapping("/batch-loaders")
+    public ResponseEntity<Map<String, BatchLoaderMetrics>> batchLoaders() {
+        Map<String, BatchLoaderMetrics> loaders = new LinkedHashMap<>();
+
+        BatchingDepartmentDao departmentBatcher = DaoFactory.getDepartmentBatcher();
+        if (departmentBatcher != null) {
+            loaders.put("department", departmentBatcher.getMetrics());
+        }
+
+        BatchingSellerDao sellerBatcher = DaoFactory.getSellerBatcher();
+        if (sellerBatcher != null) {
+            loaders.put("seller", sellerBatcher.getMetrics());
+        }
+        return ResponseEntity.ok(loaders);
+    }
+
+    /**
+     * Returns the per-SQL execution statistics, the statements with the
+     * largest total time first. Empty when statement statistics are disabled.
+     *
+     * @param limit maximum number of statements returned
+     * @return executions, errors, timings and rows of each SQL text
+     */
+    @GetMapping("/statements")
+    public ResponseEntity<List<StatementStats.Entry>> statements(@RequestParam(defaultValue = "20") int limit) {
+        StatementStats stats = DB.getStatementStats();
+
+        if (stats == null) {
+            return ResponseEntity.ok(List.of());
+        }
+        List<StatementStats.Entry> statements = stats.getStatements();
+        return ResponseEntity.ok(statements.subList(0, Math.min(Math.max(limit, 0), statements.size())));
+    }
+
+    /**
+     * Clears the per-SQL execution statistics, e.g. before measuring a load test.
+     *
+     * @return 204 No Content
+     */
+    @DeleteMapping("/statements")
+    public ResponseEntity<Void> resetStatements() {
+        StatementStats stats = DB.getStatementStats();
+
+        if (stats != null) {
+            stats.reset();
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.kauanferreira.smartdaojdbc.controller;
+
+import java.util.List;
+
+/**
+ * Response body for keyset-paginated listings.
+ *
+ * @param items     the records of the current page
+ * @param nextToken opaque token to request the following page, or {@code null} on the last page
+ * @param <T>       the entity type
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public record CursorPage<T>(List<T> items, String nextToken) {
+}
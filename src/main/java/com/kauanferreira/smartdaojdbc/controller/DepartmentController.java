@@ -1,31 +1,58 @@
 package com.kauanferreira.smartdaojdbc.controller;
 
+import com.kauanferreira.smartdaojdbc.dao.BulkDao;
+import com.kauanferreira.smartdaojdbc.dao.BulkLoadResult;
 import com.kauanferreira.smartdaojdbc.dao.DaoFactory;
 import com.kauanferreira.smartdaojdbc.dao.DepartmentDao;
+import com.kauanferreira.smartdaojdbc.dao.async.AsyncDepartmentDao;
+import com.kauanferreira.smartdaojdbc.dao.async.AsyncSellerDao;
 import com.kauanferreira.smartdaojdbc.entity.Department;
+import com.kauanferreira.smartdaojdbc.entity.Seller;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * REST controller for {@link Department} operations.
  * Provides endpoints for CRUD and paginated listing.
  *
+ * <p>Department reads carry strong ETags derived from row versions, so
+ * polling clients sending {@code If-None-Match} get 304 Not Modified
+ * without a body; with the department cache enabled, without a query.</p>
+ *
  * @author Kauan
- * @version 1.0
+ * @version 1.2
  * @since 2026
  */
 @RestController
 @RequestMapping("/api/departments")
 public class DepartmentController {
 
+    /** Upper bound of the {@code size} parameter of the cursor endpoint. */
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final DepartmentDao departmentDao = DaoFactory.createDepartmentDao();
 
+    private final BulkDao bulkDao = DaoFactory.createBulkDao();
+
+    private final AsyncDepartmentDao asyncDepartmentDao = DaoFactory.createAsyncDepartmentDao();
+
+    private final AsyncSellerDao asyncSellerDao = DaoFactory.createAsyncSellerDao();
+
     /**
      * Returns all departments.
      * Supports optional pagination with page and size parameters.
+     * Answers 304 Not Modified when {@code If-None-Match} holds the current ETag.
      *
      * @param page the page number (optional)
      * @param size the number of records per page (optional)
@@ -36,21 +63,72 @@ public class DepartmentController {
             @RequestParam(required = false) Integer page,
             @RequestParam(required = false) Integer size) {
 
-        if (page != null && size != null) {
-            return ResponseEntity.ok(departmentDao.findAll(page, size));
+        List<Department> departments = page != null && size != null
+                ? departmentDao.findAll(page, size)
+                : departmentDao.findAll();
+        return ResponseEntity.ok()
+                .eTag(ETags.ofDepartments(departments))
+                .cacheControl(CacheControl.noCache())
+                .body(departments);
+    }
+
+    /**
+     * Returns a page of departments using keyset pagination.
+     * The response carries an opaque token to request the next page.
+     *
+     * @param token the token returned by the previous page (optional, omit for the first page)
+     * @param size  the number of records per page, at least 1 and capped at {@value #MAX_PAGE_SIZE}
+     * @return the page of departments and the token for the next page
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<Department>> findAfter(
+            @RequestParam(required = false) String token,
+            @RequestParam(defaultValue = "20") Integer size) {
+
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be at least 1");
         }
-        return  ResponseEntity.ok(departmentDao.findAll());
+        int pageSize = Math.min(size, MAX_PAGE_SIZE);
+        PageToken key = PageToken.decode(token);
+        List<Department> departments = departmentDao.findAfter(key.lastName(), key.lastId(), pageSize);
+
+        String nextToken = null;
+        if (!departments.isEmpty() && departments.size() == pageSize) {
+            Department last = departments.get(departments.size() - 1);
+            nextToken = new PageToken(last.getName(), last.getId()).encode();
+        }
+        return ResponseEntity.ok(new CursorPage<>(departments, nextToken));
     }
 
     /**
      * Finds a department by id.
+     * Answers 304 Not Modified when {@code If-None-Match} holds the current ETag.
      *
      * @param id the department id
      * @return the department found
      */
     @GetMapping("/{id}")
     public ResponseEntity<Department> findById(@PathVariable Integer id) {
-        return ResponseEntity.ok(departmentDao.findById(id));
+        Department department = departmentDao.findById(id);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(department))
+                .cacheControl(CacheControl.noCache())
+                .body(department);
+    }
+
+    /**
+     * Returns a department together with its sellers.
+     * Both lookups run in parallel on virtual threads.
+     *
+     * @param id the department id
+     * @return the department and its sellers, ordered by name
+     */
+    @GetMapping("/{id}/overview")
+    public CompletableFuture<ResponseEntity<DepartmentOverview>> overview(@PathVariable Integer id) {
+        CompletableFuture<Department> department = asyncDepartmentDao.findById(id);
+        CompletableFuture<List<Seller>> sellers = asyncSellerDao.findByDepartment(new Department(id, null));
+
+        return department.thenCombine(sellers, DepartmentOverview::new).thenApply(ResponseEntity::ok);
     }
 
     /**
@@ -65,6 +143,76 @@ public class DepartmentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(department);
     }
 
+    /**
+     * Inserts a new department together with its sellers,
+     * in one transaction committed once.
+     *
+     * @param overview the department and the sellers to insert in it
+     * @return the inserted department and sellers with generated ids
+     */
+    @PostMapping("/with-sellers")
+    public ResponseEntity<DepartmentOverview> insertWithSellers(@RequestBody DepartmentOverview overview) {
+        DaoFactory.runInTransaction(unit -> {
+            unit.departmentDao().insert(overview.department());
+            overview.sellers().forEach(seller -> seller.setDepartment(overview.department()));
+            unit.sellerDao().insertAll(overview.sellers());
+        });
+        return ResponseEntity.status(HttpStatus.CREATED).body(overview);
+    }
+
+    /**
+     * Imports departments from a CSV body ({@code name}) using PostgreSQL COPY.
+     * Invalid rows are skipped and reported.
+     *
+     * @param request the HTTP request whose body holds the CSV
+     * @return the number of loaded rows and the rejected rows with their errors
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<BulkLoadResult> importCsv(HttpServletRequest request) throws IOException {
+        InputStreamReader csv = new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8);
+        BulkLoadResult result = bulkDao.importDepartments(csv);
+        // COPY writes around the DAOs and their caches
+        DaoFactory.invalidateCaches();
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Exports all departments as CSV using PostgreSQL COPY.
+     *
+     * @return a chunked CSV response body
+     */
+    @GetMapping(value = "/export", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> exportCsv() {
+        StreamingResponseBody body = bulkDao::exportDepartments;
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType("text/csv")).body(body);
+    }
+
+    /**
+     * Inserts several departments in a single batched transaction.
+     *
+     * @param departments the departments to insert
+     * @return the inserted departments with generated ids
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<Department>> insertAll(@RequestBody List<Department> departments) {
+        departmentDao.insertAll(departments);
+        return ResponseEntity.status(HttpStatus.CREATED).body(departments);
+    }
+
+    /**
+     * Updates several existing departments in a single batched transaction.
+     * Each department must carry its id.
+     *
+     * @param departments the departments with updated data
+     * @return the updated departments
+     */
+    @PutMapping("/batch")
+    public ResponseEntity<List<Department>> updateAll(@RequestBody List<Department> departments) {
+        departmentDao.updateAll(departments);
+        return ResponseEntity.ok(departments);
+    }
+
     /**
      * Updates an existing department.
      *
@@ -0,0 +1,18 @@
+package com.kauanferreira.smartdaojdbc.controller;
+
+import com.kauanferreira.smartdaojdbc.entity.Department;
+import com.kauanferreira.smartdaojdbc.entity.Seller;
+
+import java.util.List;
+
+/**
+ * A department together with its sellers.
+ *
+ * @param department the department
+ * @param sellers    the sellers of the department, ordered by name
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public record DepartmentOverview(Department department, List<Seller> sellers) {
+}
@@ -0,0 +1,71 @@
+package com.kauanferreira.smartdaojdbc.controller;
+
+import com.kauanferreira.smartdaojdbc.entity.Department;
+import com.kauanferreira.smartdaojdbc.entity.Seller;
+
+import java.util.List;
+
+/**
+ * Strong entity tags of the JSON representations of sellers and departments,
+ * built from ids and row versions, so a tag is known without serializing the body.
+ *
+ * <p>The database increments a row's version on every update, so the tag
+ * changes whenever the JSON does. A seller's tag also holds the version of
+ * its department, whose name the seller JSON embeds.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * Returns the tag of a single department.
+     *
+     * @param department a department read from the database
+     * @return the quoted strong entity tag
+     */
+    static String of(Department department) {
+        return "\"d" + department.getId() + "." + department.getVersion() + "\"";
+    }
+
+    /**
+     * Returns the tag of a single seller, including its department's version.
+     *
+     * @param seller a seller read from the database
+     * @return the quoted strong entity tag
+     */
+    static String of(Seller seller) {
+        Department department = seller.getDepartment();
+        return "\"s" + seller.getId() + "." + seller.getVersion()
+                + ".d" + department.getId() + "." + department.getVersion() + "\"";
+    }
+
+    /**
+     * Returns the tag of a list of departments, a 64-bit hash of the
+     * ids and versions in list order.
+     *
+     * @param departments departments read from the database
+     * @return the quoted strong entity tag
+     */
+    static String ofDepartments(List<Department> departments) {
+        long hash = departments.size();
+
+        for (Department department : departments) {
+            hash = mix(hash, department.getId());
+            hash = mix(hash, department.getVersion());
+        }
+        return "\"dl" + departments.size() + "." + Long.toHexString(hash) + "\"";
+    }
+
+    /** Folds a value into the hash with the 64-bit finalizer of MurmurHash3. */
+    private static long mix(long hash, long value) {
+        long h = (hash ^ value) * 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+}
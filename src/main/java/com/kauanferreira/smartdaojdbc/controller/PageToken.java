@@ -0,0 +1,48 @@
+package com.kauanferreira.smartdaojdbc.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination.
+ * Encodes the {@code (name, id)} key of the last row of a page
+ * as URL-safe Base64, so clients never depend on its contents.
+ *
+ * @param lastName the name of the last row returned
+ * @param lastId   the id of the last row returned
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public record PageToken(String lastName, Integer lastId) {
+
+    /**
+     * Encodes this key as an opaque token.
+     *
+     * @return the URL-safe token string
+     */
+    public String encode() {
+        String raw = lastId + ":" + lastName;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token the token sent by the client, may be {@code null} or blank for the first page
+     * @return the decoded key, or an empty key ({@code null} fields) for the first page
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static PageToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return new PageToken(null, null);
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new PageToken(raw.substring(separator + 1), Integer.parseInt(raw.substring(0, separator)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid page token");
+        }
+    }
+}
@@ -1,13 +1,25 @@
 package com.kauanferreira.smartdaojdbc.controller;
 
+import com.kauanferreira.smartdaojdbc.dao.BulkDao;
+import com.kauanferreira.smartdaojdbc.dao.BulkLoadResult;
 import com.kauanferreira.smartdaojdbc.dao.DaoFactory;
+import com.kauanferreira.smartdaojdbc.dao.MultiGetResult;
 import com.kauanferreira.smartdaojdbc.entity.Department;
 import com.kauanferreira.smartdaojdbc.dao.SellerDao;
 import com.kauanferreira.smartdaojdbc.entity.Seller;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 
@@ -15,16 +27,41 @@ import java.util.List;
  * REST controller for {@link Seller} operations.
  * Provides endpoints for CRUD, search and paginated listing.
  *
+ * <p>{@code GET /{id}} carries a strong ETag derived from the row versions
+ * of the seller and its department, so polling clients sending
+ * {@code If-None-Match} get 304 Not Modified without a body; with the
+ * seller cache enabled, without a query.</p>
+ *
  * @author Kauan
- * @version 1.0
+ * @version 1.2
  * @since 2026
  */
 @RestController
 @RequestMapping("/api/sellers")
 public class SellerController {
 
+    /** Media type of newline-delimited JSON, one seller per line. */
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    /** Upper bound of the {@code size} parameter of the cursor endpoint. */
+    private static final int MAX_PAGE_SIZE = 500;
+
+    /** Upper bound of the {@code limit} parameter of the search endpoints. */
+    private static final int MAX_SEARCH_LIMIT = 500;
+
+    /** Upper bound of the number of ids accepted by {@code _mget}. */
+    private static final int MAX_MGET_IDS = 1000;
+
     private final SellerDao sellerDao = DaoFactory.createSellerDao();
 
+    private final BulkDao bulkDao = DaoFactory.createBulkDao();
+
+    private final ObjectMapper objectMapper;
+
+    public SellerController(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
     /**
      * Returns all sellers.
      * Supports optional pagination with page and size parameters.
@@ -44,17 +81,86 @@ public class SellerController {
         return  ResponseEntity.ok(sellerDao.findAll());
     }
 
+    /**
+     * Streams all sellers as newline-delimited JSON.
+     * Each seller is written as soon as it is read from the database,
+     * so memory use stays flat regardless of the number of rows.
+     *
+     * @return a chunked NDJSON response body
+     */
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> stream() {
+        StreamingResponseBody body = outputStream -> sellerDao.forEach(seller -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(seller));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    /**
+     * Returns a page of sellers using keyset pagination.
+     * The response carries an opaque token to request the next page,
+     * keeping deep pages as fast as the first one.
+     *
+     * @param token the token returned by the previous page (optional, omit for the first page)
+     * @param size  the number of records per page, at least 1 and capped at {@value #MAX_PAGE_SIZE}
+     * @return the page of sellers and the token for the next page
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<Seller>> findAfter(
+            @RequestParam(required = false) String token,
+            @RequestParam(defaultValue = "20") Integer size) {
+
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be at least 1");
+        }
+        int pageSize = Math.min(size, MAX_PAGE_SIZE);
+        PageToken key = PageToken.decode(token);
+        List<Seller> sellers = sellerDao.findAfter(key.lastName(), key.lastId(), pageSize);
+
+        String nextToken = null;
+        if (!sellers.isEmpty() && sellers.size() == pageSize) {
+            Seller last = sellers.get(sellers.size() - 1);
+            nextToken = new PageToken(last.getName(), last.getId()).encode();
+        }
+        return ResponseEntity.ok(new CursorPage<>(sellers, nextToken));
+    }
+
      /**
       * Finds a seller by id.
+      * Answers 304 Not Modified when {@code If-None-Match} holds the current ETag.
       *
       * @param id the seller id
       * @return the seller found
       */
      @GetMapping("/{id}")
      public ResponseEntity<Seller> findById(@PathVariable Integer id) {
-         return ResponseEntity.ok(sellerDao.findById(id));
+         Seller seller = sellerDao.findById(id);
+         return ResponseEntity.ok()
+                 .eTag(ETags.of(seller))
+                 .cacheControl(CacheControl.noCache())
+                 .body(seller);
      }
 
+    /**
+     * Finds several sellers by id in a single query.
+     * Accepts at most {@value #MAX_MGET_IDS} ids; duplicates are ignored.
+     *
+     * @param ids the seller ids
+     * @return the sellers found in request order, and the ids not found
+     */
+    @PostMapping("/_mget")
+    public ResponseEntity<MultiGetResult<Seller>> findByIds(@RequestBody List<Integer> ids) {
+        if (ids.size() > MAX_MGET_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_MGET_IDS + " ids can be requested at once");
+        }
+        return ResponseEntity.ok(sellerDao.findByIds(ids));
+    }
+
     /**
      * Finds a seller by email.
      *
@@ -68,13 +174,17 @@ public class SellerController {
 
     /**
      * Finds sellers by name using case-insensitive partial matching (ILIKE).
+     * Returns at most {@code limit} sellers, capped at {@value #MAX_SEARCH_LIMIT}.
      *
-     * @param name the name or partial name to search
+     * @param name  the name or partial name to search
+     * @param limit the maximum number of sellers to return, at least 1
      * @return list of matching sellers
      */
     @GetMapping("/name/{name}")
-    public ResponseEntity<List<Seller>> findByName(@PathVariable String name) {
-        return ResponseEntity.ok(sellerDao.findByName(name));
+    public ResponseEntity<List<Seller>> findByName(
+            @PathVariable String name,
+            @RequestParam(defaultValue = "50") Integer limit) {
+        return ResponseEntity.ok(sellerDao.findByName(name, searchLimit(limit)));
     }
 
     /**
@@ -92,13 +202,17 @@ public class SellerController {
 
     /**
      * Finds sellers born in a specific month.
+     * Returns at most {@code limit} sellers, capped at {@value #MAX_SEARCH_LIMIT}.
      *
      * @param month the birth month (1-12)
+     * @param limit the maximum number of sellers to return, at least 1
      * @return list of sellers born in the given month
      */
     @GetMapping("/birth-month/{month}")
-    public ResponseEntity<List<Seller>> findByBirthMonth(@PathVariable Integer month) {
-        return ResponseEntity.ok(sellerDao.findByBirthMonth(month));
+    public ResponseEntity<List<Seller>> findByBirthMonth(
+            @PathVariable Integer month,
+            @RequestParam(defaultValue = "50") Integer limit) {
+        return ResponseEntity.ok(sellerDao.findByBirthMonth(month, searchLimit(limit)));
     }
 
     /**
@@ -113,6 +227,60 @@ public class SellerController {
         return ResponseEntity.status(HttpStatus.CREATED).body(seller);
     }
 
+    /**
+     * Imports sellers from a CSV body ({@code name,email,birthdate,basesalary,departmentid})
+     * using PostgreSQL COPY. Invalid rows are skipped and reported.
+     *
+     * @param request the HTTP request whose body holds the CSV
+     * @return the number of loaded rows and the rejected rows with their errors
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<BulkLoadResult> importCsv(HttpServletRequest request) throws IOException {
+        InputStreamReader csv = new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8);
+        BulkLoadResult result = bulkDao.importSellers(csv);
+        // COPY writes around the DAOs and their caches
+        DaoFactory.invalidateCaches();
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Exports all sellers as CSV using PostgreSQL COPY,
+     * streamed straight from the database to the response.
+     *
+     * @return a chunked CSV response body
+     */
+    @GetMapping(value = "/export", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> exportCsv() {
+        StreamingResponseBody body = bulkDao::exportSellers;
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType("text/csv")).body(body);
+    }
+
+    /**
+     * Inserts several sellers in a single batched transaction.
+     *
+     * @param sellers the sellers to insert
+     * @return the inserted sellers with generated ids
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<Seller>> insertAll(@RequestBody List<Seller> sellers) {
+        sellerDao.insertAll(sellers);
+        return ResponseEntity.status(HttpStatus.CREATED).body(sellers);
+    }
+
+    /**
+     * Updates several existing sellers in a single batched transaction.
+     * Each seller must carry its id.
+     *
+     * @param sellers the sellers with updated data
+     * @return the updated sellers
+     */
+    @PutMapping("/batch")
+    public ResponseEntity<List<Seller>> updateAll(@RequestBody List<Seller> sellers) {
+        sellerDao.updateAll(sellers);
+        return ResponseEntity.ok(sellers);
+    }
+
     /**
      * Updates an existing seller.
      *
@@ -138,4 +306,19 @@ public class SellerController {
         sellerDao.deleteById(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Validates the {@code limit} parameter of a search endpoint
+     * and caps it at {@value #MAX_SEARCH_LIMIT}.
+     *
+     * @param limit the requested limit
+     * @return the limit to query with
+     * @throws IllegalArgumentException if the limit is less than 1
+     */
+    private static int searchLimit(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        return Math.min(limit, MAX_SEARCH_LIMIT);
+    }
 }
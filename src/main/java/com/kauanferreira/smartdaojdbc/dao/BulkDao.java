@@ -0,0 +1,50 @@
+package com.kauanferreira.smartdaojdbc.dao;
+
+import java.io.OutputStream;
+import java.io.Reader;
+
+/**
+ * Data Access Object for bulk loads and exports of the
+ * {@code seller} and {@code department} tables.
+ * Rows are streamed, so the input and output sizes are not
+ * limited by the available memory.
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public interface BulkDao {
+
+    /**
+     * Imports sellers from CSV with the columns
+     * {@code name,email,birthdate,basesalary,departmentid}.
+     * A first line matching the column names is treated as a header.
+     *
+     * @param csv the CSV input, one seller per line
+     * @return the number of loaded rows and the rejected rows with their errors
+     */
+    BulkLoadResult importSellers(Reader csv);
+
+    /**
+     * Imports departments from CSV with the single column {@code name}.
+     * A first line matching the column name is treated as a header.
+     *
+     * @param csv the CSV input, one department per line
+     * @return the number of loaded rows and the rejected rows with their errors
+     */
+    BulkLoadResult importDepartments(Reader csv);
+
+    /**
+     * Writes every seller as CSV, with a header, ordered by id.
+     *
+     * @param out the stream receiving the CSV
+     */
+    void exportSellers(OutputStream out);
+
+    /**
+     * Writes every department as CSV, with a header, ordered by id.
+     *
+     * @param out the stream receiving the CSV
+     */
+    void exportDepartments(OutputStream out);
+}
@@ -0,0 +1,28 @@
+package com.kauanferreira.smartdaojdbc.dao;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import.
+ * Rows that fail validation are skipped and reported individually,
+ * while every valid row is loaded.
+ *
+ * @param rowsRead     number of data rows read from the input (header excluded)
+ * @param rowsLoaded   number of rows inserted into the table
+ * @param rowsRejected number of rows skipped because of errors
+ * @param errors       details of the rejected rows, capped to keep the response bounded
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public record BulkLoadResult(long rowsRead, long rowsLoaded, long rowsRejected, List<RowError> errors) {
+
+    /**
+     * A rejected input row.
+     *
+     * @param line    the line number in the input, starting at 1 for the header
+     * @param message why the row was rejected
+     */
+    public record RowError(long line, String message) {
+    }
+}
@@ -1,36 +1,562 @@
 package com.kauanferreira.smartdaojdbc.dao;
 
 import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.ReplicaDataSource;
+import com.kauanferreira.smartdaojdbc.dao.async.AsyncDepartmentDao;
+import com.kauanferreira.smartdaojdbc.dao.async.AsyncSellerDao;
+import com.kauanferreira.smartdaojdbc.dao.async.BoundedVirtualThreadExecutor;
+import com.kauanferreira.smartdaojdbc.dao.batch.BatchingDepartmentDao;
+import com.kauanferreira.smartdaojdbc.dao.batch.BatchingSellerDao;
+import com.kauanferreira.smartdaojdbc.dao.cache.CacheInvalidationListener;
+import com.kauanferreira.smartdaojdbc.dao.cache.CachingDepartmentDao;
+import com.kauanferreira.smartdaojdbc.dao.cache.CachingSellerDao;
+import com.kauanferreira.smartdaojdbc.dao.cache.ResultCachingSellerDao;
+import com.kauanferreira.smartdaojdbc.dao.cache.SellerEvictingDepartmentDao;
+import com.kauanferreira.smartdaojdbc.dao.cache.TableVersions;
+import com.kauanferreira.smartdaojdbc.dao.cache.VersionedDepartmentDao;
+import com.kauanferreira.smartdaojdbc.dao.impl.BulkDaoJDBC;
 import com.kauanferreira.smartdaojdbc.dao.impl.DepartmentDaoJDBC;
 import com.kauanferreira.smartdaojdbc.dao.impl.SellerDaoJDBC;
+import com.kauanferreira.smartdaojdbc.dao.metrics.MeteredDepartmentDao;
+import com.kauanferreira.smartdaojdbc.dao.metrics.MeteredSellerDao;
+import com.kauanferreira.smartdaojdbc.dao.routing.RoutingDepartmentDao;
+import com.kauanferreira.smartdaojdbc.dao.routing.RoutingSellerDao;
+import com.kauanferreira.smartdaojdbc.exception.DbException;
+import io.micrometer.core.instrument.Metrics;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
 /**
  * Factory class responsible for creating DAO instances.
  * Uses the Factory pattern to decouple DAO interface
  * from its JDBC implementation.
  *
+ * <p>DAOs created without an explicit connection work in
+ * connection-leasing mode: every operation borrows a connection
+ * from the HikariCP pool and returns it when done, so the
+ * instances are safe to share between concurrent threads.</p>
+ *
+ * <p>When {@code departmentCacheEnabled=true} (or {@code sellerCacheEnabled=true})
+ * in db.properties, every DAO returned by {@link #createDepartmentDao()}
+ * (or {@link #createSellerDao()}) is the same caching decorator, so all
+ * callers share one cache. With the seller cache enabled, department
+ * updates and deletes also evict the cached sellers of that department.</p>
+ *
+ * <p>When {@code batchLoaderEnabled=true}, concurrent {@code findById}
+ * calls are coalesced into {@code findByIds} queries. Batching sits
+ * below the caches, so only cache misses are batched.</p>
+ *
+ * <p>When {@code metricsEnabled=true}, every JDBC DAO is wrapped in a
+ * metered decorator publishing to the Micrometer global registry. It
+ * sits right above the JDBC DAOs, so it measures database calls, not
+ * cache hits. When disabled the decorators are not created at all.</p>
+ *
+ * <p>{@link #inTransaction(Function)} runs several DAO calls in one
+ * transaction on one pooled connection, committing once.</p>
+ *
+ * <p>When {@code replicaUrls} is set, pooled DAOs send queries to the
+ * read replicas and writes to the primary, below the batch loaders and
+ * caches. Units of work always run on the primary.</p>
+ *
+ * <p>When {@code sellerResultCacheEnabled=true}, the seller list queries
+ * are cached above the seller cache and invalidated through per-table
+ * versions, which seller and department writes bump.</p>
+ *
+ * <p>When {@code cacheInvalidationListenerEnabled=true}, a background
+ * {@link CacheInvalidationListener} evicts the rows that other application
+ * instances change, so several instances can share one database with
+ * caching enabled.</p>
+ *
  * @author Kauan
- * @version 1.0
+ * @version 1.9
  * @since 2026
  */
 public class DaoFactory {
 
+    /** Virtual-thread executor of the async DAOs, bounded by the connection pool size. */
+    private static final BoundedVirtualThreadExecutor asyncExecutor =
+            new BoundedVirtualThreadExecutor(DB.getDataSource().getMaximumPoolSize());
+
+    /**
+     * Platform threads running the batch queries, one per pooled connection.
+     * Kept apart from {@link #asyncExecutor}, whose callers may be waiting on a batch.
+     */
+    private static final ExecutorService batchExecutor = Executors.newFixedThreadPool(
+            DB.getDataSource().getMaximumPoolSize(), Thread.ofPlatform().name("batch-loader-", 0).daemon().factory());
+
+    /** Shared department read/write router, or {@code null} when no replica is configured. */
+    private static final RoutingDepartmentDao departmentRouter = createDepartmentRouter();
+
+    /** Shared seller read/write router, or {@code null} when no replica is configured. */
+    private static final RoutingSellerDao sellerRouter = createSellerRouter();
+
+    /** Shared department batch loader, or {@code null} when disabled in db.properties. */
+    private static final BatchingDepartmentDao departmentBatcher = createDepartmentBatcher();
+
+    /** Shared seller batch loader, or {@code null} when disabled in db.properties. */
+    private static final BatchingSellerDao sellerBatcher = createSellerBatcher();
+
+    /** Shared department cache, or {@code null} when disabled in db.properties. */
+    private static final CachingDepartmentDao departmentCache = createDepartmentCache();
+
+    /** Shared seller cache, or {@code null} when disabled in db.properties. */
+    private static final CachingSellerDao sellerCache = createSellerCache();
+
+    /** Department DAO evicting cached sellers on department writes, or {@code null} without a seller cache. */
+    private static final SellerEvictingDepartmentDao sellerEvictingDepartmentDao = createSellerEvictingDepartmentDao();
+
+    /** Versions of the tables, read by the result cache and bumped by writes. */
+    private static final TableVersions tableVersions = new TableVersions();
+
+    /** Shared seller list cache, or {@code null} when disabled in db.properties. */
+    private static final ResultCachingSellerDao sellerResultCache = createSellerResultCache();
+
+    /** Department DAO bumping the table version, or {@code null} when the result cache is disabled. */
+    private static final VersionedDepartmentDao versionedDepartmentDao = createVersionedDepartmentDao();
+
+    /** Listener evicting rows changed by other instances, or {@code null} when disabled. */
+    private static final CacheInvalidationListener cacheInvalidationListener = createCacheInvalidationListener();
+
     /**
      * Creates a new instance of {@link SellerDao}.
-     * The connection is obtained from the {@link DB} utility class.
+     * Connections are leased from the {@link DB} pool per operation.
      *
      * @return a JDBC-based implementation of SellerDao
      */
     public static SellerDao createSellerDao() {
-        return new SellerDaoJDBC(DB.getConnection());
+        if (sellerResultCache != null) {
+            return sellerResultCache;
+        }
+        return cachedSellerDao();
+    }
+
+    /**
+     * Creates a new instance of {@link SellerDao} bound to the given connection.
+     * The caller owns the connection and must close it when done.
+     *
+     * @param connection the connection every operation will run on
+     * @return a JDBC-based implementation of SellerDao
+     */
+    public static SellerDao createSellerDao(Connection connection) {
+        return metered(new SellerDaoJDBC(connection));
     }
 
     /**
      * Creates a new instance of {@link DepartmentDao}.
-     * The connection is obtained from the HikariCP connection pool.
+     * Connections are leased from the HikariCP connection pool per operation.
      *
      * @return a JDBC-based implementation of DepartmentDao
      */
     public static DepartmentDao createDepartmentDao() {
-        return new DepartmentDaoJDBC(DB.getConnection());
+        if (versionedDepartmentDao != null) {
+            return versionedDepartmentDao;
+        }
+        return evictingDepartmentDao();
+    }
+
+    /**
+     * Creates a new instance of {@link DepartmentDao} bound to the given connection.
+     * The caller owns the connection and must close it when done.
+     *
+     * @param connection the connection every operation will run on
+     * @return a JDBC-based implementation of DepartmentDao
+     */
+    public static DepartmentDao createDepartmentDao(Connection connection) {
+        return metered(new DepartmentDaoJDBC(connection));
+    }
+
+    /**
+     * Returns the shared department cache, for metrics and invalidation.
+     *
+     * @return the CachingDepartmentDao, or {@code null} if the cache is disabled
+     */
+    public static CachingDepartmentDao getDepartmentCache() {
+        return departmentCache;
+    }
+
+    /**
+     * Returns the shared seller cache, for metrics and invalidation.
+     *
+     * @return the CachingSellerDao, or {@code null} if the cache is disabled
+     */
+    public static CachingSellerDao getSellerCache() {
+        return sellerCache;
+    }
+
+    /**
+     * Returns the shared seller list cache, for metrics and invalidation.
+     *
+     * @return the ResultCachingSellerDao, or {@code null} if the result cache is disabled
+     */
+    public static ResultCachingSellerDao getSellerResultCache() {
+        return sellerResultCache;
+    }
+
+    /**
+     * Returns the shared department batch loader, for metrics.
+     *
+     * @return the BatchingDepartmentDao, or {@code null} if batching is disabled
+     */
+    public static BatchingDepartmentDao getDepartmentBatcher() {
+        return departmentBatcher;
+    }
+
+    /**
+     * Returns the shared seller batch loader, for metrics.
+     *
+     * @return the BatchingSellerDao, or {@code null} if batching is disabled
+     */
+    public static BatchingSellerDao getSellerBatcher() {
+        return sellerBatcher;
+    }
+
+    /**
+     * Clears the shared caches and bumps every table version, after
+     * writes made around the pooled DAOs, such as units of work and bulk imports.
+     * Reads stay on the primary for the read-your-writes window first, so the
+     * caches are not refilled from a replica that has not replayed the writes.
+     */
+    public static void invalidateCaches() {
+        sellerWritten();
+        departmentWritten();
+        tableVersions.bumpAll();
+
+        if (departmentCache != null) {
+            departmentCache.invalidateAll();
+        }
+        if (sellerCache != null) {
+            sellerCache.invalidateAll();
+        }
+    }
+
+    /**
+     * Returns the listener evicting rows changed by other instances.
+     *
+     * @return the running CacheInvalidationListener, or {@code null} if disabled
+     */
+    public static CacheInvalidationListener getCacheInvalidationListener() {
+        return cacheInvalidationListener;
+    }
+
+    /**
+     * Creates a new {@link AsyncSellerDao} over {@link #createSellerDao()}.
+     * All async DAOs share one executor, so together they never run more
+     * calls at once than the pool has connections.
+     *
+     * @return an async facade running each call on a virtual thread
+     */
+    public static AsyncSellerDao createAsyncSellerDao() {
+        return new AsyncSellerDao(createSellerDao(), asyncExecutor);
+    }
+
+    /**
+     * Creates a new {@link AsyncDepartmentDao} over {@link #createDepartmentDao()}.
+     * Shares the executor of {@link #createAsyncSellerDao()}.
+     *
+     * @return an async facade running each call on a virtual thread
+     */
+    public static AsyncDepartmentDao createAsyncDepartmentDao() {
+        return new AsyncDepartmentDao(createDepartmentDao(), asyncExecutor);
+    }
+
+    /**
+     * Runs a callback in one read-write transaction with the pool's
+     * default isolation level, committing once when it returns.
+     * Joins the unit of work already running on the calling thread, if any.
+     *
+     * @param work the callback, receiving DAOs bound to the transaction
+     * @param <T>  the result type
+     * @return the result of the callback
+     * @throws DbException if the transaction cannot be started or committed
+     * @see UnitOfWork
+     */
+    public static <T> T inTransaction(Function<UnitOfWork, T> work) {
+        return inTransaction(UnitOfWork.Isolation.DEFAULT, false, work);
+    }
+
+    /**
+     * Runs a callback in one transaction, committing once when it returns
+     * and rolling back when it throws. Joins the unit of work already
+     * running on the calling thread, if any.
+     *
+     * <p>After a read-write transaction commits, the shared caches are
+     * cleared, since the bound DAOs write around them.</p>
+     *
+     * @param isolation the isolation level of the transaction
+     * @param readOnly  {@code true} to let the database reject writes and skip cache invalidation
+     * @param work      the callback, receiving DAOs bound to the transaction
+     * @param <T>       the result type
+     * @return the result of the callback
+     * @throws DbException           if the transaction cannot be started or committed
+     * @throws IllegalStateException if a read-write call would join a read-only unit
+     * @see UnitOfWork
+     */
+    public static <T> T inTransaction(UnitOfWork.Isolation isolation, boolean readOnly, Function<UnitOfWork, T> work) {
+        return UnitOfWork.execute(isolation, readOnly, work, DaoFactory::invalidateCaches);
+    }
+
+    /**
+     * Runs a callback returning nothing in one read-write transaction.
+     *
+     * @param work the callback, receiving DAOs bound to the transaction
+     * @throws DbException if the transaction cannot be started or committed
+     * @see #inTransaction(Function)
+     */
+    public static void runInTransaction(Consumer<UnitOfWork> work) {
+        inTransaction(unit -> {
+            work.accept(unit);
+            return null;
+        });
+    }
+
+    /**
+     * Creates a new instance of {@link BulkDao}.
+     * Connections are leased from the HikariCP connection pool per operation.
+     *
+     * @return a PostgreSQL COPY-based implementation of BulkDao
+     */
+    public static BulkDao createBulkDao() {
+        return new BulkDaoJDBC(DB.getDataSource());
+    }
+
+    /** Returns the pooled seller DAO behind the seller cache, when enabled. */
+    private static SellerDao cachedSellerDao() {
+        if (sellerCache != null) {
+            return sellerCache;
+        }
+        return pooledSellerDao();
+    }
+
+    /** Returns the department DAO evicting cached sellers, when the seller cache is enabled. */
+    private static DepartmentDao evictingDepartmentDao() {
+        if (sellerEvictingDepartmentDao != null) {
+            return sellerEvictingDepartmentDao;
+        }
+        return cachedDepartmentDao();
+    }
+
+    /** Returns the pooled department DAO behind the department cache, when enabled. */
+    private static DepartmentDao cachedDepartmentDao() {
+        if (departmentCache != null) {
+            return departmentCache;
+        }
+        return pooledDepartmentDao();
+    }
+
+    /** Returns the uncached pooled seller DAO, batched when enabled. */
+    private static SellerDao pooledSellerDao() {
+        if (sellerBatcher != null) {
+            return sellerBatcher;
+        }
+        return routedSellerDao();
+    }
+
+    /** Returns the uncached pooled department DAO, batched when enabled. */
+    private static DepartmentDao pooledDepartmentDao() {
+        if (departmentBatcher != null) {
+            return departmentBatcher;
+        }
+        return routedDepartmentDao();
+    }
+
+    /** Returns the pooled JDBC seller DAO, routed to the replicas when configured. */
+    private static SellerDao routedSellerDao() {
+        if (sellerRouter != null) {
+            return sellerRouter;
+        }
+        return metered(new SellerDaoJDBC(DB.getDataSource()));
+    }
+
+    /** Returns the pooled JDBC department DAO, routed to the replicas when configured. */
+    private static DepartmentDao routedDepartmentDao() {
+        if (departmentRouter != null) {
+            return departmentRouter;
+        }
+        return metered(new DepartmentDaoJDBC(DB.getDataSource()));
+    }
+
+    private static RoutingDepartmentDao createDepartmentRouter() {
+        ReplicaDataSource replicas = DB.getReplicaDataSource();
+
+        if (replicas == null) {
+            return null;
+        }
+        return new RoutingDepartmentDao(
+                metered(new DepartmentDaoJDBC(DB.getDataSource())),
+                metered(new DepartmentDaoJDBC(replicas)),
+                Duration.ofMillis(Long.parseLong(DB.getProperty("replicaReadYourWritesMillis", "1000")))
+        );
+    }
+
+    private static RoutingSellerDao createSellerRouter() {
+        ReplicaDataSource replicas = DB.getReplicaDataSource();
+
+        if (replicas == null) {
+            return null;
+        }
+        return new RoutingSellerDao(
+                metered(new SellerDaoJDBC(DB.getDataSource())),
+                metered(new SellerDaoJDBC(replicas)),
+                Duration.ofMillis(Long.parseLong(DB.getProperty("replicaReadYourWritesMillis", "1000")))
+        );
+    }
+
+    /**
+     * Evicts the rows of a notification from the shared caches. Department
+     * changes also evict the cached sellers, which embed their department.
+     * Like {@link #invalidateCaches()}, it first keeps the affected reads
+     * on the primary.
+     */
+    private static void invalidate(CacheInvalidationListener.Invalidation invalidation) {
+        switch (invalidation.table()) {
+            case TableVersions.SELLER -> {
+                sellerWritten();
+                tableVersions.bump(TableVersions.SELLER);
+                if (sellerCache != null && invalidation.isWholeTable()) {
+                    sellerCache.invalidateAll();
+                } else if (sellerCache != null) {
+                    invalidation.ids().forEach(sellerCache::invalidate);
+                }
+            }
+            case TableVersions.DEPARTMENT -> {
+                departmentWritten();
+                sellerWritten();
+                tableVersions.bump(TableVersions.DEPARTMENT);
+                if (departmentCache != null && invalidation.isWholeTable()) {
+                    departmentCache.invalidateAll();
+                } else if (departmentCache != null) {
+                    invalidation.ids().forEach(departmentCache::invalidate);
+                }
+                if (sellerCache != null && invalidation.isWholeTable()) {
+                    sellerCache.invalidateAll();
+                } else if (sellerCache != null) {
+                    invalidation.ids().forEach(sellerCache::invalidateDepartment);
+                }
+            }
+            default -> invalidateCaches();
+        }
+    }
+
+    private static void sellerWritten() {
+        if (sellerRouter != null) {
+            sellerRouter.wrote();
+        }
+    }
+
+    private static void departmentWritten() {
+        if (departmentRouter != null) {
+            departmentRouter.wrote();
+        }
+    }
+
+    /** Wraps a JDBC seller DAO in a metered decorator when metrics are enabled. */
+    private static SellerDao metered(SellerDao dao) {
+        if (!DB.isMetricsEnabled()) {
+            return dao;
+        }
+        return new MeteredSellerDao(dao, Metrics.globalRegistry);
+    }
+
+    /** Wraps a JDBC department DAO in a metered decorator when metrics are enabled. */
+    private static DepartmentDao metered(DepartmentDao dao) {
+        if (!DB.isMetricsEnabled()) {
+            return dao;
+        }
+        return new MeteredDepartmentDao(dao, Metrics.globalRegistry);
+    }
+
+    private static BatchingDepartmentDao createDepartmentBatcher() {
+        if (!Boolean.parseBoolean(DB.getProperty("batchLoaderEnabled", "false"))) {
+            return null;
+        }
+        return new BatchingDepartmentDao(
+                routedDepartmentDao(),
+                Integer.parseInt(DB.getProperty("batchLoaderMaxBatchSize", "100")),
+                Duration.ofMillis(Long.parseLong(DB.getProperty("batchLoaderWindowMillis", "2"))),
+                batchExecutor
+        );
+    }
+
+    private static BatchingSellerDao createSellerBatcher() {
+        if (!Boolean.parseBoolean(DB.getProperty("batchLoaderEnabled", "false"))) {
+            return null;
+        }
+        return new BatchingSellerDao(
+                routedSellerDao(),
+                Integer.parseInt(DB.getProperty("batchLoaderMaxBatchSize", "100")),
+                Duration.ofMillis(Long.parseLong(DB.getProperty("batchLoaderWindowMillis", "2"))),
+                batchExecutor
+        );
+    }
+
+    private static CachingDepartmentDao createDepartmentCache() {
+        if (!Boolean.parseBoolean(DB.getProperty("departmentCacheEnabled", "false"))) {
+            return null;
+        }
+        return new CachingDepartmentDao(
+                pooledDepartmentDao(),
+                Long.parseLong(DB.getProperty("departmentCacheMaximumSize", "1000")),
+                Duration.ofSeconds(Long.parseLong(DB.getProperty("departmentCacheExpireAfterWriteSeconds", "600")))
+        );
+    }
+
+    private static SellerEvictingDepartmentDao createSellerEvictingDepartmentDao() {
+        if (sellerCache == null) {
+            return null;
+        }
+        return new SellerEvictingDepartmentDao(cachedDepartmentDao(), sellerCache);
+    }
+
+    private static ResultCachingSellerDao createSellerResultCache() {
+        if (!isSellerResultCacheEnabled()) {
+            return null;
+        }
+        return new ResultCachingSellerDao(
+                cachedSellerDao(),
+                tableVersions,
+                Long.parseLong(DB.getProperty("sellerResultCacheMaximumRows", "100000")),
+                Duration.ofSeconds(Long.parseLong(DB.getProperty("sellerResultCacheExpireAfterWriteSeconds", "60")))
+        );
+    }
+
+    private static VersionedDepartmentDao createVersionedDepartmentDao() {
+        if (!isSellerResultCacheEnabled()) {
+            return null;
+        }
+        return new VersionedDepartmentDao(evictingDepartmentDao(), tableVersions);
+    }
+
+    private static boolean isSellerResultCacheEnabled() {
+        return Boolean.parseBoolean(DB.getProperty("sellerResultCacheEnabled", "false"));
+    }
+
+    private static CacheInvalidationListener createCacheInvalidationListener() {
+        if (!Boolean.parseBoolean(DB.getProperty("cacheInvalidationListenerEnabled", "false"))) {
+            return null;
+        }
+        CacheInvalidationListener listener = new CacheInvalidationListener(
+                DB::openDedicatedConnection,
+                DaoFactory::invalidate,
+                Duration.ofMillis(Long.parseLong(DB.getProperty("cacheInvalidationReconnectDelayMillis", "5000")))
+        );
+        listener.start();
+        return listener;
+    }
+
+    private static CachingSellerDao createSellerCache() {
+        if (!Boolean.parseBoolean(DB.getProperty("sellerCacheEnabled", "false"))) {
+            return null;
+        }
+        return new CachingSellerDao(
+                pooledSellerDao(),
+                Long.parseLong(DB.getProperty("sellerCacheMaximumSize", "10000")),
+                Duration.ofSeconds(Long.parseLong(DB.getProperty("sellerCacheExpireAfterWriteSeconds", "300"))),
+                Duration.ofSeconds(Long.parseLong(DB.getProperty("sellerCacheNegativeTtlSeconds", "30")))
+        );
     }
 }
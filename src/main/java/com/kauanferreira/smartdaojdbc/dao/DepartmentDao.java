@@ -2,6 +2,7 @@ package com.kauanferreira.smartdaojdbc.dao;
 
 import com.kauanferreira.smartdaojdbc.entity.Department;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -29,6 +30,21 @@ public interface DepartmentDao {
      */
     void update(Department obj);
 
+    /**
+     * Inserts several departments using JDBC batching, in a single transaction.
+     * The generated id is set back into each given {@link Department}.
+     *
+     * @param departments the departments to be inserted
+     */
+    void insertAll(Collection<Department> departments);
+
+    /**
+     * Updates several existing departments using JDBC batching, in a single transaction.
+     *
+     * @param departments the departments with updated data
+     */
+    void updateAll(Collection<Department> departments);
+
     /**
      * Deletes a department by its identifier.
      *
@@ -44,6 +60,14 @@ public interface DepartmentDao {
      */
     Department findById(Integer id);
 
+    /**
+     * Finds several departments by their identifiers in a single query.
+     *
+     * @param ids the department ids to search for; duplicates are ignored
+     * @return the departments found in the order of {@code ids}, and the ids not found
+     */
+    MultiGetResult<Department> findByIds(Collection<Integer> ids);
+
     /**
      * Returns all departments from the database.
      *
@@ -59,4 +83,15 @@ public interface DepartmentDao {
      * @return a list of departments for the given page, ordered by name
      */
     List<Department> findAll(int page, int size);
+
+    /**
+     * Returns the page of departments that follows the given key (keyset pagination).
+     * Unlike {@link #findAll(int, int)}, the cost does not grow with the page depth.
+     *
+     * @param lastName the name of the last department of the previous page, or {@code null} for the first page
+     * @param lastId   the id of the last department of the previous page, or {@code null} for the first page
+     * @param size     the number of records per page
+     * @return a list of departments after the given key, ordered by name and id
+     */
+    List<Department> findAfter(String lastName, Integer lastId, int size);
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.kauanferreira.smartdaojdbc.dao;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Outcome of a lookup of several entities by id.
+ * Found entities keep the order of the requested ids,
+ * and ids without a matching row are reported separately.
+ *
+ * @param items      the entities found, in request order, each id at most once
+ * @param missingIds the requested ids that matched no row, in request order
+ * @param <T>        the entity type
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public record MultiGetResult<T>(List<T> items, List<Integer> missingIds) {
+
+    /**
+     * Returns the requested ids without duplicates, in request order.
+     *
+     * @param ids the requested ids
+     * @return the distinct ids
+     * @throws IllegalArgumentException if an id is {@code null}
+     */
+    public static List<Integer> distinctIds(Collection<Integer> ids) {
+        Set<Integer> distinct = new LinkedHashSet<>();
+
+        for (Integer id : ids) {
+            if (id == null) {
+                throw new IllegalArgumentException("Ids must not contain null");
+            }
+            distinct.add(id);
+        }
+        return List.copyOf(distinct);
+    }
+
+    /**
+     * Orders the found entities by the requested ids and collects the missing ones.
+     *
+     * @param ids   the distinct requested ids, in request order
+     * @param found the entities found, indexed by id
+     * @param <T>   the entity type
+     * @return the result in request order
+     */
+    public static <T> MultiGetResult<T> of(List<Integer> ids, Map<Integer, T> found) {
+        List<T> items = new ArrayList<>(found.size());
+        List<Integer> missingIds = new ArrayList<>();
+
+        for (Integer id : ids) {
+            T item = found.get(id);
+
+            if (item != null) {
+                items.add(item);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new MultiGetResult<>(items, missingIds);
+    }
+}
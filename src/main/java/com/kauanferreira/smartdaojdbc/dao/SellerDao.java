@@ -3,8 +3,10 @@ package com.kauanferreira.smartdaojdbc.dao;
 import com.kauanferreira.smartdaojdbc.entity.Department;
 import com.kauanferreira.smartdaojdbc.entity.Seller;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Data Access Object interface for {@link Seller} entity.
@@ -31,6 +33,21 @@ public interface SellerDao {
      */
     void update(Seller obj);
 
+    /**
+     * Inserts several sellers using JDBC batching, in a single transaction.
+     * The generated id is set back into each given {@link Seller}.
+     *
+     * @param sellers the sellers to be inserted
+     */
+    void insertAll(Collection<Seller> sellers);
+
+    /**
+     * Updates several existing sellers using JDBC batching, in a single transaction.
+     *
+     * @param sellers the sellers with updated data
+     */
+    void updateAll(Collection<Seller> sellers);
+
     /**
      * Deletes a seller by its identifier.
      *
@@ -46,6 +63,14 @@ public interface SellerDao {
      */
     Seller findById(Integer id);
 
+    /**
+     * Finds several sellers by their identifiers in a single query.
+     *
+     * @param ids the seller ids to search for; duplicates are ignored
+     * @return the sellers found in the order of {@code ids}, and the ids not found
+     */
+    MultiGetResult<Seller> findByIds(Collection<Integer> ids);
+
     /**
      * Returns all sellers from the database.
      *
@@ -53,6 +78,15 @@ public interface SellerDao {
      */
     List<Seller> findAll();
 
+    /**
+     * Streams all sellers, ordered by name, to the given action one at a time.
+     * Rows are fetched from the database in small chunks and never
+     * collected into a list, so memory use does not depend on the table size.
+     *
+     * @param action the callback invoked for every seller
+     */
+    void forEach(Consumer<Seller> action);
+
     /**
      * Finds all sellers belonging to a specific department.
      *
@@ -69,6 +103,15 @@ public interface SellerDao {
      */
     List<Seller> findByName(String name);
 
+    /**
+     * Finds at most {@code limit} sellers whose name contains the given string (case-insensitive).
+     *
+     * @param name  the name or partial name to search for
+     * @param limit the maximum number of sellers to return
+     * @return a list of sellers matching the criteria, ordered by name
+     */
+    List<Seller> findByName(String name, int limit);
+
     /**
      * Finds a seller by their exact email address.
      *
@@ -87,6 +130,15 @@ public interface SellerDao {
      */
     List<Seller> findByBirthMonth(int month);
 
+    /**
+     * Finds at most {@code limit} sellers born in a specific month.
+     *
+     * @param month the birth month (1-12)
+     * @param limit the maximum number of sellers to return
+     * @return a list of sellers born in the given month, ordered by name
+     */
+    List<Seller> findByBirthMonth(int month, int limit);
+
     /**
      * Returns a paginated list of all sellers.
      *
@@ -95,4 +147,16 @@ public interface SellerDao {
      * @return a list of sellers for the given page, ordered by name
      */
     List<Seller> findAll(int page, int size);
+
+    /**
+     * Returns the page of sellers that follows the given key (keyset pagination).
+     * Unlike {@link #findAll(int, int)}, the cost does not grow with the page depth,
+     * because the database seeks directly to the key instead of skipping rows.
+     *
+     * @param lastName the name of the last seller of the previous page, or {@code null} for the first page
+     * @param lastId   the id of the last seller of the previous page, or {@code null} for the first page
+     * @param size     the number of records per page
+     * @return a list of sellers after the given key, ordered by name and id
+     */
+    List<Seller> findAfter(String lastName, Integer lastId, int size);
 }
@@ -0,0 +1,231 @@
+package com.kauanferreira.smartdaojdbc.dao;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.dao.impl.BulkDaoJDBC;
+import com.kauanferreira.smartdaojdbc.exception.DbException;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * One database transaction on one pooled connection, with DAOs bound to it.
+ *
+ * <p>Units are opened with {@link DaoFactory#inTransaction(Function)} and
+ * its overloads. The connection is bound to the calling thread for the
+ * duration of the callback: a nested {@code inTransaction} call on the
+ * same thread joins the running unit instead of opening another one, and
+ * {@link #current()} finds it from code that was not handed the unit.
+ * Work started on other threads, such as the async DAOs, does not join.</p>
+ *
+ * <p>The transaction commits once when the callback returns and rolls back
+ * when it throws or after {@link #setRollbackOnly()}. Either way the
+ * connection settings are restored and the connection goes back to the pool.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public final class UnitOfWork {
+
+    /** Transaction isolation levels supported by PostgreSQL. */
+    public enum Isolation {
+        /** Keep the isolation level of the pool, {@code READ COMMITTED} unless configured otherwise. */
+        DEFAULT(-1),
+        READ_COMMITTED(Connection.TRANSACTION_READ_COMMITTED),
+        REPEATABLE_READ(Connection.TRANSACTION_REPEATABLE_READ),
+        SERIALIZABLE(Connection.TRANSACTION_SERIALIZABLE);
+
+        private final int level;
+
+        Isolation(int level) {
+            this.level = level;
+        }
+    }
+
+    /** The unit running on each thread, if any. */
+    private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+    private final Connection connection;
+
+    private final boolean readOnly;
+
+    private boolean rollbackOnly;
+
+    private SellerDao sellerDao;
+
+    private DepartmentDao departmentDao;
+
+    private BulkDao bulkDao;
+
+    private UnitOfWork(Connection connection, boolean readOnly) {
+        this.connection = connection;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Returns the unit running on the calling thread.
+     *
+     * @return the current unit, or empty outside {@link DaoFactory#inTransaction(Function)}
+     */
+    public static Optional<UnitOfWork> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Returns a seller DAO running on this unit's connection.
+     *
+     * @return the SellerDao of this unit, created on first use
+     */
+    public SellerDao sellerDao() {
+        if (sellerDao == null) {
+            sellerDao = DaoFactory.createSellerDao(connection);
+        }
+        return sellerDao;
+    }
+
+    /**
+     * Returns a department DAO running on this unit's connection.
+     *
+     * @return the DepartmentDao of this unit, created on first use
+     */
+    public DepartmentDao departmentDao() {
+        if (departmentDao == null) {
+            departmentDao = DaoFactory.createDepartmentDao(connection);
+        }
+        return departmentDao;
+    }
+
+    /**
+     * Returns a bulk DAO running on this unit's connection.
+     *
+     * @return the BulkDao of this unit, created on first use
+     */
+    public BulkDao bulkDao() {
+        if (bulkDao == null) {
+            bulkDao = new BulkDaoJDBC(connection);
+        }
+        return bulkDao;
+    }
+
+    /**
+     * Returns the connection of this unit, for statements the DAOs do not cover.
+     * It must not be closed, committed or rolled back by the caller.
+     *
+     * @return the connection bound to this unit
+     */
+    public Connection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Tells whether this unit was opened read-only.
+     *
+     * @return {@code true} if writes are rejected by the database
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Makes the unit roll back instead of committing when the callback returns.
+     */
+    public void setRollbackOnly() {
+        rollbackOnly = true;
+    }
+
+    /**
+     * Runs a callback in a unit of work, joining the one running on the
+     * calling thread if there is one.
+     *
+     * @param isolation   the isolation level of a new transaction
+     * @param readOnly    whether the transaction only reads
+     * @param work        the callback, receiving the unit
+     * @param afterCommit run after a new read-write transaction commits
+     * @param <T>         the result type
+     * @return the result of the callback
+     * @throws IllegalStateException if a read-write unit would join a read-only one
+     * @throws DbException           if the transaction cannot be started, committed or rolled back
+     */
+    static <T> T execute(Isolation isolation, boolean readOnly, Function<UnitOfWork, T> work, Runnable afterCommit) {
+        UnitOfWork running = CURRENT.get();
+
+        if (running != null) {
+            if (running.readOnly && !readOnly) {
+                throw new IllegalStateException("Cannot join a read-only unit of work for writing");
+            }
+            return work.apply(running);
+        }
+
+        Connection connection = DB.getConnection();
+        int previousIsolation = Connection.TRANSACTION_READ_COMMITTED;
+        boolean committed = false;
+
+        try {
+            previousIsolation = connection.getTransactionIsolation();
+            begin(connection, isolation, readOnly);
+        } catch (SQLException e) {
+            DB.closeConnection(connection);
+            throw new DbException("Failed to begin transaction: " + e.getMessage(), e);
+        }
+
+        UnitOfWork unit = new UnitOfWork(connection, readOnly);
+        CURRENT.set(unit);
+
+        try {
+            T result = work.apply(unit);
+
+            if (unit.rollbackOnly) {
+                connection.rollback();
+            } else {
+                connection.commit();
+                committed = true;
+            }
+            return result;
+        } catch (SQLException e) {
+            rollbackQuietly(connection, e);
+            throw new DbException("Failed to commit transaction: " + e.getMessage(), e);
+        } catch (RuntimeException | Error e) {
+            rollbackQuietly(connection, e);
+            throw e;
+        } finally {
+            CURRENT.remove();
+            end(connection, previousIsolation);
+
+            if (committed && !readOnly) {
+                afterCommit.run();
+            }
+        }
+    }
+
+    private static void begin(Connection connection, Isolation isolation, boolean readOnly) throws SQLException {
+        if (isolation != Isolation.DEFAULT) {
+            connection.setTransactionIsolation(isolation.level);
+        }
+        // Set before the transaction starts, when PgJDBC still accepts it
+        connection.setReadOnly(readOnly);
+        connection.setAutoCommit(false);
+    }
+
+    /** Restores the pool defaults and returns the connection, even if restoring fails. */
+    private static void end(Connection connection, int previousIsolation) {
+        try {
+            connection.setAutoCommit(true);
+            connection.setReadOnly(false);
+            connection.setTransactionIsolation(previousIsolation);
+        } catch (SQLException e) {
+            // HikariCP resets the same settings when the connection is returned
+        } finally {
+            DB.closeConnection(connection);
+        }
+    }
+
+    private static void rollbackQuietly(Connection connection, Throwable cause) {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.kauanferreira.smartdaojdbc.dao.async;
+
+import com.kauanferreira.smartdaojdbc.dao.DepartmentDao;
+import com.kauanferreira.smartdaojdbc.dao.MultiGetResult;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking facade over a {@link DepartmentDao}.
+ * Each call runs on its own virtual thread through a
+ * {@link BoundedVirtualThreadExecutor}, so independent lookups can be
+ * started together and combined when they complete.
+ *
+ * <p>Failures complete the future exceptionally with the exception
+ * thrown by the DAO, such as
+ * {@link com.kauanferreira.smartdaojdbc.exception.EntityNotFoundException}.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class AsyncDepartmentDao {
+
+    private final DepartmentDao departmentDao;
+
+    private final BoundedVirtualThreadExecutor executor;
+
+    /**
+     * Creates a new facade.
+     *
+     * @param departmentDao the blocking DAO every call is delegated to
+     * @param executor      the executor running the calls
+     */
+    public AsyncDepartmentDao(DepartmentDao departmentDao, BoundedVirtualThreadExecutor executor) {
+        this.departmentDao = departmentDao;
+        this.executor = executor;
+    }
+
+    /** Runs {@link DepartmentDao#insert(Department)} on a virtual thread. */
+    public CompletableFuture<Void> insert(Department obj) {
+        return executor.run(() -> departmentDao.insert(obj));
+    }
+
+    /** Runs {@link DepartmentDao#update(Department)} on a virtual thread. */
+    public CompletableFuture<Void> update(Department obj) {
+        return executor.run(() -> departmentDao.update(obj));
+    }
+
+    /** Runs {@link DepartmentDao#insertAll(Collection)} on a virtual thread. */
+    public CompletableFuture<Void> insertAll(Collection<Department> departments) {
+        return executor.run(() -> departmentDao.insertAll(departments));
+    }
+
+    /** Runs {@link DepartmentDao#updateAll(Collection)} on a virtual thread. */
+    public CompletableFuture<Void> updateAll(Collection<Department> departments) {
+        return executor.run(() -> departmentDao.updateAll(departments));
+    }
+
+    /** Runs {@link DepartmentDao#deleteById(Integer)} on a virtual thread. */
+    public CompletableFuture<Void> deleteById(Integer id) {
+        return executor.run(() -> departmentDao.deleteById(id));
+    }
+
+    /** Runs {@link DepartmentDao#findById(Integer)} on a virtual thread. */
+    public CompletableFuture<Department> findById(Integer id) {
+        return executor.submit(() -> departmentDao.findById(id));
+    }
+
+    /** Runs {@link DepartmentDao#findByIds(Collection)} on a virtual thread. */
+    public CompletableFuture<MultiGetResult<Department>> findByIds(Collection<Integer> ids) {
+        return executor.submit(() -> departmentDao.findByIds(ids));
+    }
+
+    /** Runs {@link DepartmentDao#findAll()} on a virtual thread. */
+    public CompletableFuture<List<Department>> findAll() {
+        return executor.submit(departmentDao::findAll);
+    }
+
+    /** Runs {@link DepartmentDao#findAll(int, int)} on a virtual thread. */
+    public CompletableFuture<List<Department>> findAll(int page, int size) {
+        return executor.submit(() -> departmentDao.findAll(page, size));
+    }
+
+    /** Runs {@link DepartmentDao#findAfter(String, Integer, int)} on a virtual thread. */
+    public CompletableFuture<List<Department>> findAfter(String lastName, Integer lastId, int size) {
+        return executor.submit(() -> departmentDao.findAfter(lastName, lastId, size));
+    }
+}
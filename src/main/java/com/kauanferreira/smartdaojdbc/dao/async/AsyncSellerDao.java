@@ -0,0 +1,128 @@
+package com.kauanferreira.smartdaojdbc.dao.async;
+
+import com.kauanferreira.smartdaojdbc.dao.MultiGetResult;
+import com.kauanferreira.smartdaojdbc.dao.SellerDao;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+import com.kauanferreira.smartdaojdbc.entity.Seller;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Non-blocking facade over a {@link SellerDao}.
+ * Each call runs on its own virtual thread through a
+ * {@link BoundedVirtualThreadExecutor}, so independent lookups can be
+ * started together and combined when they complete.
+ *
+ * <p>Failures complete the future exceptionally with the exception
+ * thrown by the DAO, such as
+ * {@link com.kauanferreira.smartdaojdbc.exception.EntityNotFoundException}.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class AsyncSellerDao {
+
+    private final SellerDao sellerDao;
+
+    private final BoundedVirtualThreadExecutor executor;
+
+    /**
+     * Creates a new facade.
+     *
+     * @param sellerDao the blocking DAO every call is delegated to
+     * @param executor  the executor running the calls
+     */
+    public AsyncSellerDao(SellerDao sellerDao, BoundedVirtualThreadExecutor executor) {
+        this.sellerDao = sellerDao;
+        this.executor = executor;
+    }
+
+    /** Runs {@link SellerDao#insert(Seller)} on a virtual thread. */
+    public CompletableFuture<Void> insert(Seller obj) {
+        return executor.run(() -> sellerDao.insert(obj));
+    }
+
+    /** Runs {@link SellerDao#update(Seller)} on a virtual thread. */
+    public CompletableFuture<Void> update(Seller obj) {
+        return executor.run(() -> sellerDao.update(obj));
+    }
+
+    /** Runs {@link SellerDao#insertAll(Collection)} on a virtual thread. */
+    public CompletableFuture<Void> insertAll(Collection<Seller> sellers) {
+        return executor.run(() -> sellerDao.insertAll(sellers));
+    }
+
+    /** Runs {@link SellerDao#updateAll(Collection)} on a virtual thread. */
+    public CompletableFuture<Void> updateAll(Collection<Seller> sellers) {
+        return executor.run(() -> sellerDao.updateAll(sellers));
+    }
+
+    /** Runs {@link SellerDao#deleteById(Integer)} on a virtual thread. */
+    public CompletableFuture<Void> deleteById(Integer id) {
+        return executor.run(() -> sellerDao.deleteById(id));
+    }
+
+    /** Runs {@link SellerDao#findById(Integer)} on a virtual thread. */
+    public CompletableFuture<Seller> findById(Integer id) {
+        return executor.submit(() -> sellerDao.findById(id));
+    }
+
+    /** Runs {@link SellerDao#findByIds(Collection)} on a virtual thread. */
+    public CompletableFuture<MultiGetResult<Seller>> findByIds(Collection<Integer> ids) {
+        return executor.submit(() -> sellerDao.findByIds(ids));
+    }
+
+    /** Runs {@link SellerDao#findAll()} on a virtual thread. */
+    public CompletableFuture<List<Seller>> findAll() {
+        return executor.submit(sellerDao::findAll);
+    }
+
+    /** Runs {@link SellerDao#forEach(Consumer)} on a virtual thread. */
+    public CompletableFuture<Void> forEach(Consumer<Seller> action) {
+        return executor.run(() -> sellerDao.forEach(action));
+    }
+
+    /** Runs {@link SellerDao#findByDepartment(Department)} on a virtual thread. */
+    public CompletableFuture<List<Seller>> findByDepartment(Department department) {
+        return executor.submit(() -> sellerDao.findByDepartment(department));
+    }
+
+    /** Runs {@link SellerDao#findByName(String)} on a virtual thread. */
+    public CompletableFuture<List<Seller>> findByName(String name) {
+        return executor.submit(() -> sellerDao.findByName(name));
+    }
+
+    /** Runs {@link SellerDao#findByName(String, int)} on a virtual thread. */
+    public CompletableFuture<List<Seller>> findByName(String name, int limit) {
+        return executor.submit(() -> sellerDao.findByName(name, limit));
+    }
+
+    /** Runs {@link SellerDao#findByEmail(String)} on a virtual thread. */
+    public CompletableFuture<Seller> findByEmail(String email) {
+        return executor.submit(() -> sellerDao.findByEmail(email));
+    }
+
+    /** Runs {@link SellerDao#findByBirthMonth(int)} on a virtual thread. */
+    public CompletableFuture<List<Seller>> findByBirthMonth(int month) {
+        return executor.submit(() -> sellerDao.findByBirthMonth(month));
+    }
+
+    /** Runs {@link SellerDao#findByBirthMonth(int, int)} on a virtual thread. */
+    public CompletableFuture<List<Seller>> findByBirthMonth(int month, int limit) {
+        return executor.submit(() -> sellerDao.findByBirthMonth(month, limit));
+    }
+
+    /** Runs {@link SellerDao#findAll(int, int)} on a virtual thread. */
+    public CompletableFuture<List<Seller>> findAll(int page, int size) {
+        return executor.submit(() -> sellerDao.findAll(page, size));
+    }
+
+    /** Runs {@link SellerDao#findAfter(String, Integer, int)} on a virtual thread. */
+    public CompletableFuture<List<Seller>> findAfter(String lastName, Integer lastId, int size) {
+        return executor.submit(() -> sellerDao.findAfter(lastName, lastId, size));
+    }
+}
@@ -0,0 +1,83 @@
+package com.kauanferreira.smartdaojdbc.dao.async;
+
+import com.kauanferreira.smartdaojdbc.exception.DbException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Runs DAO calls on virtual threads, one thread per call, while
+ * bounding how many of them run at the same time.
+ *
+ * <p>Virtual threads are cheap, but every DAO call holds a pooled
+ * connection. The semaphore is sized to the connection pool, so extra
+ * calls park on a permit instead of piling up inside HikariCP and
+ * failing with a connection timeout.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class BoundedVirtualThreadExecutor {
+
+    private final ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Semaphore permits;
+
+    /**
+     * Creates a new executor.
+     *
+     * @param maxConcurrency the maximum number of calls running at once, usually the pool size
+     */
+    public BoundedVirtualThreadExecutor(int maxConcurrency) {
+        this.permits = new Semaphore(maxConcurrency, true);
+    }
+
+    /**
+     * Runs the given call on a new virtual thread once a permit is available.
+     *
+     * @param call the blocking call to run
+     * @param <T>  the result type
+     * @return a future completed with the result of the call, or with its exception
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DbException("Interrupted while waiting for a database permit");
+            }
+            try {
+                return call.get();
+            } finally {
+                permits.release();
+            }
+        }, threads);
+    }
+
+    /**
+     * Runs the given call on a new virtual thread once a permit is available.
+     *
+     * @param call the blocking call to run
+     * @return a future completed when the call returns, or with its exception
+     */
+    public CompletableFuture<Void> run(Runnable call) {
+        return submit(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * Returns the number of calls that could start right now.
+     *
+     * @return the available permits
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+}
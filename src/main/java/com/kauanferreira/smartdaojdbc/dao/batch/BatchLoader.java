@@ -0,0 +1,265 @@
+package com.kauanferreira.smartdaojdbc.dao.batch;
+
+import com.kauanferreira.smartdaojdbc.dao.MultiGetResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent lookups by id into multi-get queries.
+ *
+ * <p>Ids requested within a short window are collected and loaded
+ * together with one call to the batch function, typically a
+ * {@code findByIds} running {@code id = ANY(?)}. A batch is sent when
+ * the window of its first id elapses or when it reaches the maximum
+ * size, whichever comes first.</p>
+ *
+ * <p>An id already waiting or being loaded is not requested twice:
+ * later callers share the future of the first one. Once a batch
+ * completes its ids are forgotten, so the next lookup reads the
+ * database again.</p>
+ *
+ * <p>Batches should run on platform threads. A caller on a virtual
+ * thread may be pinned while it waits, for instance inside a cache
+ * loader, and batches queued behind pinned carriers would never run.</p>
+ *
+ * @param <T> the loaded entity type
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class BatchLoader<T> {
+
+    /** Number of batch size buckets: 1, 2-3, 4-7, ... up to 128 and more. */
+    private static final int BUCKETS = 8;
+
+    private final Function<List<Integer>, MultiGetResult<T>> batchFunction;
+    private final Function<T, Integer> idOf;
+    private final int maxBatchSize;
+    private final long windowNanos;
+    private final Executor executor;
+
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "batch-loader-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Futures of the ids waiting in the current batch or being loaded. */
+    private final Map<Integer, CompletableFuture<Optional<T>>> inFlight = new ConcurrentHashMap<>();
+
+    /** Guards {@link #pending} and {@link #scheduledFlush}. */
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<Pending<T>> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+    private final LongAdder keys = new LongAdder();
+    private final AtomicLongArray batchSizes = new AtomicLongArray(BUCKETS);
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /**
+     * Creates a new loader.
+     *
+     * @param batchFunction loads several ids in one query
+     * @param idOf          returns the id of a loaded entity
+     * @param maxBatchSize  maximum number of ids sent in one batch
+     * @param window        time the first id of a batch waits for others
+     * @param executor      runs the batches, usually a platform thread pool the size of the connection pool
+     */
+    public BatchLoader(Function<List<Integer>, MultiGetResult<T>> batchFunction, Function<T, Integer> idOf,
+                       int maxBatchSize, Duration window, Executor executor) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be at least 1");
+        }
+        this.batchFunction = batchFunction;
+        this.idOf = idOf;
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = window.toNanos();
+        this.executor = executor;
+    }
+
+    /**
+     * Requests an entity by id.
+     *
+     * @param id the id to load
+     * @return a future completed with the entity, empty if no row has this id,
+     * or completed exceptionally if its batch failed
+     */
+    public CompletableFuture<Optional<T>> load(Integer id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Id must not be null");
+        }
+        requests.increment();
+        List<Pending<T>> full = null;
+        CompletableFuture<Optional<T>> future;
+
+        lock.lock();
+        try {
+            future = inFlight.get(id);
+
+            if (future != null) {
+                coalesced.increment();
+                return future;
+            }
+            future = new CompletableFuture<>();
+            inFlight.put(id, future);
+            pending.add(new Pending<>(id, future, System.nanoTime()));
+
+            if (pending.size() >= maxBatchSize) {
+                full = takePending();
+            } else if (pending.size() == 1) {
+                scheduledFlush = timer.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return future;
+    }
+
+    /**
+     * Requests an entity by id and waits for its batch.
+     *
+     * @param id the id to load
+     * @return the entity, empty if no row has this id
+     * @throws RuntimeException the exception that failed the batch
+     */
+    public Optional<T> get(Integer id) {
+        try {
+            return load(id).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Sends the waiting ids right away instead of at the end of the window.
+     */
+    public void flush() {
+        List<Pending<T>> batch;
+
+        lock.lock();
+        try {
+            batch = takePending();
+        } finally {
+            lock.unlock();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    /**
+     * Returns the counters of this loader.
+     *
+     * @return requests, coalesced requests, batch sizes and wait times so far
+     */
+    public BatchLoaderMetrics getMetrics() {
+        Map<String, Long> sizes = new LinkedHashMap<>();
+
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            int from = 1 << bucket;
+            int to = (from << 1) - 1;
+            String label = bucket == BUCKETS - 1 ? from + "+" : from == to ? String.valueOf(from) : from + "-" + to;
+            sizes.put(label, batchSizes.get(bucket));
+        }
+        long batchCount = batches.sum();
+        long keyCount = keys.sum();
+        return new BatchLoaderMetrics(
+                requests.sum(),
+                coalesced.sum(),
+                batchCount,
+                failedBatches.sum(),
+                keyCount,
+                sizes,
+                keyCount == 0 ? 0.0 : totalWaitNanos.sum() / 1e6 / keyCount,
+                maxWaitNanos.get() / 1e6
+        );
+    }
+
+    /** Takes the current batch; must hold the lock. */
+    private List<Pending<T>> takePending() {
+        List<Pending<T>> batch = pending;
+        pending = new ArrayList<>();
+
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(List<Pending<T>> batch) {
+        long now = System.nanoTime();
+        List<Integer> ids = new ArrayList<>(batch.size());
+
+        for (Pending<T> request : batch) {
+            long wait = now - request.enqueuedAt();
+            totalWaitNanos.add(wait);
+            maxWaitNanos.accumulateAndGet(wait, Math::max);
+            ids.add(request.id());
+        }
+        batches.increment();
+        keys.add(batch.size());
+        batchSizes.incrementAndGet(Math.min(31 - Integer.numberOfLeadingZeros(batch.size()), BUCKETS - 1));
+
+        CompletableFuture.supplyAsync(() -> batchFunction.apply(ids), executor).whenComplete((result, failure) -> {
+            Map<Integer, T> found = new HashMap<>();
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause() : failure;
+
+            if (failure == null) {
+                result.items().forEach(item -> found.put(idOf.apply(item), item));
+            } else {
+                failedBatches.increment();
+            }
+            for (Pending<T> request : batch) {
+                inFlight.remove(request.id(), request.future());
+
+                if (failure == null) {
+                    request.future().complete(Optional.ofNullable(found.get(request.id())));
+                } else {
+                    request.future().completeExceptionally(cause);
+                }
+            }
+        });
+    }
+
+    /**
+     * An id waiting for its batch.
+     *
+     * @param id         the requested id
+     * @param future     the future shared by every caller of this id
+     * @param enqueuedAt {@link System#nanoTime()} when the id was requested
+     */
+    private record Pending<T>(Integer id, CompletableFuture<Optional<T>> future, long enqueuedAt) {
+    }
+}
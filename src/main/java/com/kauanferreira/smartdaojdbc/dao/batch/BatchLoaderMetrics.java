@@ -0,0 +1,31 @@
+package com.kauanferreira.smartdaojdbc.dao.batch;
+
+import java.util.Map;
+
+/**
+ * Snapshot of the counters of a {@link BatchLoader}.
+ *
+ * @param requests          lookups received
+ * @param coalesced         lookups that joined an id already waiting or being loaded
+ * @param batches           multi-get queries sent
+ * @param failedBatches     multi-get queries that ended with an exception
+ * @param keys              ids sent across all batches
+ * @param batchSizes        number of batches per size bucket, by bucket label
+ * @param averageWaitMillis mean time an id waited before its batch was sent
+ * @param maxWaitMillis     longest time an id waited before its batch was sent
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public record BatchLoaderMetrics(long requests, long coalesced, long batches, long failedBatches, long keys,
+                                 Map<String, Long> batchSizes, double averageWaitMillis, double maxWaitMillis) {
+
+    /**
+     * Returns the mean number of ids per batch.
+     *
+     * @return the average batch size, 0 before the first batch
+     */
+    public double getAverageBatchSize() {
+        return batches == 0 ? 0.0 : (double) keys / batches;
+    }
+}
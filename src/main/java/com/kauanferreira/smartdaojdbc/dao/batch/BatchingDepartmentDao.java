@@ -0,0 +1,116 @@
+package com.kauanferreira.smartdaojdbc.dao.batch;
+
+import com.kauanferreira.smartdaojdbc.dao.DepartmentDao;
+import com.kauanferreira.smartdaojdbc.dao.MultiGetResult;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+import com.kauanferreira.smartdaojdbc.exception.EntityNotFoundException;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Decorator for {@link DepartmentDao} that coalesces concurrent
+ * {@link #findById(Integer)} calls into {@link DepartmentDao#findByIds(Collection)}
+ * queries through a {@link BatchLoader}. Every other call goes straight
+ * to the delegate.
+ *
+ * <p>Callers asking for the same id share one row, so each of them
+ * receives its own copy of the department.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class BatchingDepartmentDao implements DepartmentDao {
+
+    private final DepartmentDao delegate;
+
+    private final BatchLoader<Department> loader;
+
+    /**
+     * Creates a new batching decorator.
+     *
+     * @param delegate     the DAO that reads from and writes to the database
+     * @param maxBatchSize maximum number of ids sent in one query
+     * @param window       time the first id of a batch waits for others
+     * @param executor     runs the batch queries
+     */
+    public BatchingDepartmentDao(DepartmentDao delegate, int maxBatchSize, Duration window, Executor executor) {
+        this.delegate = delegate;
+        this.loader = new BatchLoader<>(delegate::findByIds, Department::getId, maxBatchSize, window, executor);
+    }
+
+    @Override
+    public void insert(Department obj) {
+        delegate.insert(obj);
+    }
+
+    @Override
+    public void update(Department obj) {
+        delegate.update(obj);
+    }
+
+    @Override
+    public void insertAll(Collection<Department> departments) {
+        delegate.insertAll(departments);
+    }
+
+    @Override
+    public void updateAll(Collection<Department> departments) {
+        delegate.updateAll(departments);
+    }
+
+    @Override
+    public void deleteById(Integer id) {
+        delegate.deleteById(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Waits up to the batch window for other lookups to share the query.</p>
+     */
+    @Override
+    public Department findById(Integer id) {
+        return loader.get(id)
+                .map(BatchingDepartmentDao::copy)
+                .orElseThrow(() -> new EntityNotFoundException("Department not found with id: " + id));
+    }
+
+    @Override
+    public MultiGetResult<Department> findByIds(Collection<Integer> ids) {
+        return delegate.findByIds(ids);
+    }
+
+    @Override
+    public List<Department> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Department> findAll(int page, int size) {
+        return delegate.findAll(page, size);
+    }
+
+    @Override
+    public List<Department> findAfter(String lastName, Integer lastId, int size) {
+        return delegate.findAfter(lastName, lastId, size);
+    }
+
+    /**
+     * Returns the counters of the underlying loader.
+     *
+     * @return requests, coalesced requests, batch sizes and wait times so far
+     */
+    public BatchLoaderMetrics getMetrics() {
+        return loader.getMetrics();
+    }
+
+    private static Department copy(Department department) {
+        Department copy = new Department(department.getId(), department.getName());
+        copy.setVersion(department.getVersion());
+        return copy;
+    }
+}
@@ -0,0 +1,163 @@
+package com.kauanferreira.smartdaojdbc.dao.batch;
+
+import com.kauanferreira.smartdaojdbc.dao.MultiGetResult;
+import com.kauanferreira.smartdaojdbc.dao.SellerDao;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+import com.kauanferreira.smartdaojdbc.entity.Seller;
+import com.kauanferreira.smartdaojdbc.exception.EntityNotFoundException;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Decorator for {@link SellerDao} that coalesces concurrent
+ * {@link #findById(Integer)} calls into {@link SellerDao#findByIds(Collection)}
+ * queries through a {@link BatchLoader}. Every other call goes straight
+ * to the delegate.
+ *
+ * <p>Callers asking for the same id share one row, so each of them
+ * receives its own copy of the seller.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class BatchingSellerDao implements SellerDao {
+
+    private final SellerDao delegate;
+
+    private final BatchLoader<Seller> loader;
+
+    /**
+     * Creates a new batching decorator.
+     *
+     * @param delegate     the DAO that reads from and writes to the database
+     * @param maxBatchSize maximum number of ids sent in one query
+     * @param window       time the first id of a batch waits for others
+     * @param executor     runs the batch queries
+     */
+    public BatchingSellerDao(SellerDao delegate, int maxBatchSize, Duration window, Executor executor) {
+        this.delegate = delegate;
+        this.loader = new BatchLoader<>(delegate::findByIds, Seller::getId, maxBatchSize, window, executor);
+    }
+
+    @Override
+    public void insert(Seller obj) {
+        delegate.insert(obj);
+    }
+
+    @Override
+    public void update(Seller obj) {
+        delegate.update(obj);
+    }
+
+    @Override
+    public void insertAll(Collection<Seller> sellers) {
+        delegate.insertAll(sellers);
+    }
+
+    @Override
+    public void updateAll(Collection<Seller> sellers) {
+        delegate.updateAll(sellers);
+    }
+
+    @Override
+    public void deleteById(Integer id) {
+        delegate.deleteById(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Waits up to the batch window for other lookups to share the query.</p>
+     */
+    @Override
+    public Seller findById(Integer id) {
+        return loader.get(id)
+                .map(BatchingSellerDao::copy)
+                .orElseThrow(() -> new EntityNotFoundException("Seller not found with id: " + id));
+    }
+
+    @Override
+    public MultiGetResult<Seller> findByIds(Collection<Integer> ids) {
+        return delegate.findByIds(ids);
+    }
+
+    @Override
+    public List<Seller> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void forEach(Consumer<Seller> action) {
+        delegate.forEach(action);
+    }
+
+    @Override
+    public List<Seller> findByDepartment(Department department) {
+        return delegate.findByDepartment(department);
+    }
+
+    @Override
+    public List<Seller> findByName(String name) {
+        return delegate.findByName(name);
+    }
+
+    @Override
+    public List<Seller> findByName(String name, int limit) {
+        return delegate.findByName(name, limit);
+    }
+
+    @Override
+    public Seller findByEmail(String email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public List<Seller> findByBirthMonth(int month) {
+        return delegate.findByBirthMonth(month);
+    }
+
+    @Override
+    public List<Seller> findByBirthMonth(int month, int limit) {
+        return delegate.findByBirthMonth(month, limit);
+    }
+
+    @Override
+    public List<Seller> findAll(int page, int size) {
+        return delegate.findAll(page, size);
+    }
+
+    @Override
+    public List<Seller> findAfter(String lastName, Integer lastId, int size) {
+        return delegate.findAfter(lastName, lastId, size);
+    }
+
+    /**
+     * Returns the counters of the underlying loader.
+     *
+     * @return requests, coalesced requests, batch sizes and wait times so far
+     */
+    public BatchLoaderMetrics getMetrics() {
+        return loader.getMetrics();
+    }
+
+    private static Seller copy(Seller seller) {
+        Department department = seller.getDepartment() == null ? null : copy(seller.getDepartment());
+        Date birthDate = seller.getBirthDate() == null ? null : (Date) seller.getBirthDate().clone();
+        Seller copy = new Seller(seller.getId(), seller.getName(), seller.getEmail(),
+                seller.getBaseSalary(), birthDate, department);
+        copy.setVersion(seller.getVersion());
+        return copy;
+    }
+
+    private static Department copy(Department department) {
+        Department copy = new Department(department.getId(), department.getName());
+        copy.setVersion(department.getVersion());
+        return copy;
+    }
+}
@@ -0,0 +1,184 @@
+package com.kauanferreira.smartdaojdbc.dao.cache;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Background listener for the {@value #CHANNEL} notifications sent by the
+ * triggers on {@code seller} and {@code department}, so every application
+ * instance evicts the rows changed by the others.
+ *
+ * <p>The listener holds one dedicated connection, outside the pool, and
+ * polls it from a daemon thread. Notifications are only delivered once the
+ * writing transaction commits. Each one is handed to the handler as an
+ * {@link Invalidation}; the instance's own writes come back as well and
+ * evict entries a second time, which is harmless.</p>
+ *
+ * <p>When the connection fails, the listener reconnects after a delay and
+ * then reports an invalidation of {@link Invalidation#ALL_TABLES}, since
+ * notifications sent in between are lost.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class CacheInvalidationListener implements AutoCloseable {
+
+    /** Channel the triggers of the V7 migration notify. */
+    public static final String CHANNEL = "cache_invalidation";
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationListener.class);
+
+    /** How long each poll waits for notifications before checking for {@link #close()}. */
+    private static final int POLL_TIMEOUT_MILLIS = 500;
+
+    /**
+     * Rows of a table changed by another transaction.
+     *
+     * @param table the table name, or {@link #ALL_TABLES}
+     * @param ids   the changed ids, empty when the whole table must be evicted
+     */
+    public record Invalidation(String table, List<Integer> ids) {
+
+        /** Table name of an invalidation covering every table. */
+        public static final String ALL_TABLES = "*";
+
+        /**
+         * Tells whether every row of the table must be evicted.
+         *
+         * @return {@code true} if no ids are listed
+         */
+        public boolean isWholeTable() {
+            return ids.isEmpty();
+        }
+
+        /**
+         * Parses a trigger payload, {@code table:id,id,...} or {@code table:*}.
+         * A payload that cannot be parsed invalidates every table.
+         *
+         * @param payload the notification payload
+         * @return the invalidation it describes
+         */
+        public static Invalidation parse(String payload) {
+            int separator = payload.indexOf(':');
+
+            if (separator <= 0) {
+                return new Invalidation(ALL_TABLES, List.of());
+            }
+            String table = payload.substring(0, separator);
+            String ids = payload.substring(separator + 1);
+
+            if (ids.equals("*")) {
+                return new Invalidation(table, List.of());
+            }
+            try {
+                List<Integer> parsed = new ArrayList<>();
+
+                for (String id : ids.split(",")) {
+                    parsed.add(Integer.valueOf(id));
+                }
+                return new Invalidation(table, List.copyOf(parsed));
+            } catch (NumberFormatException e) {
+                return new Invalidation(table, List.of());
+            }
+        }
+    }
+
+    private final Supplier<Connection> connections;
+
+    private final Consumer<Invalidation> handler;
+
+    private final Duration reconnectDelay;
+
+    private final Thread thread;
+
+    private volatile boolean running;
+
+    /**
+     * Creates a new listener. It does nothing until {@link #start()}.
+     *
+     * @param connections    opens the dedicated connection, and a new one after a failure
+     * @param handler        evicts the entries of each invalidation, called on the listener thread
+     * @param reconnectDelay time waited before reconnecting after a failure
+     */
+    public CacheInvalidationListener(Supplier<Connection> connections, Consumer<Invalidation> handler,
+                                     Duration reconnectDelay) {
+        this.connections = connections;
+        this.handler = handler;
+        this.reconnectDelay = reconnectDelay;
+        this.thread = Thread.ofPlatform().name("cache-invalidation-listener").daemon().unstarted(this::run);
+    }
+
+    /**
+     * Starts listening on a background thread.
+     */
+    public void start() {
+        running = true;
+        thread.start();
+    }
+
+    /**
+     * Stops listening and closes the dedicated connection,
+     * waiting for the current poll to end.
+     *
+     * @throws InterruptedException if interrupted while waiting for the listener thread
+     */
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        thread.interrupt();
+        thread.join();
+    }
+
+    private void run() {
+        boolean reconnecting = false;
+
+        while (running) {
+            try (Connection connection = connections.get()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (reconnecting) {
+                    handler.accept(new Invalidation(Invalidation.ALL_TABLES, List.of()));
+                }
+                listen(connection.unwrap(PGConnection.class));
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener lost its connection, reconnecting in {} ms: {}",
+                        reconnectDelay.toMillis(), e.getMessage());
+                reconnecting = true;
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void listen(PGConnection connection) throws SQLException {
+        while (running) {
+            PGNotification[] notifications = connection.getNotifications(POLL_TIMEOUT_MILLIS);
+
+            if (notifications == null) {
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                handler.accept(Invalidation.parse(notification.getParameter()));
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.kauanferreira.smartdaojdbc.dao.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * Snapshot of the counters of an in-process cache.
+ *
+ * @param hits      lookups served from the cache
+ * @param misses    lookups that went to the database
+ * @param evictions entries removed because of size or expiration limits
+ * @param size      approximate number of entries currently cached
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public record CacheMetrics(long hits, long misses, long evictions, long size) {
+
+    /**
+     * Builds a snapshot from a Caffeine cache created with {@code recordStats()}.
+     *
+     * @param cache the cache to read
+     * @return the current counters of the cache
+     */
+    public static CacheMetrics of(Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return new CacheMetrics(stats.hitCount(), stats.missCount(), stats.evictionCount(), cache.estimatedSize());
+    }
+
+    /**
+     * Returns the fraction of lookups served from the cache.
+     *
+     * @return the hit ratio between 0 and 1
+     */
+    public double getHitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,195 @@
+package com.kauanferreira.smartdaojdbc.dao.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kauanferreira.smartdaojdbc.dao.DepartmentDao;
+import com.kauanferreira.smartdaojdbc.dao.MultiGetResult;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through cache decorator for {@link DepartmentDao}.
+ * The {@code department} table is tiny and rarely changes, so lookups
+ * are served from bounded, concurrent Caffeine caches and only go to
+ * the database on a miss.
+ *
+ * <p>Every write made through this decorator invalidates the affected
+ * department and all cached lists. Callers always receive copies,
+ * so mutating a returned department never alters the cache.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class CachingDepartmentDao implements DepartmentDao {
+
+    private final DepartmentDao delegate;
+
+    /** Departments indexed by id. */
+    private final Cache<Integer, Department> byId;
+
+    /** Results of the list queries, keyed by method and arguments. */
+    private final Cache<String, List<Department>> lists;
+
+    /**
+     * Creates a new caching decorator.
+     *
+     * @param delegate         the DAO that reads from and writes to the database
+     * @param maximumSize      maximum number of departments (and of lists) kept in memory
+     * @param expireAfterWrite time after which an entry is reloaded from the database
+     */
+    public CachingDepartmentDao(DepartmentDao delegate, long maximumSize, Duration expireAfterWrite) {
+        this.delegate = delegate;
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.lists = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void insert(Department obj) {
+        delegate.insert(obj);
+        lists.invalidateAll();
+    }
+
+    @Override
+    public void update(Department obj) {
+        delegate.update(obj);
+        invalidate(obj.getId());
+    }
+
+    @Override
+    public void insertAll(Collection<Department> departments) {
+        delegate.insertAll(departments);
+        lists.invalidateAll();
+    }
+
+    @Override
+    public void updateAll(Collection<Department> departments) {
+        delegate.updateAll(departments);
+        departments.forEach(department -> byId.invalidate(department.getId()));
+        lists.invalidateAll();
+    }
+
+    @Override
+    public void deleteById(Integer id) {
+        delegate.deleteById(id);
+        invalidate(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Missing departments are not cached: the
+     * {@link com.kauanferreira.smartdaojdbc.exception.EntityNotFoundException}
+     * thrown by the delegate reaches the caller on every lookup.</p>
+     */
+    @Override
+    public Department findById(Integer id) {
+        return copy(byId.get(id, delegate::findById));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Ids not yet cached are loaded together with one call to the
+     * delegate. As with {@link #findById(Integer)}, missing departments
+     * are not cached.</p>
+     */
+    @Override
+    public MultiGetResult<Department> findByIds(Collection<Integer> ids) {
+        List<Integer> distinctIds = MultiGetResult.distinctIds(ids);
+        Map<Integer, Department> found = new HashMap<>();
+
+        byId.getAll(distinctIds, this::loadAll).forEach((id, department) -> found.put(id, copy(department)));
+        return MultiGetResult.of(distinctIds, found);
+    }
+
+    @Override
+    public List<Department> findAll() {
+        return copy(lists.get("all", key -> delegate.findAll()));
+    }
+
+    @Override
+    public List<Department> findAll(int page, int size) {
+        return copy(lists.get("page:" + page + ":" + size, key -> delegate.findAll(page, size)));
+    }
+
+    @Override
+    public List<Department> findAfter(String lastName, Integer lastId, int size) {
+        return copy(lists.get("after:" + lastId + ":" + size + ":" + lastName,
+                key -> delegate.findAfter(lastName, lastId, size)));
+    }
+
+    /**
+     * Removes a department and every cached list that may contain it.
+     * Also used to apply changes made outside this decorator.
+     *
+     * @param id the id of the changed department
+     */
+    public void invalidate(Integer id) {
+        byId.invalidate(id);
+        lists.invalidateAll();
+    }
+
+    /**
+     * Removes every cached department and list.
+     */
+    public void invalidateAll() {
+        byId.invalidateAll();
+        lists.invalidateAll();
+    }
+
+    /**
+     * Returns the counters of the id cache.
+     *
+     * @return hits, misses, evictions and size of the department lookups
+     */
+    public CacheMetrics getByIdMetrics() {
+        return CacheMetrics.of(byId);
+    }
+
+    /**
+     * Returns the counters of the list cache.
+     *
+     * @return hits, misses, evictions and size of the list queries
+     */
+    public CacheMetrics getListMetrics() {
+        return CacheMetrics.of(lists);
+    }
+
+    private Map<Integer, Department> loadAll(Set<? extends Integer> ids) {
+        Map<Integer, Department> loaded = new HashMap<>();
+
+        for (Department department : delegate.findByIds(List.copyOf(ids)).items()) {
+            loaded.put(department.getId(), department);
+        }
+        return loaded;
+    }
+
+    private static Department copy(Department department) {
+        Department copy = new Department(department.getId(), department.getName());
+        copy.setVersion(department.getVersion());
+        return copy;
+    }
+
+    private static List<Department> copy(List<Department> departments) {
+        return departments.stream()
+                .map(CachingDepartmentDao::copy)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+}
@@ -0,0 +1,330 @@
+package com.kauanferreira.smartdaojdbc.dao.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.kauanferreira.smartdaojdbc.dao.MultiGetResult;
+import com.kauanferreira.smartdaojdbc.dao.SellerDao;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+import com.kauanferreira.smartdaojdbc.entity.Seller;
+import com.kauanferreira.smartdaojdbc.exception.EntityNotFoundException;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Second-level cache decorator for {@link SellerDao}.
+ * Serves {@link #findById(Integer)} and {@link #findByEmail(String)}
+ * from memory; every other query goes straight to the delegate.
+ *
+ * <p>Sellers are stored once, in the primary index by id. The secondary
+ * index only maps an email to an id, and a hit is checked against the
+ * seller's current email, so a stale index entry falls back to the
+ * database instead of returning the wrong seller.</p>
+ *
+ * <p>Lookups that end in {@link EntityNotFoundException} are remembered
+ * for a shorter time, so repeated probes for missing sellers stay off
+ * the database. Writes made through this decorator invalidate the
+ * affected id and emails; department writes evict the sellers of that
+ * department through {@link #invalidateDepartment(Integer)}.</p>
+ *
+ * @author Kauan
+ * @version 1.2
+ * @since 2026
+ */
+public class CachingSellerDao implements SellerDao {
+
+    private final SellerDao delegate;
+
+    /** Primary index; an empty value records a missing seller. */
+    private final Cache<Integer, Optional<Seller>> byId;
+
+    /** Secondary index from email to seller id; an empty value records a missing email. */
+    private final Cache<String, Optional<Integer>> byEmail;
+
+    /**
+     * Creates a new caching decorator.
+     *
+     * @param delegate         the DAO that reads from and writes to the database
+     * @param maximumSize      maximum number of entries kept in each index
+     * @param expireAfterWrite time after which a seller is reloaded from the database
+     * @param negativeTtl      time during which a missing seller is not looked up again
+     */
+    public CachingSellerDao(SellerDao delegate, long maximumSize, Duration expireAfterWrite, Duration negativeTtl) {
+        this.delegate = delegate;
+        this.byId = buildIndex(maximumSize, expireAfterWrite, negativeTtl);
+        this.byEmail = buildIndex(maximumSize, expireAfterWrite, negativeTtl);
+    }
+
+    @Override
+    public void insert(Seller obj) {
+        delegate.insert(obj);
+        evict(obj);
+    }
+
+    @Override
+    public void update(Seller obj) {
+        evictCached(obj.getId());
+        delegate.update(obj);
+        evict(obj);
+    }
+
+    @Override
+    public void insertAll(Collection<Seller> sellers) {
+        delegate.insertAll(sellers);
+        sellers.forEach(this::evict);
+    }
+
+    @Override
+    public void updateAll(Collection<Seller> sellers) {
+        sellers.forEach(seller -> evictCached(seller.getId()));
+        delegate.updateAll(sellers);
+        sellers.forEach(this::evict);
+    }
+
+    @Override
+    public void deleteById(Integer id) {
+        evictCached(id);
+        delegate.deleteById(id);
+        byId.invalidate(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Missing ids are cached as well, for the negative TTL.</p>
+     */
+    @Override
+    public Seller findById(Integer id) {
+        return byId.get(id, this::load)
+                .map(CachingSellerDao::copy)
+                .orElseThrow(() -> new EntityNotFoundException("Seller not found with id: " + id));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Ids not yet cached are loaded together with one call to the
+     * delegate; the ids it does not find are cached as missing, for the
+     * negative TTL.</p>
+     */
+    @Override
+    public MultiGetResult<Seller> findByIds(Collection<Integer> ids) {
+        List<Integer> distinctIds = MultiGetResult.distinctIds(ids);
+        Map<Integer, Seller> found = new HashMap<>();
+
+        byId.getAll(distinctIds, this::loadAll)
+                .forEach((id, seller) -> seller.ifPresent(value -> found.put(id, copy(value))));
+        return MultiGetResult.of(distinctIds, found);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Resolved through the email index and then the id index, each
+     * filled by an atomic load, so a write that invalidates an entry while
+     * it is being loaded waits for the load and then drops its result.
+     * Missing emails are cached as well, for the negative TTL. An index
+     * entry left behind by an email change is dropped, and the lookup
+     * answered by the delegate.</p>
+     */
+    @Override
+    public Seller findByEmail(String email) {
+        Optional<Integer> id = byEmail.get(email, this::loadId);
+
+        if (id.isEmpty()) {
+            throw new EntityNotFoundException("Seller not found with email: " + email);
+        }
+        Optional<Seller> seller = byId.get(id.get(), this::load);
+
+        if (seller.isPresent() && Objects.equals(seller.get().getEmail(), email)) {
+            return copy(seller.get());
+        }
+        byEmail.asMap().remove(email, id);
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public List<Seller> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void forEach(Consumer<Seller> action) {
+        delegate.forEach(action);
+    }
+
+    @Override
+    public List<Seller> findByDepartment(Department department) {
+        return delegate.findByDepartment(department);
+    }
+
+    @Override
+    public List<Seller> findByName(String name) {
+        return delegate.findByName(name);
+    }
+
+    @Override
+    public List<Seller> findByName(String name, int limit) {
+        return delegate.findByName(name, limit);
+    }
+
+    @Override
+    public List<Seller> findByBirthMonth(int month) {
+        return delegate.findByBirthMonth(month);
+    }
+
+    @Override
+    public List<Seller> findByBirthMonth(int month, int limit) {
+        return delegate.findByBirthMonth(month, limit);
+    }
+
+    @Override
+    public List<Seller> findAll(int page, int size) {
+        return delegate.findAll(page, size);
+    }
+
+    @Override
+    public List<Seller> findAfter(String lastName, Integer lastId, int size) {
+        return delegate.findAfter(lastName, lastId, size);
+    }
+
+    /**
+     * Removes a seller from the id index.
+     * Also used to apply changes made outside this decorator;
+     * email entries pointing to it are re-checked on their next lookup.
+     *
+     * @param id the id of the changed seller
+     */
+    public void invalidate(Integer id) {
+        byId.invalidate(id);
+    }
+
+    /**
+     * Removes the cached sellers of a department, whose name and
+     * version they embed, after the department is changed or deleted.
+     * Email entries pointing to them are re-checked on their next lookup.
+     *
+     * @param departmentId the id of the changed department
+     */
+    public void invalidateDepartment(Integer departmentId) {
+        if (departmentId == null) {
+            return;
+        }
+        byId.asMap().values().removeIf(seller -> seller.isPresent()
+                && seller.get().getDepartment() != null
+                && departmentId.equals(seller.get().getDepartment().getId()));
+    }
+
+    /**
+     * Removes every cached seller and email.
+     */
+    public void invalidateAll() {
+        byId.invalidateAll();
+        byEmail.invalidateAll();
+    }
+
+    /**
+     * Returns the counters of the id index.
+     *
+     * @return hits, misses, evictions and size of the id lookups
+     */
+    public CacheMetrics getByIdMetrics() {
+        return CacheMetrics.of(byId);
+    }
+
+    /**
+     * Returns the counters of the email index.
+     *
+     * @return hits, misses, evictions and size of the email lookups
+     */
+    public CacheMetrics getByEmailMetrics() {
+        return CacheMetrics.of(byEmail);
+    }
+
+    private Optional<Seller> load(Integer id) {
+        try {
+            return Optional.of(delegate.findById(id));
+        } catch (EntityNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Optional<Integer> loadId(String email) {
+        try {
+            return Optional.of(delegate.findByEmail(email).getId());
+        } catch (EntityNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Map<Integer, Optional<Seller>> loadAll(Set<? extends Integer> ids) {
+        MultiGetResult<Seller> result = delegate.findByIds(List.copyOf(ids));
+        Map<Integer, Optional<Seller>> loaded = new HashMap<>();
+
+        result.items().forEach(seller -> loaded.put(seller.getId(), Optional.of(seller)));
+        result.missingIds().forEach(id -> loaded.put(id, Optional.empty()));
+        return loaded;
+    }
+
+    /**
+     * Drops the id and email entries of a seller, including
+     * negative entries that a new row would contradict.
+     */
+    private void evict(Seller seller) {
+        if (seller == null) {
+            return;
+        }
+        if (seller.getId() != null) {
+            byId.invalidate(seller.getId());
+        }
+        if (seller.getEmail() != null) {
+            byEmail.invalidate(seller.getEmail());
+        }
+    }
+
+    /**
+     * Drops the cached seller with the given id together with its email entry,
+     * which the following write may change.
+     */
+    private void evictCached(Integer id) {
+        Optional<Seller> cached = id == null ? null : byId.getIfPresent(id);
+
+        if (cached != null) {
+            cached.ifPresent(this::evict);
+        }
+    }
+
+    private static <K, V> Cache<K, Optional<V>> buildIndex(long maximumSize, Duration expireAfterWrite,
+                                                           Duration negativeTtl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.<K, Optional<V>>writing(
+                        (key, value) -> value.isPresent() ? expireAfterWrite : negativeTtl))
+                .recordStats()
+                .build();
+    }
+
+    private static Seller copy(Seller seller) {
+        Department department = seller.getDepartment() == null ? null : copy(seller.getDepartment());
+        Date birthDate = seller.getBirthDate() == null ? null : (Date) seller.getBirthDate().clone();
+        Seller copy = new Seller(seller.getId(), seller.getName(), seller.getEmail(),
+                seller.getBaseSalary(), birthDate, department);
+        copy.setVersion(seller.getVersion());
+        return copy;
+    }
+
+    private static Department copy(Department department) {
+        Department copy = new Department(department.getId(), department.getName());
+        copy.setVersion(department.getVersion());
+        return copy;
+    }
+}
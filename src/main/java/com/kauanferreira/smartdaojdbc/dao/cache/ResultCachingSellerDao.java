@@ -0,0 +1,246 @@
+package com.kauanferreira.smartdaojdbc.dao.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kauanferreira.smartdaojdbc.dao.MultiGetResult;
+import com.kauanferreira.smartdaojdbc.dao.SellerDao;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+import com.kauanferreira.smartdaojdbc.entity.Seller;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Query-result cache decorator for {@link SellerDao}.
+ * Serves the list queries (pages, departments, names, birth months and
+ * keyset pages) from memory, keyed by method and arguments; lookups of
+ * single sellers and {@link #forEach(Consumer)} go to the delegate.
+ *
+ * <p>Invalidation is coarse: every key also holds the current versions
+ * of the {@code seller} and {@code department} tables from a shared
+ * {@link TableVersions}. Writes through this decorator bump the seller
+ * version, and department writes bump the department version through
+ * {@link VersionedDepartmentDao}, so any write makes every cached list
+ * miss. Writes made around both, such as bulk imports, must call
+ * {@link TableVersions#bumpAll()}.</p>
+ *
+ * <p>Memory is bounded by the total number of cached rows, not entries.
+ * Each list is cached once and returned to every caller as the same
+ * unmodifiable view, without copying. The sellers in it are shared as
+ * well and must not be modified.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class ResultCachingSellerDao implements SellerDao {
+
+    /** Cache key: the query and the table versions it was loaded at. */
+    private record Query(String method, List<Object> arguments, long sellerVersion, long departmentVersion) {
+    }
+
+    private final SellerDao delegate;
+
+    private final TableVersions versions;
+
+    /** Unmodifiable query results, weighed by row count. */
+    private final Cache<Query, List<Seller>> results;
+
+    /**
+     * Creates a new result-caching decorator.
+     *
+     * @param delegate         the DAO that reads from and writes to the database
+     * @param versions         the table versions shared with the other decorators
+     * @param maximumRows      maximum number of rows kept over all cached lists
+     * @param expireAfterWrite time after which a list is reloaded, even without writes
+     */
+    public ResultCachingSellerDao(SellerDao delegate, TableVersions versions, long maximumRows,
+                                  Duration expireAfterWrite) {
+        this.delegate = delegate;
+        this.versions = versions;
+        this.results = Caffeine.newBuilder()
+                .maximumWeight(maximumRows)
+                .<Query, List<Seller>>weigher((query, rows) -> Math.max(1, rows.size()))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void insert(Seller obj) {
+        try {
+            delegate.insert(obj);
+        } finally {
+            versions.bump(TableVersions.SELLER);
+        }
+    }
+
+    @Override
+    public void update(Seller obj) {
+        try {
+            delegate.update(obj);
+        } finally {
+            versions.bump(TableVersions.SELLER);
+        }
+    }
+
+    @Override
+    public void insertAll(Collection<Seller> sellers) {
+        try {
+            delegate.insertAll(sellers);
+        } finally {
+            versions.bump(TableVersions.SELLER);
+        }
+    }
+
+    @Override
+    public void updateAll(Collection<Seller> sellers) {
+        try {
+            delegate.updateAll(sellers);
+        } finally {
+            versions.bump(TableVersions.SELLER);
+        }
+    }
+
+    @Override
+    public void deleteById(Integer id) {
+        try {
+            delegate.deleteById(id);
+        } finally {
+            versions.bump(TableVersions.SELLER);
+        }
+    }
+
+    @Override
+    public Seller findById(Integer id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public MultiGetResult<Seller> findByIds(Collection<Integer> ids) {
+        return delegate.findByIds(ids);
+    }
+
+    @Override
+    public Seller findByEmail(String email) {
+        return delegate.findByEmail(email);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The returned list is unmodifiable and shared with other callers.</p>
+     */
+    @Override
+    public List<Seller> findAll() {
+        return cached(delegate::findAll, "findAll");
+    }
+
+    @Override
+    public void forEach(Consumer<Seller> action) {
+        delegate.forEach(action);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Keyed by department id. The returned list is unmodifiable and shared with other callers.</p>
+     */
+    @Override
+    public List<Seller> findByDepartment(Department department) {
+        return cached(() -> delegate.findByDepartment(department), "findByDepartment", department.getId());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The returned list is unmodifiable and shared with other callers.</p>
+     */
+    @Override
+    public List<Seller> findByName(String name) {
+        return cached(() -> delegate.findByName(name), "findByName", name);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The returned list is unmodifiable and shared with other callers.</p>
+     */
+    @Override
+    public List<Seller> findByName(String name, int limit) {
+        return cached(() -> delegate.findByName(name, limit), "findByName", name, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The returned list is unmodifiable and shared with other callers.</p>
+     */
+    @Override
+    public List<Seller> findByBirthMonth(int month) {
+        return cached(() -> delegate.findByBirthMonth(month), "findByBirthMonth", month);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The returned list is unmodifiable and shared with other callers.</p>
+     */
+    @Override
+    public List<Seller> findByBirthMonth(int month, int limit) {
+        return cached(() -> delegate.findByBirthMonth(month, limit), "findByBirthMonth", month, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The returned list is unmodifiable and shared with other callers.</p>
+     */
+    @Override
+    public List<Seller> findAll(int page, int size) {
+        return cached(() -> delegate.findAll(page, size), "findAllPage", page, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The returned list is unmodifiable and shared with other callers.</p>
+     */
+    @Override
+    public List<Seller> findAfter(String lastName, Integer lastId, int size) {
+        return cached(() -> delegate.findAfter(lastName, lastId, size), "findAfter", lastName, lastId, size);
+    }
+
+    /**
+     * Removes every cached list.
+     */
+    public void invalidateAll() {
+        results.invalidateAll();
+    }
+
+    /**
+     * Returns the counters of the result cache.
+     * The size is the number of cached lists, including stale ones not yet evicted.
+     *
+     * @return hits, misses, evictions and size of the list queries
+     */
+    public CacheMetrics getMetrics() {
+        return CacheMetrics.of(results);
+    }
+
+    /**
+     * Returns the cached result of a query, loading it at the current table versions on a miss.
+     * The versions are read before loading, so a write racing the load makes the next lookup miss.
+     */
+    private List<Seller> cached(Supplier<List<Seller>> loader, String method, Object... arguments) {
+        Query query = new Query(method, Arrays.asList(arguments),
+                versions.get(TableVersions.SELLER), versions.get(TableVersions.DEPARTMENT));
+
+        return results.get(query, key -> Collections.unmodifiableList(loader.get()));
+    }
+}
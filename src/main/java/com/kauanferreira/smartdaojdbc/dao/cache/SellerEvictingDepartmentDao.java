@@ -0,0 +1,98 @@
+package com.kauanferreira.smartdaojdbc.dao.cache;
+
+import com.kauanferreira.smartdaojdbc.dao.DepartmentDao;
+import com.kauanferreira.smartdaojdbc.dao.MultiGetResult;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Decorator for {@link DepartmentDao} evicting the sellers of a department
+ * from the {@link CachingSellerDao} after it is updated or deleted, since
+ * cached sellers embed their department's name and version. Inserts and
+ * reads go straight to the delegate.
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class SellerEvictingDepartmentDao implements DepartmentDao {
+
+    private final DepartmentDao delegate;
+
+    private final CachingSellerDao sellerCache;
+
+    /**
+     * Creates a new evicting decorator.
+     *
+     * @param delegate    the DAO that reads from and writes to the database
+     * @param sellerCache the seller cache holding copies of the departments
+     */
+    public SellerEvictingDepartmentDao(DepartmentDao delegate, CachingSellerDao sellerCache) {
+        this.delegate = delegate;
+        this.sellerCache = sellerCache;
+    }
+
+    @Override
+    public void insert(Department obj) {
+        delegate.insert(obj);
+    }
+
+    @Override
+    public void update(Department obj) {
+        try {
+            delegate.update(obj);
+        } finally {
+            sellerCache.invalidateDepartment(obj.getId());
+        }
+    }
+
+    @Override
+    public void insertAll(Collection<Department> departments) {
+        delegate.insertAll(departments);
+    }
+
+    @Override
+    public void updateAll(Collection<Department> departments) {
+        try {
+            delegate.updateAll(departments);
+        } finally {
+            departments.forEach(department -> sellerCache.invalidateDepartment(department.getId()));
+        }
+    }
+
+    @Override
+    public void deleteById(Integer id) {
+        try {
+            delegate.deleteById(id);
+        } finally {
+            sellerCache.invalidateDepartment(id);
+        }
+    }
+
+    @Override
+    public Department findById(Integer id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public MultiGetResult<Department> findByIds(Collection<Integer> ids) {
+        return delegate.findByIds(ids);
+    }
+
+    @Override
+    public List<Department> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Department> findAll(int page, int size) {
+        return delegate.findAll(page, size);
+    }
+
+    @Override
+    public List<Department> findAfter(String lastName, Integer lastId, int size) {
+        return delegate.findAfter(lastName, lastId, size);
+    }
+}
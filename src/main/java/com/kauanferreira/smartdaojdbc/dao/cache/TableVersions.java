@@ -0,0 +1,59 @@
+package com.kauanferreira.smartdaojdbc.dao.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version counter per table, bumped after every write to the table.
+ *
+ * <p>Result caches put the versions of the tables a query reads into
+ * its cache key. A write bumps the version, so later lookups build a
+ * new key and miss, while the stale entries are never served again and
+ * age out under the cache's size and expiration limits.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public final class TableVersions {
+
+    /** Name of the seller table. */
+    public static final String SELLER = "seller";
+
+    /** Name of the department table. */
+    public static final String DEPARTMENT = "department";
+
+    private final ConcurrentMap<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the current version of a table.
+     *
+     * @param table the table name
+     * @return the number of times the table was bumped, 0 if never
+     */
+    public long get(String table) {
+        return counter(table).get();
+    }
+
+    /**
+     * Marks a table as changed.
+     *
+     * @param table the table name
+     */
+    public void bump(String table) {
+        counter(table).incrementAndGet();
+    }
+
+    /**
+     * Marks every table as changed, for writes whose tables are not known.
+     */
+    public void bumpAll() {
+        versions.values().forEach(AtomicLong::incrementAndGet);
+    }
+
+    /** Registers a table on first use, so {@link #bumpAll()} also covers it. */
+    private AtomicLong counter(String table) {
+        return versions.computeIfAbsent(table, name -> new AtomicLong());
+    }
+}
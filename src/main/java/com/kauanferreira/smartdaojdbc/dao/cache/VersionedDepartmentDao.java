@@ -0,0 +1,106 @@
+package com.kauanferreira.smartdaojdbc.dao.cache;
+
+import com.kauanferreira.smartdaojdbc.dao.DepartmentDao;
+import com.kauanferreira.smartdaojdbc.dao.MultiGetResult;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Decorator for {@link DepartmentDao} bumping the {@code department}
+ * table version after every write, so the seller lists cached by
+ * {@link ResultCachingSellerDao}, which carry department names, miss
+ * afterwards. Reads go straight to the delegate.
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class VersionedDepartmentDao implements DepartmentDao {
+
+    private final DepartmentDao delegate;
+
+    private final TableVersions versions;
+
+    /**
+     * Creates a new versioning decorator.
+     *
+     * @param delegate the DAO that reads from and writes to the database
+     * @param versions the table versions shared with the result caches
+     */
+    public VersionedDepartmentDao(DepartmentDao delegate, TableVersions versions) {
+        this.delegate = delegate;
+        this.versions = versions;
+    }
+
+    @Override
+    public void insert(Department obj) {
+        try {
+            delegate.insert(obj);
+        } finally {
+            versions.bump(TableVersions.DEPARTMENT);
+        }
+    }
+
+    @Override
+    public void update(Department obj) {
+        try {
+            delegate.update(obj);
+        } finally {
+            versions.bump(TableVersions.DEPARTMENT);
+        }
+    }
+
+    @Override
+    public void insertAll(Collection<Department> departments) {
+        try {
+            delegate.insertAll(departments);
+        } finally {
+            versions.bump(TableVersions.DEPARTMENT);
+        }
+    }
+
+    @Override
+    public void updateAll(Collection<Department> departments) {
+        try {
+            delegate.updateAll(departments);
+        } finally {
+            versions.bump(TableVersions.DEPARTMENT);
+        }
+    }
+
+    @Override
+    public void deleteById(Integer id) {
+        try {
+            delegate.deleteById(id);
+        } finally {
+            versions.bump(TableVersions.DEPARTMENT);
+        }
+    }
+
+    @Override
+    public Department findById(Integer id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public MultiGetResult<Department> findByIds(Collection<Integer> ids) {
+        return delegate.findByIds(ids);
+    }
+
+    @Override
+    public List<Department> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Department> findAll(int page, int size) {
+        return delegate.findAll(page, size);
+    }
+
+    @Override
+    public List<Department> findAfter(String lastName, Integer lastId, int size) {
+        return delegate.findAfter(lastName, lastId, size);
+    }
+}
@@ -0,0 +1,430 @@
+package com.kauanferreira.smartdaojdbc.dao.impl;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.dao.BulkDao;
+import com.kauanferreira.smartdaojdbc.dao.BulkLoadResult;
+import com.kauanferreira.smartdaojdbc.dao.BulkLoadResult.RowError;
+import com.kauanferreira.smartdaojdbc.exception.DbException;
+import com.kauanferreira.smartdaojdbc.exception.DuplicateEntryException;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL implementation of the {@link BulkDao} interface.
+ * Streams rows through the {@code COPY} protocol using PgJDBC's
+ * {@link CopyManager}, which is much faster than batched INSERTs.
+ *
+ * <p>Seller imports are validated in two steps: each line is parsed and
+ * checked in Java while it is streamed into a temporary staging table,
+ * then foreign keys and unique emails are checked in bulk with a few
+ * set-based statements before the remaining rows are moved into
+ * {@code seller}.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class BulkDaoJDBC implements BulkDao {
+
+    /** Upper bound of row errors returned in a {@link BulkLoadResult}. */
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    /** Bytes buffered before being sent to the COPY stream. */
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final String[] SELLER_COLUMNS = {"name", "email", "birthdate", "basesalary", "departmentid"};
+    private static final String[] DEPARTMENT_COLUMNS = {"name"};
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+
+    /** Connection bound to this DAO, or {@code null} when leasing from {@link #dataSource}. */
+    private Connection connection;
+
+    /** Pool that lends a connection per operation, or {@code null} when bound to {@link #connection}. */
+    private DataSource dataSource;
+
+    /**
+     * Creates a new BulkDaoJDBC bound to the given database connection.
+     * The caller owns the connection and its transaction.
+     *
+     * @param connection the active database connection
+     */
+    public BulkDaoJDBC(Connection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Creates a new BulkDaoJDBC in connection-leasing mode.
+     *
+     * @param dataSource the connection pool to borrow connections from
+     */
+    public BulkDaoJDBC(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Lines with a wrong number of columns or invalid values are rejected
+     * while streaming. Rows referencing a missing department, using an email
+     * that already exists, or repeating an email of an earlier line are
+     * rejected in bulk. The valid rows are inserted in one transaction.</p>
+     */
+    @Override
+    public BulkLoadResult importSellers(Reader csv) {
+        Connection conn = acquireConnection();
+        Statement statement = null;
+        List<RowError> errors = new ArrayList<>();
+
+        try (LocalTransaction transaction = LocalTransaction.begin(conn)) {
+            statement = conn.createStatement();
+            statement.execute("DROP TABLE IF EXISTS seller_staging");
+            statement.execute(
+                    "CREATE TEMP TABLE seller_staging ("
+                            + "line_no BIGINT, name VARCHAR(60), email VARCHAR(100), birthdate DATE, "
+                            + "basesalary DOUBLE PRECISION, departmentid INTEGER"
+                            + ") ON COMMIT DROP"
+            );
+
+            long[] counts = copyRows(conn, "COPY seller_staging FROM STDIN WITH (FORMAT csv)",
+                    csv, SELLER_COLUMNS, this::toSellerRow, errors);
+            long rowsRead = counts[0];
+            long rejected = counts[1];
+
+            rejected += collectErrors(statement,
+                    "DELETE FROM seller_staging s "
+                            + "WHERE NOT EXISTS (SELECT 1 FROM department d WHERE d.id = s.departmentid) "
+                            + "RETURNING s.line_no, 'Department not found: ' || s.departmentid", errors);
+            rejected += collectErrors(statement,
+                    "DELETE FROM seller_staging s "
+                            + "WHERE EXISTS (SELECT 1 FROM seller e WHERE e.email = s.email) "
+                            + "RETURNING s.line_no, 'Email already exists: ' || s.email", errors);
+            rejected += collectErrors(statement,
+                    "DELETE FROM seller_staging s USING seller_staging f "
+                            + "WHERE f.email = s.email AND f.line_no < s.line_no "
+                            + "RETURNING s.line_no, 'Duplicate email in file: ' || s.email", errors);
+
+            long rowsLoaded = statement.executeUpdate(
+                    "INSERT INTO seller (name, email, birthdate, basesalary, departmentid) "
+                            + "SELECT name, email, birthdate, basesalary, departmentid "
+                            + "FROM seller_staging ORDER BY line_no"
+            );
+
+            transaction.commit();
+            return result(rowsRead, rowsLoaded, rejected, errors);
+        } catch (SQLException e) {
+            if ("23505".equals(e.getSQLState())) {
+                throw new DuplicateEntryException("Email already exists: " + e.getMessage(), e);
+            }
+            throw new DbException(e.getMessage(), e);
+        } finally {
+            DB.closeStatement(statement);
+            releaseConnection(conn);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Departments have no foreign keys, so validated rows are
+     * copied straight into the {@code department} table.</p>
+     */
+    @Override
+    public BulkLoadResult importDepartments(Reader csv) {
+        Connection conn = acquireConnection();
+        List<RowError> errors = new ArrayList<>();
+
+        try (LocalTransaction transaction = LocalTransaction.begin(conn)) {
+            long[] counts = copyRows(conn, "COPY department (name) FROM STDIN WITH (FORMAT csv)",
+                    csv, DEPARTMENT_COLUMNS, this::toDepartmentRow, errors);
+
+            transaction.commit();
+            return result(counts[0], counts[0] - counts[1], counts[1], errors);
+        } catch (SQLException e) {
+            throw new DbException(e.getMessage(), e);
+        } finally {
+            releaseConnection(conn);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Uses {@code COPY ... TO STDOUT}, so rows go from the database
+     * to the stream without creating {@code Seller} objects.</p>
+     */
+    @Override
+    public void exportSellers(OutputStream out) {
+        copyOut("COPY (SELECT id, name, email, birthdate, basesalary, departmentid FROM seller ORDER BY id) "
+                + "TO STDOUT WITH (FORMAT csv, HEADER)", out);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Uses {@code COPY ... TO STDOUT}.</p>
+     */
+    @Override
+    public void exportDepartments(OutputStream out) {
+        copyOut("COPY (SELECT id, name FROM department ORDER BY id) TO STDOUT WITH (FORMAT csv, HEADER)", out);
+    }
+
+    /**
+     * Reads the CSV input line by line, validates each line and streams the
+     * valid ones into the given {@code COPY ... FROM STDIN} command.
+     *
+     * @param conn      the connection running the COPY
+     * @param copySql   the COPY command
+     * @param csv       the CSV input
+     * @param columns   the expected column names, used to detect a header line
+     * @param formatter validates the fields of a line and formats them as a COPY row
+     * @param errors    receives the rejected lines
+     * @return the number of data rows read and the number rejected
+     * @throws SQLException if the COPY fails
+     */
+    private long[] copyRows(Connection conn, String copySql, Reader csv, String[] columns,
+                            RowFormatter formatter, List<RowError> errors) throws SQLException {
+        CopyIn copyIn = copyManager(conn).copyIn(copySql);
+        long rowsRead = 0;
+        long rejected = 0;
+
+        try {
+            BufferedReader reader = new BufferedReader(csv);
+            StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE);
+            String line;
+            long lineNo = 0;
+
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+
+                if (line.isBlank() || (lineNo == 1 && isHeader(line, columns))) {
+                    continue;
+                }
+                rowsRead++;
+
+                List<String> fields = parseCsvLine(line);
+                try {
+                    if (fields.size() != columns.length) {
+                        throw new IllegalArgumentException(
+                                "Expected " + columns.length + " columns but found " + fields.size());
+                    }
+                    formatter.format(lineNo, fields, buffer);
+                    buffer.append('\n');
+                } catch (IllegalArgumentException e) {
+                    rejected++;
+                    addError(errors, lineNo, e.getMessage());
+                }
+
+                if (buffer.length() >= COPY_BUFFER_SIZE) {
+                    writeToCopy(copyIn, buffer);
+                }
+            }
+            writeToCopy(copyIn, buffer);
+            copyIn.endCopy();
+            return new long[]{rowsRead, rejected};
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * Validates a seller line and appends it to the buffer as a staging row.
+     *
+     * @throws IllegalArgumentException if a value is missing or invalid
+     */
+    private void toSellerRow(long lineNo, List<String> fields, StringBuilder buffer) {
+        String name = fields.get(0).trim();
+        String email = fields.get(1).trim();
+
+        if (name.isEmpty() || name.length() > 60) {
+            throw new IllegalArgumentException("Name must have between 1 and 60 characters");
+        }
+        if (email.length() > 100 || !EMAIL_PATTERN.matcher(email).matches()) {
+            throw new IllegalArgumentException("Invalid email format: " + email);
+        }
+        LocalDate birthDate;
+        try {
+            birthDate = LocalDate.parse(fields.get(2).trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid birth date: " + fields.get(2));
+        }
+        double baseSalary;
+        int departmentId;
+        try {
+            baseSalary = Double.parseDouble(fields.get(3).trim());
+            departmentId = Integer.parseInt(fields.get(4).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number: " + e.getMessage());
+        }
+        if (baseSalary < 0 || Double.isNaN(baseSalary) || Double.isInfinite(baseSalary)) {
+            throw new IllegalArgumentException("Base salary cannot be negative");
+        }
+
+        buffer.append(lineNo).append(',');
+        appendQuoted(buffer, name).append(',');
+        appendQuoted(buffer, email).append(',');
+        buffer.append(birthDate).append(',')
+                .append(baseSalary).append(',')
+                .append(departmentId);
+    }
+
+    /**
+     * Validates a department line and appends it to the buffer as a department row.
+     *
+     * @throws IllegalArgumentException if the name is missing or too long
+     */
+    private void toDepartmentRow(long lineNo, List<String> fields, StringBuilder buffer) {
+        String name = fields.get(0).trim();
+
+        if (name.isEmpty() || name.length() > 60) {
+            throw new IllegalArgumentException("Department name must have between 1 and 60 characters");
+        }
+        appendQuoted(buffer, name);
+    }
+
+    /**
+     * Runs a {@code DELETE ... RETURNING line_no, message} on the staging
+     * table and records every returned row as an error.
+     *
+     * @return the number of rows removed from the staging table
+     */
+    private long collectErrors(Statement statement, String sql, List<RowError> errors) throws SQLException {
+        long count = 0;
+
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                count++;
+                addError(errors, resultSet.getLong(1), resultSet.getString(2));
+            }
+        }
+        return count;
+    }
+
+    private void copyOut(String sql, OutputStream out) {
+        Connection conn = acquireConnection();
+
+        try {
+            copyManager(conn).copyOut(sql, out);
+        } catch (SQLException e) {
+            throw new DbException(e.getMessage(), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            releaseConnection(conn);
+        }
+    }
+
+    private static CopyManager copyManager(Connection conn) throws SQLException {
+        return conn.unwrap(PGConnection.class).getCopyAPI();
+    }
+
+    private static void writeToCopy(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    private static void addError(List<RowError> errors, long line, String message) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RowError(line, message));
+        }
+    }
+
+    private static BulkLoadResult result(long rowsRead, long rowsLoaded, long rejected, List<RowError> errors) {
+        errors.sort(Comparator.comparingLong(RowError::line));
+        return new BulkLoadResult(rowsRead, rowsLoaded, rejected, errors);
+    }
+
+    private static boolean isHeader(String line, String[] columns) {
+        List<String> fields = parseCsvLine(line);
+
+        if (fields.size() != columns.length) {
+            return false;
+        }
+        for (int i = 0; i < columns.length; i++) {
+            if (!fields.get(i).trim().equalsIgnoreCase(columns[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Splits a CSV line into fields, honoring double-quoted fields
+     * and escaped quotes ({@code ""}). Quoted line breaks are not supported.
+     */
+    private static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static StringBuilder appendQuoted(StringBuilder buffer, String value) {
+        return buffer.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    private Connection acquireConnection() {
+        return dataSource != null ? DB.getConnection(dataSource) : connection;
+    }
+
+    private void releaseConnection(Connection conn) {
+        if (conn != connection) {
+            DB.closeConnection(conn);
+        }
+    }
+
+    /**
+     * Validates the fields of one CSV line and appends the matching COPY row.
+     */
+    @FunctionalInterface
+    private interface RowFormatter {
+        void format(long lineNo, List<String> fields, StringBuilder buffer);
+    }
+}
@@ -2,13 +2,20 @@ package com.kauanferreira.smartdaojdbc.dao.impl;
 
 import com.kauanferreira.smartdaojdbc.DB;
 import com.kauanferreira.smartdaojdbc.dao.DepartmentDao;
+import com.kauanferreira.smartdaojdbc.dao.MultiGetResult;
+import com.kauanferreira.smartdaojdbc.dao.mapper.RowMapper;
+import com.kauanferreira.smartdaojdbc.dao.mapper.RowMappers;
 import com.kauanferreira.smartdaojdbc.entity.Department;
 import com.kauanferreira.smartdaojdbc.exception.DbException;
 import com.kauanferreira.smartdaojdbc.exception.EntityNotFoundException;
 
+import javax.sql.DataSource;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * JDBC implementation of the {@link DepartmentDao} interface.
@@ -22,11 +29,25 @@ import java.util.List;
 
 public class DepartmentDaoJDBC implements DepartmentDao {
 
-    /** Database connection used for all operations. */
+    /** Connection bound to this DAO, or {@code null} when leasing from {@link #dataSource}. */
     private Connection connection;
 
+    /** Pool that lends a connection per operation, or {@code null} when bound to {@link #connection}. */
+    private DataSource dataSource;
+
+    /** Length of the {@code department.name} column. */
+    private static final int MAX_NAME_LENGTH = 60;
+
+    /** Rows sent per round-trip by {@link #insertAll(Collection)} and {@link #updateAll(Collection)}. */
+    private final int batchSize = Integer.parseInt(DB.getProperty("batchSize", "500"));
+
+    /** Select list shared by every department query, mapped through {@link RowMappers}. */
+    private static final String SELECT_DEPARTMENT = "SELECT Id, Name, Version FROM department ";
+
     /**
-     * Creates a new DepartmentDaoJDBC with the given database connection.
+     * Creates a new DepartmentDaoJDBC bound to the given database connection.
+     * Every operation runs on this connection, whose lifecycle is
+     * managed by the caller.
      *
      * @param connection the active database connection
      */
@@ -34,6 +55,17 @@ public class DepartmentDaoJDBC implements DepartmentDao {
         this.connection = connection;
     }
 
+    /**
+     * Creates a new DepartmentDaoJDBC in connection-leasing mode.
+     * Each operation borrows a connection from the given pool
+     * and returns it as soon as the operation completes.
+     *
+     * @param dataSource the connection pool to borrow connections from
+     */
+    public DepartmentDaoJDBC(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -42,10 +74,11 @@ public class DepartmentDaoJDBC implements DepartmentDao {
      */
     @Override
     public void insert(Department obj) {
+        Connection conn = acquireConnection();
         PreparedStatement preparedStatement = null;
 
         try {
-            preparedStatement = connection.prepareStatement(
+            preparedStatement = DB.prepareStatement(conn,
                     "INSERT INTO department (name) VALUES (?)", Statement.RETURN_GENERATED_KEYS
             );
             preparedStatement.setString(1, obj.getName());
@@ -64,9 +97,10 @@ public class DepartmentDaoJDBC implements DepartmentDao {
                 throw new DbException("No rows affected!");
             }
         } catch (SQLException e) {
-            throw  new DbException(e.getMessage());
+            throw  new DbException(e.getMessage(), e);
         } finally {
             DB.closeStatement(preparedStatement);
+            releaseConnection(conn);
         }
     }
 
@@ -77,10 +111,11 @@ public class DepartmentDaoJDBC implements DepartmentDao {
      */
     @Override
     public void update(Department obj) {
+        Connection conn = acquireConnection();
         PreparedStatement preparedStatement = null;
 
         try {
-            preparedStatement = connection.prepareStatement(
+            preparedStatement = DB.prepareStatement(conn,
                     "UPDATE department SET name = ? WHERE id = ?"
             );
             preparedStatement.setString(1, obj.getName());
@@ -88,9 +123,95 @@ public class DepartmentDaoJDBC implements DepartmentDao {
 
             preparedStatement.executeUpdate();
         } catch (SQLException e) {
-            throw new  DbException(e.getMessage());
+            throw new  DbException(e.getMessage(), e);
+        } finally {
+            DB.closeStatement(preparedStatement);
+            releaseConnection(conn);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Rows are sent in batches of {@code batchSize} (db.properties)
+     * and the generated ids are read back in insertion order.</p>
+     *
+     * @throws IllegalArgumentException if a department lacks a valid name, checked before any row is batched
+     */
+    @Override
+    public void insertAll(Collection<Department> departments) {
+        validateBatch(departments, false);
+        Connection conn = acquireConnection();
+        PreparedStatement preparedStatement = null;
+
+        try (LocalTransaction transaction = LocalTransaction.begin(conn)) {
+            preparedStatement = DB.prepareStatement(conn,
+                    "INSERT INTO department (name) VALUES (?)", Statement.RETURN_GENERATED_KEYS
+            );
+
+            List<Department> pending = new ArrayList<>();
+
+            for (Department obj : departments) {
+                preparedStatement.setString(1, obj.getName());
+                preparedStatement.addBatch();
+                pending.add(obj);
+
+                if (pending.size() == batchSize) {
+                    executeInsertBatch(preparedStatement, pending);
+                }
+            }
+            if (!pending.isEmpty()) {
+                executeInsertBatch(preparedStatement, pending);
+            }
+            transaction.commit();
+        } catch (SQLException e) {
+            throw new DbException(e.getMessage(), e);
+        } finally {
+            DB.closeStatement(preparedStatement);
+            releaseConnection(conn);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Rows are sent in batches of {@code batchSize} (db.properties).</p>
+     *
+     * @throws IllegalArgumentException if a department lacks an id or a valid name,
+     *                                  checked before any row is batched
+     */
+    @Override
+    public void updateAll(Collection<Department> departments) {
+        validateBatch(departments, true);
+        Connection conn = acquireConnection();
+        PreparedStatement preparedStatement = null;
+
+        try (LocalTransaction transaction = LocalTransaction.begin(conn)) {
+            preparedStatement = DB.prepareStatement(conn,
+                    "UPDATE department SET name = ? WHERE id = ?"
+            );
+
+            int pending = 0;
+
+            for (Department obj : departments) {
+                preparedStatement.setString(1, obj.getName());
+                preparedStatement.setInt(2, obj.getId());
+                preparedStatement.addBatch();
+
+                if (++pending == batchSize) {
+                    preparedStatement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                preparedStatement.executeBatch();
+            }
+            transaction.commit();
+        } catch (SQLException e) {
+            throw new DbException(e.getMessage(), e);
         } finally {
             DB.closeStatement(preparedStatement);
+            releaseConnection(conn);
         }
     }
 
@@ -101,18 +222,20 @@ public class DepartmentDaoJDBC implements DepartmentDao {
      */
     @Override
     public void deleteById(Integer id) {
+        Connection conn = acquireConnection();
         PreparedStatement preparedStatement = null;
 
         try {
-            preparedStatement = connection.prepareStatement(
+            preparedStatement = DB.prepareStatement(conn,
                     "DELETE FROM department WHERE id = ?"
             );
             preparedStatement.setInt(1, id);
             preparedStatement.executeUpdate();
         } catch (SQLException e) {
-            throw new DbException(e.getMessage());
+            throw new DbException(e.getMessage(), e);
         } finally {
             DB.closeStatement(preparedStatement);
+            releaseConnection(conn);
         }
     }
 
@@ -124,97 +247,236 @@ public class DepartmentDaoJDBC implements DepartmentDao {
      */
     @Override
     public Department findById(Integer id) {
+        Connection conn = acquireConnection();
         PreparedStatement preparedStatement = null;
         ResultSet resultSet = null;
 
         try {
-            preparedStatement = connection.prepareStatement(
-                    "SELECT * FROM department WHERE id = ?"
+            preparedStatement = DB.prepareStatement(conn,
+                    SELECT_DEPARTMENT + "WHERE id = ?"
             );
 
             preparedStatement.setInt(1, id);
             resultSet = preparedStatement.executeQuery();
+            RowMapper<Department> mapper = RowMappers.forResultSet(Department.class, resultSet);
 
             if (resultSet.next()) {
-                return instantiateDepartment(resultSet);
+                return mapper.mapRow(resultSet);
             }
             throw new EntityNotFoundException("Department not found with id: " + id);
         } catch (SQLException ex) {
-            throw new DbException(ex.getMessage());
+            throw new DbException(ex.getMessage(), ex);
         } finally {
             DB.closeStatement(preparedStatement);
             DB.closeResultSet(resultSet);
+            releaseConnection(conn);
         }
     }
 
     /**
      * {@inheritDoc}
      *
-     * <p>Retrieves all departments ordered by database default.</p>
+     * <p>The ids are sent as one {@code integer[]} parameter of
+     * {@code id = ANY(?)}, so the lookup takes a single round-trip.</p>
      */
     @Override
-    public List<Department> findAll() {
+    public MultiGetResult<Department> findByIds(Collection<Integer> ids) {
+        List<Integer> distinctIds = MultiGetResult.distinctIds(ids);
+
+        if (distinctIds.isEmpty()) {
+            return new MultiGetResult<>(List.of(), List.of());
+        }
+        Connection conn = acquireConnection();
         PreparedStatement preparedStatement = null;
         ResultSet resultSet = null;
+        Array array = null;
 
         try {
-            preparedStatement = connection.prepareStatement(
-                    "SELECT * FROM department"
+            preparedStatement = DB.prepareStatement(conn,
+                    SELECT_DEPARTMENT + "WHERE id = ANY(?)"
             );
-            resultSet = preparedStatement.executeQuery();
 
-            List<Department> departments = new ArrayList<>();
+            array = conn.createArrayOf("integer", distinctIds.toArray());
+            preparedStatement.setArray(1, array);
+            resultSet = preparedStatement.executeQuery();
+            RowMapper<Department> mapper = RowMappers.forResultSet(Department.class, resultSet);
+            Map<Integer, Department> found = new HashMap<>();
 
             while (resultSet.next()) {
-                departments.add(instantiateDepartment(resultSet));
+                Department department = mapper.mapRow(resultSet);
+                found.put(department.getId(), department);
             }
-            return departments;
+            return MultiGetResult.of(distinctIds, found);
+        } catch (SQLException ex) {
+            throw new DbException(ex.getMessage(), ex);
+        } finally {
+            DB.closeStatement(preparedStatement);
+            DB.closeResultSet(resultSet);
+            DB.freeArray(array);
+            releaseConnection(conn);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Retrieves all departments ordered by database default.</p>
+     */
+    @Override
+    public List<Department> findAll() {
+        Connection conn = acquireConnection();
+        PreparedStatement preparedStatement = null;
+        ResultSet resultSet = null;
+
+        try {
+            preparedStatement = DB.prepareStatement(conn,
+                    SELECT_DEPARTMENT
+            );
+            resultSet = preparedStatement.executeQuery();
+
+            return RowMappers.forResultSet(Department.class, resultSet).mapAll(resultSet);
         } catch (SQLException ex) {
-            throw new  DbException(ex.getMessage());
+            throw new  DbException(ex.getMessage(), ex);
         } finally {
             DB.closeStatement(preparedStatement);
             DB.closeResultSet(resultSet);
+            releaseConnection(conn);
         }
     }
 
     @Override
     public List<Department> findAll(int page, int size) {
+        Connection conn = acquireConnection();
         PreparedStatement preparedStatement = null;
         ResultSet resultSet = null;
 
         try {
-            preparedStatement = connection.prepareStatement(
-                    "SELECT * FROM department ORDER BY name LIMIT ? OFFSET ?"
+            preparedStatement = DB.prepareStatement(conn,
+                    SELECT_DEPARTMENT + "ORDER BY name LIMIT ? OFFSET ?"
             );
             preparedStatement.setInt(1, size);
             preparedStatement.setInt(2, (page - 1) * size);
             resultSet = preparedStatement.executeQuery();
 
-            List<Department> departments = new ArrayList<>();
+            return RowMappers.forResultSet(Department.class, resultSet).mapAll(resultSet);
+        } catch (SQLException ex) {
+            throw new DbException(ex.getMessage(), ex);
+        } finally {
+            DB.closeStatement(preparedStatement);
+            DB.closeResultSet(resultSet);
+            releaseConnection(conn);
+        }
+    }
 
-            while (resultSet.next()) {
-                departments.add(instantiateDepartment(resultSet));
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Uses a row value comparison on {@code (name, id)}, served by the
+     * composite index on the same columns.</p>
+     */
+    @Override
+    public List<Department> findAfter(String lastName, Integer lastId, int size) {
+        Connection conn = acquireConnection();
+        PreparedStatement preparedStatement = null;
+        ResultSet resultSet = null;
+
+        try {
+            if (lastName == null || lastId == null) {
+                preparedStatement = DB.prepareStatement(conn,
+                        SELECT_DEPARTMENT + "ORDER BY name, id LIMIT ?"
+                );
+                preparedStatement.setInt(1, size);
+            } else {
+                preparedStatement = DB.prepareStatement(conn,
+                        SELECT_DEPARTMENT + "WHERE (name, id) > (?, ?) ORDER BY name, id LIMIT ?"
+                );
+                preparedStatement.setString(1, lastName);
+                preparedStatement.setInt(2, lastId);
+                preparedStatement.setInt(3, size);
             }
-            return departments;
+            resultSet = preparedStatement.executeQuery();
+
+            return RowMappers.forResultSet(Department.class, resultSet).mapAll(resultSet);
         } catch (SQLException ex) {
-            throw new DbException(ex.getMessage());
+            throw new DbException(ex.getMessage(), ex);
         } finally {
             DB.closeStatement(preparedStatement);
             DB.closeResultSet(resultSet);
+            releaseConnection(conn);
+        }
+    }
+
+    /**
+     * Returns the connection to be used by a single operation.
+     * In leasing mode a connection is borrowed from the pool;
+     * otherwise the bound connection is reused.
+     *
+     * @return the connection for the current operation
+     */
+    private Connection acquireConnection() {
+        return dataSource != null ? DB.getConnection(dataSource) : connection;
+    }
+
+    /**
+     * Checks that every department holds the values bound by a batch, so
+     * a missing one fails before the first row is added instead of
+     * half-way through a batch.
+     *
+     * @param departments the departments about to be batched
+     * @param requireId   whether each department must also have an id
+     * @throws IllegalArgumentException if a department, its id or its name is missing or invalid
+     */
+    private static void validateBatch(Collection<Department> departments, boolean requireId) {
+        int position = 0;
+
+        for (Department obj : departments) {
+            if (obj == null) {
+                throw new IllegalArgumentException("Department at position " + position + " is null");
+            }
+            if (requireId && obj.getId() == null) {
+                throw new IllegalArgumentException("Department at position " + position + " has no id");
+            }
+            if (obj.getName() == null || obj.getName().isBlank() || obj.getName().length() > MAX_NAME_LENGTH) {
+                throw new IllegalArgumentException("Department at position " + position
+                        + " must have a name between 1 and " + MAX_NAME_LENGTH + " characters");
+            }
+            position++;
         }
     }
 
     /**
-     * Creates a {@link Department} instance from the current ResultSet row.
+     * Executes the pending insert batch and copies the generated ids,
+     * returned in insertion order, back into the pending departments.
      *
-     * @param resultSet the result set positioned at a valid row
-     * @return a new Department populated with database values
+     * @param preparedStatement the statement holding the batch
+     * @param pending           the departments added to the batch, cleared afterwards
      * @throws SQLException if a database access error occurs
      */
-    private Department instantiateDepartment(ResultSet resultSet) throws SQLException {
-        Department department = new Department();
-        department.setId(resultSet.getInt("id"));
-        department.setName(resultSet.getString("name"));
-        return  department;
+    private void executeInsertBatch(PreparedStatement preparedStatement, List<Department> pending) throws SQLException {
+        preparedStatement.executeBatch();
+        ResultSet resultSet = preparedStatement.getGeneratedKeys();
+
+        try {
+            for (Department obj : pending) {
+                if (resultSet.next()) {
+                    obj.setId(resultSet.getInt(1));
+                }
+            }
+        } finally {
+            DB.closeResultSet(resultSet);
+        }
+        pending.clear();
+    }
+
+    /**
+     * Returns a leased connection back to the pool.
+     * The bound connection is left open for its owner to close.
+     *
+     * @param conn the connection obtained from {@link #acquireConnection()}
+     */
+    private void releaseConnection(Connection conn) {
+        if (conn != connection) {
+            DB.closeConnection(conn);
+        }
     }
 }
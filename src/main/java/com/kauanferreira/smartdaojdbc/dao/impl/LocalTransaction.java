@@ -0,0 +1,72 @@
+package com.kauanferreira.smartdaojdbc.dao.impl;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Transaction a DAO opens for a single operation when the connection is
+ * in autocommit mode; on a connection already inside a transaction it
+ * does nothing, leaving commit and rollback to the owner.
+ *
+ * <p>Meant for try-with-resources: {@link #close()} rolls back whatever
+ * was not committed and restores autocommit mode. When the operation
+ * already failed, a rollback failure is attached to that exception as
+ * suppressed instead of replacing it, and the caller's {@code finally}
+ * still returns the connection to the pool.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+final class LocalTransaction implements AutoCloseable {
+
+    private final Connection connection;
+
+    private final boolean owned;
+
+    private LocalTransaction(Connection connection, boolean owned) {
+        this.connection = connection;
+        this.owned = owned;
+    }
+
+    /**
+     * Opens a transaction on the connection unless one is already running.
+     *
+     * @param connection the connection the operation runs on
+     * @return the transaction, to be closed when the operation ends
+     * @throws SQLException if autocommit mode cannot be read or changed
+     */
+    static LocalTransaction begin(Connection connection) throws SQLException {
+        if (!connection.getAutoCommit()) {
+            return new LocalTransaction(connection, false);
+        }
+        connection.setAutoCommit(false);
+        return new LocalTransaction(connection, true);
+    }
+
+    /**
+     * Commits the transaction, if it was opened by {@link #begin(Connection)}.
+     *
+     * @throws SQLException if the commit fails
+     */
+    void commit() throws SQLException {
+        if (owned) {
+            connection.commit();
+        }
+    }
+
+    /**
+     * Rolls back whatever was not committed, which is a no-op after a
+     * successful commit, and restores autocommit mode.
+     *
+     * @throws SQLException if the rollback or the mode change fails
+     */
+    @Override
+    public void close() throws SQLException {
+        if (!owned) {
+            return;
+        }
+        connection.rollback();
+        connection.setAutoCommit(true);
+    }
+}
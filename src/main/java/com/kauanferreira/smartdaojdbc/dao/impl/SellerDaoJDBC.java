@@ -1,14 +1,20 @@
 package com.kauanferreira.smartdaojdbc.dao.impl;
 
 import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.dao.MultiGetResult;
 import com.kauanferreira.smartdaojdbc.dao.SellerDao;
+import com.kauanferreira.smartdaojdbc.dao.mapper.RowMapper;
+import com.kauanferreira.smartdaojdbc.dao.mapper.RowMappers;
 import com.kauanferreira.smartdaojdbc.entity.Department;
 import com.kauanferreira.smartdaojdbc.entity.Seller;
 import com.kauanferreira.smartdaojdbc.exception.DbException;
+import com.kauanferreira.smartdaojdbc.exception.DuplicateEntryException;
 import com.kauanferreira.smartdaojdbc.exception.EntityNotFoundException;
 
+import javax.sql.DataSource;
 import java.sql.*;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * JDBC implementation of the {@link SellerDao} interface.
@@ -21,12 +27,52 @@ import java.util.*;
  */
 public class SellerDaoJDBC implements SellerDao {
 
+    /** Connection bound to this DAO, or {@code null} when leasing from {@link #dataSource}. */
     private Connection connection;
 
+    /** Pool that lends a connection per operation, or {@code null} when bound to {@link #connection}. */
+    private DataSource dataSource;
+
+    /** Rows sent per round-trip by {@link #insertAll(Collection)} and {@link #updateAll(Collection)}. */
+    private final int batchSize = Integer.parseInt(DB.getProperty("batchSize", "500"));
+
+    /** Rows fetched per round-trip by {@link #forEach(Consumer)}. */
+    private final int fetchSize = Integer.parseInt(DB.getProperty("streamFetchSize", "500"));
+
+    /**
+     * Select list and join shared by every seller query. The {@code department_}
+     * labels fill the associated {@link Department} through {@link RowMappers}.
+     */
+    private static final String SELECT_SELLER =
+            "SELECT seller.Id, seller.Name, seller.Email, seller.BirthDate, seller.BaseSalary, seller.Version, "
+                    + "seller.DepartmentId AS department_id, department.Name AS department_name, "
+                    + "department.Version AS department_version "
+                    + "FROM seller INNER JOIN department "
+                    + "ON seller.DepartmentId = department.Id ";
+
+    /**
+     * Creates a new SellerDaoJDBC bound to the given database connection.
+     * Every operation runs on this connection, whose lifecycle is
+     * managed by the caller.
+     *
+     * @param connection the active database connection
+     */
     public SellerDaoJDBC(Connection connection) {
         this.connection = connection;
     }
 
+    /**
+     * Creates a new SellerDaoJDBC in connection-leasing mode.
+     * Each operation borrows a connection from the given pool
+     * and returns it as soon as the operation completes, so
+     * concurrent callers never share a single connection.
+     *
+     * @param dataSource the connection pool to borrow connections from
+     */
+    public SellerDaoJDBC(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -35,10 +81,11 @@ public class SellerDaoJDBC implements SellerDao {
      */
     @Override
     public void insert(Seller obj) {
+        Connection conn = acquireConnection();
         PreparedStatement preparedStatement = null;
 
         try {
-            preparedStatement = connection.prepareStatement(
+            preparedStatement = DB.prepareStatement(conn,
                     "INSERT INTO seller " +
                             "(name, email, birthdate, basesalary, departmentid) " +
                             "VALUES " +
@@ -67,9 +114,10 @@ public class SellerDaoJDBC implements SellerDao {
             if (e.getSQLState() != null && e.getSQLState().equals("23505")) {
                 throw new DuplicateFormatFlagsException("Email already exists: " + obj.getEmail());
             }
-            throw new DbException(e.getMessage());
+            throw new DbException(e.getMessage(), e);
         } finally {
             DB.closeStatement(preparedStatement);
+            releaseConnection(conn);
         }
     }
 
@@ -86,10 +134,11 @@ public class SellerDaoJDBC implements SellerDao {
      */
     @Override
     public void update(Seller obj) {
+        Connection conn = acquireConnection();
         PreparedStatement preparedStatement = null;
 
         try {
-            preparedStatement = connection.prepareStatement(
+            preparedStatement = DB.prepareStatement(conn,
                     "UPDATE seller " +
                             "SET name = ?, email = ?, birthdate = ?, basesalary = ?, departmentid = ? " +
                             "WHERE Id = ?"
@@ -104,9 +153,117 @@ public class SellerDaoJDBC implements SellerDao {
             preparedStatement.executeUpdate();
 
         } catch (SQLException e) {
-            throw new DbException(e.getMessage());
+            throw new DbException(e.getMessage(), e);
         } finally {
             DB.closeStatement(preparedStatement);
+            releaseConnection(conn);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Rows are sent in batches of {@code batchSize} (db.properties).
+     * With {@code reWriteBatchedInserts} enabled, PgJDBC folds each batch
+     * into multi-row INSERT statements. The generated ids are read back
+     * in insertion order after every batch.</p>
+     *
+     * @throws IllegalArgumentException if a seller lacks a birth date, base salary or department,
+     *                                  checked before any row is batched
+     */
+    @Override
+    public void insertAll(Collection<Seller> sellers) {
+        validateBatch(sellers, false);
+        Connection conn = acquireConnection();
+        PreparedStatement preparedStatement = null;
+
+        try (LocalTransaction transaction = LocalTransaction.begin(conn)) {
+            preparedStatement = DB.prepareStatement(conn,
+                    "INSERT INTO seller " +
+                            "(name, email, birthdate, basesalary, departmentid) " +
+                            "VALUES " +
+                            "(?, ?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS
+            );
+
+            List<Seller> pending = new ArrayList<>();
+
+            for (Seller obj : sellers) {
+                preparedStatement.setString(1, obj.getName());
+                preparedStatement.setString(2, obj.getEmail());
+                preparedStatement.setDate(3, new java.sql.Date(obj.getBirthDate().getTime()));
+                preparedStatement.setDouble(4, obj.getBaseSalary());
+                preparedStatement.setInt(5, obj.getDepartment().getId());
+                preparedStatement.addBatch();
+                pending.add(obj);
+
+                if (pending.size() == batchSize) {
+                    executeInsertBatch(preparedStatement, pending);
+                }
+            }
+            if (!pending.isEmpty()) {
+                executeInsertBatch(preparedStatement, pending);
+            }
+            transaction.commit();
+        } catch (SQLException e) {
+            if (isUniqueViolation(e)) {
+                throw new DuplicateEntryException("Email already exists: " + e.getMessage(), e);
+            }
+            throw new DbException(e.getMessage(), e);
+        } finally {
+            DB.closeStatement(preparedStatement);
+            releaseConnection(conn);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Rows are sent in batches of {@code batchSize} (db.properties).</p>
+     *
+     * @throws IllegalArgumentException if a seller lacks an id, birth date, base salary or department,
+     *                                  checked before any row is batched
+     */
+    @Override
+    public void updateAll(Collection<Seller> sellers) {
+        validateBatch(sellers, true);
+        Connection conn = acquireConnection();
+        PreparedStatement preparedStatement = null;
+
+        try (LocalTransaction transaction = LocalTransaction.begin(conn)) {
+            preparedStatement = DB.prepareStatement(conn,
+                    "UPDATE seller " +
+                            "SET name = ?, email = ?, birthdate = ?, basesalary = ?, departmentid = ? " +
+                            "WHERE Id = ?"
+            );
+
+            int pending = 0;
+
+            for (Seller obj : sellers) {
+                preparedStatement.setString(1, obj.getName());
+                preparedStatement.setString(2, obj.getEmail());
+                preparedStatement.setDate(3, new java.sql.Date(obj.getBirthDate().getTime()));
+                preparedStatement.setDouble(4, obj.getBaseSalary());
+                preparedStatement.setInt(5, obj.getDepartment().getId());
+                preparedStatement.setInt(6, obj.getId());
+                preparedStatement.addBatch();
+
+                if (++pending == batchSize) {
+                    preparedStatement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                preparedStatement.executeBatch();
+            }
+            transaction.commit();
+        } catch (SQLException e) {
+            if (isUniqueViolation(e)) {
+                throw new DuplicateEntryException("Email already exists: " + e.getMessage(), e);
+            }
+            throw new DbException(e.getMessage(), e);
+        } finally {
+            DB.closeStatement(preparedStatement);
+            releaseConnection(conn);
         }
     }
 
@@ -121,18 +278,20 @@ public class SellerDaoJDBC implements SellerDao {
      */
     @Override
     public void deleteById(Integer id) {
+        Connection conn = acquireConnection();
         PreparedStatement preparedStatement = null;
 
         try {
-            preparedStatement = connection.prepareStatement(
+            preparedStatement = DB.prepareStatement(conn,
                     "DELETE FROM seller WHERE id = ?"
             );
             preparedStatement.setInt(1, id);
             preparedStatement.executeUpdate();
         } catch (SQLException e) {
-            throw new DbException(e.getMessage());
+            throw new DbException(e.getMessage(), e);
         } finally {
             DB.closeStatement(preparedStatement);
+            releaseConnection(conn);
         }
     }
 
@@ -144,122 +303,171 @@ public class SellerDaoJDBC implements SellerDao {
      */
     @Override
     public Seller findById(Integer id) {
+        Connection conn = acquireConnection();
         PreparedStatement preparedStatement = null;
         ResultSet resultSet = null;
 
         try {
-            preparedStatement = connection.prepareStatement(
-                    "SELECT seller.*,department.Name as DepName " +
-                            "FROM seller INNER JOIN department " +
-                            "ON seller.DepartmentId = department.Id " +
+            preparedStatement = DB.prepareStatement(conn,
+                    SELECT_SELLER +
                             "WHERE seller.Id = ?"
             );
             preparedStatement.setInt(1, id);
             resultSet = preparedStatement.executeQuery();
+            RowMapper<Seller> mapper = RowMappers.forResultSet(Seller.class, resultSet);
 
             if (resultSet.next()) {
-                Department department = instantiateDepartment(resultSet);
-                return instantiateSeller(resultSet, department);
+                return mapper.mapRow(resultSet);
             }
             throw new EntityNotFoundException("Seller not found with id: " + id);
         } catch (SQLException e) {
-            throw new DbException(e.getMessage());
+            throw new DbException(e.getMessage(), e);
         } finally {
             DB.closeStatement(preparedStatement);
             DB.closeResultSet(resultSet);
+            releaseConnection(conn);
         }
     }
 
     /**
      * {@inheritDoc}
      *
-     * <p>Retrieves all sellers ordered by name, using a {@link Map}
-     * to avoid creating duplicate {@link Department} instances.</p>
+     * <p>The ids are sent as one {@code integer[]} parameter of
+     * {@code seller.Id = ANY(?)}, so any number of ids costs a single
+     * round-trip and a single cached statement.</p>
      */
     @Override
-    public List<Seller> findAll() {
+    public MultiGetResult<Seller> findByIds(Collection<Integer> ids) {
+        List<Integer> distinctIds = MultiGetResult.distinctIds(ids);
+
+        if (distinctIds.isEmpty()) {
+            return new MultiGetResult<>(List.of(), List.of());
+        }
+        Connection conn = acquireConnection();
         PreparedStatement preparedStatement = null;
         ResultSet resultSet = null;
+        Array array = null;
 
         try {
-            preparedStatement = connection.prepareStatement(
-                    "SELECT seller.*, department.Name as DepName "
-                            + "FROM seller INNER JOIN department "
-                            + "ON seller.DepartmentId = department.Id "
-                            + "ORDER BY Name"
+            preparedStatement = DB.prepareStatement(conn,
+                    SELECT_SELLER +
+                            "WHERE seller.Id = ANY(?)"
             );
-
+            array = conn.createArrayOf("integer", distinctIds.toArray());
+            preparedStatement.setArray(1, array);
             resultSet = preparedStatement.executeQuery();
-
-            List<Seller> sellers = new ArrayList<>();
-            Map<Integer, Department> map = new HashMap<>();
+            RowMapper<Seller> mapper = RowMappers.forResultSet(Seller.class, resultSet);
+            Map<Integer, Seller> found = new HashMap<>();
 
             while (resultSet.next()) {
-
-                Department dept = map.get(resultSet.getInt("departmentid"));
-
-                if (dept == null) {
-                    dept = instantiateDepartment(resultSet);
-                    map.put(resultSet.getInt("departmentid"), dept);
-                }
-
-                Seller seller = instantiateSeller(resultSet, dept);
-                sellers.add(seller);
+                Seller seller = mapper.mapRow(resultSet);
+                found.put(seller.getId(), seller);
             }
-            return sellers;
+            return MultiGetResult.of(distinctIds, found);
         } catch (SQLException e) {
-            throw new DbException(e.getMessage());
+            throw new DbException(e.getMessage(), e);
         } finally {
             DB.closeStatement(preparedStatement);
             DB.closeResultSet(resultSet);
+            DB.freeArray(array);
+            releaseConnection(conn);
         }
     }
 
     /**
      * {@inheritDoc}
      *
-     * <p>Performs an INNER JOIN with the department table and uses a
-     * {@link Map} to avoid creating duplicate {@link Department} instances
-     * when multiple sellers share the same department.</p>
+     * <p>Retrieves all sellers ordered by name. Sellers of the same
+     * department share a single {@link Department} instance.</p>
      */
     @Override
-    public List<Seller> findByDepartment(Department department) {
+    public List<Seller> findAll() {
+        Connection conn = acquireConnection();
         PreparedStatement preparedStatement = null;
         ResultSet resultSet = null;
 
         try {
-            preparedStatement = connection.prepareStatement(
-                    "SELECT seller.*, department.Name as DepName "
-                            + "FROM seller INNER JOIN department "
-                            + "ON seller.DepartmentId = department.Id "
-                            + "WHERE DepartmentId = ? "
+            preparedStatement = DB.prepareStatement(conn,
+                    SELECT_SELLER
                             + "ORDER BY Name"
             );
 
-            preparedStatement.setInt(1, department.getId());
             resultSet = preparedStatement.executeQuery();
+            return RowMappers.forResultSet(Seller.class, resultSet).mapAll(resultSet);
+        } catch (SQLException e) {
+            throw new DbException(e.getMessage(), e);
+        } finally {
+            DB.closeStatement(preparedStatement);
+            DB.closeResultSet(resultSet);
+            releaseConnection(conn);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>PostgreSQL only honors the JDBC fetch size through a server-side
+     * cursor, which requires autocommit to be off. When the connection is
+     * in autocommit mode, a short read-only transaction is opened for the
+     * duration of the scan and the previous mode restored afterwards.</p>
+     */
+    @Override
+    public void forEach(Consumer<Seller> action) {
+        Connection conn = acquireConnection();
+        PreparedStatement preparedStatement = null;
+        ResultSet resultSet = null;
 
-            List<Seller> sellers = new ArrayList<>();
-            Map<Integer, Department> map = new HashMap<>();
+        try (LocalTransaction transaction = LocalTransaction.begin(conn)) {
+            preparedStatement = conn.prepareStatement(
+                    SELECT_SELLER
+                            + "ORDER BY Name"
+            );
+            preparedStatement.setFetchSize(fetchSize);
+            resultSet = preparedStatement.executeQuery();
+            RowMapper<Seller> mapper = RowMappers.forResultSet(Seller.class, resultSet);
 
             while (resultSet.next()) {
+                action.accept(mapper.mapRow(resultSet));
+            }
+            transaction.commit();
+        } catch (SQLException e) {
+            throw new DbException(e.getMessage(), e);
+        } finally {
+            DB.closeResultSet(resultSet);
+            DB.closeStatement(preparedStatement);
+            releaseConnection(conn);
+        }
+    }
 
-                Department dept = map.get(resultSet.getInt("departmentid"));
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Performs an INNER JOIN with the department table; all sellers
+     * share a single {@link Department} instance. The filter is
+     * served by the {@code (departmentid, name)} index.</p>
+     */
+    @Override
+    public List<Seller> findByDepartment(Department department) {
+        Connection conn = acquireConnection();
+        PreparedStatement preparedStatement = null;
+        ResultSet resultSet = null;
 
-                if (dept == null) {
-                    dept = instantiateDepartment(resultSet);
-                    map.put(resultSet.getInt("departmentid"), dept);
-                }
+        try {
+            preparedStatement = DB.prepareStatement(conn,
+                    SELECT_SELLER
+                            + "WHERE DepartmentId = ? "
+                            + "ORDER BY Name"
+            );
 
-                Seller seller = instantiateSeller(resultSet, dept);
-                sellers.add(seller);
-            }
-            return sellers;
+            preparedStatement.setInt(1, department.getId());
+            resultSet = preparedStatement.executeQuery();
+            return RowMappers.forResultSet(Seller.class, resultSet).mapAll(resultSet);
         } catch (SQLException e) {
-            throw new DbException(e.getMessage());
+            throw new DbException(e.getMessage(), e);
         } finally {
             DB.closeStatement(preparedStatement);
             DB.closeResultSet(resultSet);
+            releaseConnection(conn);
         }
     }
 
@@ -271,40 +479,39 @@ public class SellerDaoJDBC implements SellerDao {
      */
     @Override
     public List<Seller> findByName(String name) {
+        return findByName(name, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The ILIKE pattern is served by the {@code pg_trgm} GIN index on
+     * {@code seller.Name}. LIKE wildcards in {@code name} are escaped, so
+     * they match literally instead of turning the search into a full scan.</p>
+     */
+    @Override
+    public List<Seller> findByName(String name, int limit) {
+        Connection conn = acquireConnection();
         PreparedStatement preparedStatement = null;
         ResultSet resultSet = null;
 
         try {
-            preparedStatement = connection.prepareStatement(
-                    "SELECT seller.*, department.Name as DepName "
-                            + "FROM seller INNER JOIN department "
-                            + "ON seller.DepartmentId = department.Id "
+            preparedStatement = DB.prepareStatement(conn,
+                    SELECT_SELLER
                             + "WHERE seller.Name ILIKE ? "
-                            + "ORDER BY Name"
+                            + "ORDER BY Name "
+                            + "LIMIT ?"
             );
-            preparedStatement.setString(1, "%" + name + "%");
+            preparedStatement.setString(1, "%" + escapeLikePattern(name) + "%");
+            preparedStatement.setInt(2, limit);
             resultSet = preparedStatement.executeQuery();
-
-            List<Seller> sellers = new ArrayList<>();
-            Map<Integer, Department> map = new HashMap<>();
-
-            while (resultSet.next()) {
-
-                Department dept = map.get(resultSet.getInt("departmentid"));
-
-                if (dept == null) {
-                    dept = instantiateDepartment(resultSet);
-                    map.put(resultSet.getInt("departmentid"), dept);
-                }
-
-                sellers.add(instantiateSeller(resultSet, dept));
-            }
-            return sellers;
+            return RowMappers.forResultSet(Seller.class, resultSet).mapAll(resultSet);
         } catch (SQLException e) {
-            throw new DbException(e.getMessage());
+            throw new DbException(e.getMessage(), e);
         } finally {
             DB.closeStatement(preparedStatement);
             DB.closeResultSet(resultSet);
+            releaseConnection(conn);
         }
     }
 
@@ -316,30 +523,30 @@ public class SellerDaoJDBC implements SellerDao {
      */
     @Override
     public Seller findByEmail(String email) {
+        Connection conn = acquireConnection();
         PreparedStatement preparedStatement = null;
         ResultSet resultSet = null;
 
         try {
-            preparedStatement = connection.prepareStatement(
-                    "SELECT seller.*, department.Name as DepName "
-                            + "FROM seller INNER JOIN department "
-                            + "ON seller.DepartmentId = department.Id "
+            preparedStatement = DB.prepareStatement(conn,
+                    SELECT_SELLER
                             + "WHERE seller.Email = ?"
             );
 
             preparedStatement.setString(1, email);
             resultSet = preparedStatement.executeQuery();
+            RowMapper<Seller> mapper = RowMappers.forResultSet(Seller.class, resultSet);
 
             if (resultSet.next()) {
-                Department dept = instantiateDepartment(resultSet);
-                return instantiateSeller(resultSet, dept);
+                return mapper.mapRow(resultSet);
             }
             throw new EntityNotFoundException("Seller not found with email: " + email);
         } catch (SQLException e) {
-            throw new DbException(e.getMessage());
+            throw new DbException(e.getMessage(), e);
         } finally {
             DB.closeStatement(preparedStatement);
             DB.closeResultSet(resultSet);
+            releaseConnection(conn);
         }
     }
 
@@ -351,41 +558,40 @@ public class SellerDaoJDBC implements SellerDao {
      */
     @Override
     public List<Seller> findByBirthMonth(int month) {
+        return findByBirthMonth(month, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The filter repeats the expression of the
+     * {@code idx_seller_birth_month_name} index verbatim, so the database
+     * reads the matching rows from the index already ordered by name.</p>
+     */
+    @Override
+    public List<Seller> findByBirthMonth(int month, int limit) {
+        Connection conn = acquireConnection();
         PreparedStatement preparedStatement = null;
         ResultSet resultSet = null;
 
         try {
-            preparedStatement = connection.prepareStatement(
-                    "SELECT seller.*, department.Name as DepName "
-                            + "FROM seller INNER JOIN department "
-                            + "ON seller.DepartmentId = department.Id "
-                            + "WHERE EXTRACT(MONTH FROM seller.BirthDate) = ? "
-                            + "ORDER BY Name"
+            preparedStatement = DB.prepareStatement(conn,
+                    SELECT_SELLER
+                            + "WHERE EXTRACT(MONTH FROM seller.BirthDate)::int = ? "
+                            + "ORDER BY seller.Name "
+                            + "LIMIT ?"
             );
 
             preparedStatement.setInt(1, month);
+            preparedStatement.setInt(2, limit);
             resultSet = preparedStatement.executeQuery();
-
-            List<Seller> sellers = new ArrayList<>();
-            Map<Integer, Department> map = new HashMap<>();
-
-            while (resultSet.next()) {
-
-                Department dept = map.get(resultSet.getInt("departmentid"));
-
-                if (dept == null) {
-                    dept = instantiateDepartment(resultSet);
-                    map.put(resultSet.getInt("departmentid"), dept);
-                }
-
-                sellers.add(instantiateSeller(resultSet, dept));
-            }
-            return sellers;
+            return RowMappers.forResultSet(Seller.class, resultSet).mapAll(resultSet);
         } catch (SQLException e) {
-            throw new DbException(e.getMessage());
+            throw new DbException(e.getMessage(), e);
         } finally {
             DB.closeStatement(preparedStatement);
             DB.closeResultSet(resultSet);
+            releaseConnection(conn);
         }
     }
 
@@ -393,79 +599,173 @@ public class SellerDaoJDBC implements SellerDao {
      * {@inheritDoc}
      *
      * <p>Uses SQL LIMIT and OFFSET for pagination.
-     * Results are ordered by name, using a {@link Map}
-     * to avoid creating duplicate {@link Department} instances.</p>
+     * Results are ordered by name, and sellers of the same department
+     * share a single {@link Department} instance.</p>
      */
     @Override
     public List<Seller> findAll(int page, int size) {
+        Connection conn = acquireConnection();
         PreparedStatement preparedStatement = null;
         ResultSet resultSet = null;
 
         try {
-            preparedStatement = connection.prepareStatement(
-                    "SELECT seller.*, department.Name as DepName "
-                            + "FROM seller INNER JOIN department "
-                            + "ON seller.DepartmentId = department.Id "
+            preparedStatement = DB.prepareStatement(conn,
+                    SELECT_SELLER
                             + "ORDER BY Name "
                             + "LIMIT ? OFFSET ?"
             );
             preparedStatement.setInt(1, size);
             preparedStatement.setInt(2, (page - 1) * size);
             resultSet = preparedStatement.executeQuery();
+            return RowMappers.forResultSet(Seller.class, resultSet).mapAll(resultSet);
+        } catch (SQLException e) {
+            throw new  DbException(e.getMessage(), e);
+        } finally {
+            DB.closeStatement(preparedStatement);
+            DB.closeResultSet(resultSet);
+            releaseConnection(conn);
+        }
+    }
 
-            List<Seller> sellers = new ArrayList<>();
-            Map<Integer, Department> map = new HashMap<>();
-
-            while (resultSet.next()) {
-
-                Department dept = map.get(resultSet.getInt("departmentid"));
-
-                if (dept == null) {
-                    dept = instantiateDepartment(resultSet);
-                    map.put(resultSet.getInt("departmentid"), dept);
-                }
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Uses a row value comparison on {@code (name, id)}, served by the
+     * composite index on the same columns, so every page costs the same
+     * regardless of how deep it is.</p>
+     */
+    @Override
+    public List<Seller> findAfter(String lastName, Integer lastId, int size) {
+        Connection conn = acquireConnection();
+        PreparedStatement preparedStatement = null;
+        ResultSet resultSet = null;
 
-                sellers.add(instantiateSeller(resultSet, dept));
+        try {
+            if (lastName == null || lastId == null) {
+                preparedStatement = DB.prepareStatement(conn,
+                        SELECT_SELLER
+                                + "ORDER BY seller.Name, seller.Id "
+                                + "LIMIT ?"
+                );
+                preparedStatement.setInt(1, size);
+            } else {
+                preparedStatement = DB.prepareStatement(conn,
+                        SELECT_SELLER
+                                + "WHERE (seller.Name, seller.Id) > (?, ?) "
+                                + "ORDER BY seller.Name, seller.Id "
+                                + "LIMIT ?"
+                );
+                preparedStatement.setString(1, lastName);
+                preparedStatement.setInt(2, lastId);
+                preparedStatement.setInt(3, size);
             }
-            return sellers;
+            resultSet = preparedStatement.executeQuery();
+            return RowMappers.forResultSet(Seller.class, resultSet).mapAll(resultSet);
         } catch (SQLException e) {
-            throw new  DbException(e.getMessage());
+            throw new DbException(e.getMessage(), e);
         } finally {
             DB.closeStatement(preparedStatement);
             DB.closeResultSet(resultSet);
+            releaseConnection(conn);
         }
     }
 
     /**
-     * Creates a {@link Department} instance from the current ResultSet row.
+     * Returns the connection to be used by a single operation.
+     * In leasing mode a connection is borrowed from the pool;
+     * otherwise the bound connection is reused.
      *
-     * @param resultSet the result set positioned at a valid row
-     * @return a new Department populated with database values
-     * @throws SQLException if a database access error occurs
+     * @return the connection for the current operation
      */
-    private Department instantiateDepartment(ResultSet resultSet) throws SQLException {
-        Department department = new Department();
-        department.setId(resultSet.getInt("departmentid"));
-        department.setName(resultSet.getString("DepName"));
-        return  department;
+    private Connection acquireConnection() {
+        return dataSource != null ? DB.getConnection(dataSource) : connection;
+    }
+
+    /**
+     * Checks that every seller holds the values bound by a batch, so a
+     * missing one fails before the first row is added instead of
+     * half-way through a batch.
+     *
+     * @param sellers   the sellers about to be batched
+     * @param requireId whether each seller must also have an id
+     * @throws IllegalArgumentException if a seller or one of its required values is missing
+     */
+    private static void validateBatch(Collection<Seller> sellers, boolean requireId) {
+        int position = 0;
+
+        for (Seller obj : sellers) {
+            if (obj == null) {
+                throw new IllegalArgumentException("Seller at position " + position + " is null");
+            }
+            if (requireId && obj.getId() == null) {
+                throw new IllegalArgumentException("Seller at position " + position + " has no id");
+            }
+            if (obj.getBirthDate() == null) {
+                throw new IllegalArgumentException("Seller at position " + position + " has no birth date");
+            }
+            if (obj.getBaseSalary() == null) {
+                throw new IllegalArgumentException("Seller at position " + position + " has no base salary");
+            }
+            if (obj.getDepartment() == null || obj.getDepartment().getId() == null) {
+                throw new IllegalArgumentException("Seller at position " + position + " has no department");
+            }
+            position++;
+        }
     }
 
     /**
-     * Creates a {@link Seller} instance from the current ResultSet row.
+     * Executes the pending insert batch and copies the generated ids,
+     * returned in insertion order, back into the pending sellers.
      *
-     * @param resultSet  the result set positioned at a valid row
-     * @param department the associated department
-     * @return a new Seller populated with database values
+     * @param preparedStatement the statement holding the batch
+     * @param pending           the sellers added to the batch, cleared afterwards
      * @throws SQLException if a database access error occurs
      */
-    private Seller instantiateSeller(ResultSet resultSet, Department department) throws SQLException {
-        Seller seller = new Seller();
-        seller.setId(resultSet.getInt("id"));
-        seller.setName(resultSet.getString("name"));
-        seller.setEmail(resultSet.getString("email"));
-        seller.setBirthDate(resultSet.getDate("birthdate"));
-        seller.setBaseSalary(resultSet.getDouble("basesalary"));
-        seller.setDepartment(department);
-        return seller;
+    private void executeInsertBatch(PreparedStatement preparedStatement, List<Seller> pending) throws SQLException {
+        preparedStatement.executeBatch();
+        ResultSet resultSet = preparedStatement.getGeneratedKeys();
+
+        try {
+            for (Seller obj : pending) {
+                if (resultSet.next()) {
+                    obj.setId(resultSet.getInt(1));
+                }
+            }
+        } finally {
+            DB.closeResultSet(resultSet);
+        }
+        pending.clear();
+    }
+
+    /**
+     * Checks whether a failure was caused by a unique constraint violation.
+     * Batch failures carry the original error as the next exception.
+     *
+     * @param e the exception thrown by the driver
+     * @return {@code true} for SQLState 23505
+     */
+    private boolean isUniqueViolation(SQLException e) {
+        SQLException cause = e.getNextException() != null ? e.getNextException() : e;
+        return "23505".equals(e.getSQLState()) || "23505".equals(cause.getSQLState());
+    }
+
+    /**
+     * Escapes the LIKE wildcards {@code %} and {@code _} and the escape
+     * character itself, so the given text is matched literally.
+     */
+    private static String escapeLikePattern(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * Returns a leased connection back to the pool.
+     * The bound connection is left open for its owner to close.
+     *
+     * @param conn the connection obtained from {@link #acquireConnection()}
+     */
+    private void releaseConnection(Connection conn) {
+        if (conn != connection) {
+            DB.closeConnection(conn);
+        }
     }
-}
\ No newline at end of file
+}
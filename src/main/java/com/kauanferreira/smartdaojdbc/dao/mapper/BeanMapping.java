@@ -0,0 +1,115 @@
+package com.kauanferreira.smartdaojdbc.dao.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Compiled mapping of one entity type from one result set shape.
+ * Holds the generated constructor and setters, the reader of every
+ * column and the nested mappings of associated entities.
+ *
+ * <p>Immutable and shared between threads; the per-result-set state
+ * lives in the mappers created by {@link #newMapper()}.</p>
+ *
+ * @param <T> the mapped entity type
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+final class BeanMapping<T> {
+
+    private final Supplier<T> constructor;
+    private final int[] columns;
+    private final ColumnReader[] readers;
+    private final BiConsumer<Object, Object>[] setters;
+    private final Association[] associations;
+
+    /** Column holding the id of the entity, {@code -1} if the shape has none. */
+    private final int idColumn;
+    private final ColumnReader idReader;
+
+    BeanMapping(Supplier<T> constructor, int[] columns, ColumnReader[] readers,
+                BiConsumer<Object, Object>[] setters, Association[] associations,
+                int idColumn, ColumnReader idReader) {
+        this.constructor = constructor;
+        this.columns = columns;
+        this.readers = readers;
+        this.setters = setters;
+        this.associations = associations;
+        this.idColumn = idColumn;
+        this.idReader = idReader;
+    }
+
+    /**
+     * Creates a mapper for a single result set of this shape.
+     *
+     * @return a new row mapper
+     */
+    RowMapper<T> newMapper() {
+        if (associations.length == 0) {
+            return resultSet -> map(resultSet, null);
+        }
+        Map<BeanMapping<?>, Map<Object, Object>> identities = new IdentityHashMap<>();
+        return resultSet -> map(resultSet, identities);
+    }
+
+    private T map(ResultSet resultSet, Map<BeanMapping<?>, Map<Object, Object>> identities) throws SQLException {
+        T bean = constructor.get();
+
+        for (int i = 0; i < columns.length; i++) {
+            setters[i].accept(bean, readers[i].read(resultSet, columns[i]));
+        }
+        for (Association association : associations) {
+            association.setter().accept(bean, association.mapping().mapShared(resultSet, identities));
+        }
+        return bean;
+    }
+
+    /**
+     * Maps an associated entity, reusing the instance already built for
+     * the same id in this result set. Returns {@code null} when the id
+     * column is null, as produced by an unmatched outer join.
+     */
+    private Object mapShared(ResultSet resultSet, Map<BeanMapping<?>, Map<Object, Object>> identities)
+            throws SQLException {
+        if (idColumn < 0) {
+            return map(resultSet, identities);
+        }
+        Object id = idReader.read(resultSet, idColumn);
+
+        if (id == null) {
+            return null;
+        }
+        Map<Object, Object> instances = identities.computeIfAbsent(this, mapping -> new HashMap<>());
+        Object bean = instances.get(id);
+
+        if (bean == null) {
+            bean = map(resultSet, identities);
+            instances.put(id, bean);
+        }
+        return bean;
+    }
+
+    /**
+     * Reads one column of the current row, converted to the type of its property.
+     */
+    @FunctionalInterface
+    interface ColumnReader {
+
+        Object read(ResultSet resultSet, int column) throws SQLException;
+    }
+
+    /**
+     * Property holding an associated entity, mapped from its own group of columns.
+     *
+     * @param setter  the generated setter of the property
+     * @param mapping the mapping of the associated entity
+     */
+    record Association(BiConsumer<Object, Object> setter, BeanMapping<?> mapping) {
+    }
+}
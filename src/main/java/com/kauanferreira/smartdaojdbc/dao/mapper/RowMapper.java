@@ -0,0 +1,47 @@
+package com.kauanferreira.smartdaojdbc.dao.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps the current row of a {@link ResultSet} to an object.
+ *
+ * <p>Instances returned by {@link RowMappers#forResultSet(Class, ResultSet)}
+ * belong to a single result set: they may keep state across its rows,
+ * such as the associated objects already built.</p>
+ *
+ * @param <T> the type of the mapped objects
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    /**
+     * Creates an object from the current row.
+     *
+     * @param resultSet the result set positioned at a valid row
+     * @return a new object populated with the row values
+     * @throws SQLException if a database access error occurs
+     */
+    T mapRow(ResultSet resultSet) throws SQLException;
+
+    /**
+     * Maps every remaining row of the result set.
+     *
+     * @param resultSet the result set, positioned before its first unread row
+     * @return the mapped objects, in row order
+     * @throws SQLException if a database access error occurs
+     */
+    default List<T> mapAll(ResultSet resultSet) throws SQLException {
+        List<T> rows = new ArrayList<>();
+
+        while (resultSet.next()) {
+            rows.add(mapRow(resultSet));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,275 @@
+package com.kauanferreira.smartdaojdbc.dao.mapper;
+
+import com.kauanferreira.smartdaojdbc.exception.DbException;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Builds and caches {@link RowMapper}s for entity classes.
+ *
+ * <p>A mapping is compiled once per entity type and result set shape
+ * (the ordered column labels), then reused by every query returning
+ * that shape. The constructor and setters are bound through
+ * {@link LambdaMetafactory}, so mapping a row is a sequence of plain
+ * interface calls with no reflection and no label lookups.</p>
+ *
+ * <p>Column labels are matched to setters ignoring case and underscores
+ * ({@code birth_date} and {@code birthdate} both fill {@code setBirthDate}).
+ * A label of the form {@code property_column} fills the {@code column}
+ * of the entity held by {@code property}, so
+ * {@code department_id, department_name} build the {@code Department}
+ * of a {@code Seller}. Associated entities with an {@code id} column
+ * are built once per id within a result set and shared by its rows.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public final class RowMappers {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /** Compiled mappings indexed by entity type and column labels. */
+    private static final Map<Shape, BeanMapping<?>> mappings = new ConcurrentHashMap<>();
+
+    private RowMappers() {
+    }
+
+    /**
+     * Returns a mapper of the given entity type for the given result set,
+     * compiling its mapping on the first use of this shape.
+     *
+     * @param type      the entity class, with a public no-argument constructor and setters
+     * @param resultSet the result set the mapper will read
+     * @param <T>       the entity type
+     * @return a mapper valid for this result set only
+     * @throws SQLException if the result set metadata cannot be read
+     * @throws DbException  if a column matches no property of the entity
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RowMapper<T> forResultSet(Class<T> type, ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        List<String> labels = new ArrayList<>(metaData.getColumnCount());
+
+        for (int column = 1; column <= metaData.getColumnCount(); column++) {
+            labels.add(metaData.getColumnLabel(column).toLowerCase(Locale.ROOT));
+        }
+        BeanMapping<T> mapping = (BeanMapping<T>) mappings.computeIfAbsent(
+                new Shape(type, labels), shape -> compile(type, indexColumns(labels)));
+        return mapping.newMapper();
+    }
+
+    /**
+     * Returns the number of compiled mappings currently cached.
+     *
+     * @return the number of distinct entity type and result set shape pairs seen so far
+     */
+    public static int getCachedMappings() {
+        return mappings.size();
+    }
+
+    private static Map<String, Integer> indexColumns(List<String> labels) {
+        Map<String, Integer> columns = new LinkedHashMap<>();
+
+        for (int i = 0; i < labels.size(); i++) {
+            columns.put(labels.get(i), i + 1);
+        }
+        return columns;
+    }
+
+    /**
+     * Compiles the mapping of a type from the given columns, indexed by
+     * lowercase label, recursing into the columns of associated entities.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> BeanMapping<T> compile(Class<T> type, Map<String, Integer> columns) {
+        Map<String, Method> properties = findSetters(type);
+        List<Integer> indexes = new ArrayList<>();
+        List<BeanMapping.ColumnReader> readers = new ArrayList<>();
+        List<BiConsumer<Object, Object>> setters = new ArrayList<>();
+        Map<String, Map<String, Integer>> associatedColumns = new LinkedHashMap<>();
+        int idColumn = -1;
+        BeanMapping.ColumnReader idReader = null;
+
+        for (Map.Entry<String, Integer> column : columns.entrySet()) {
+            String label = column.getKey();
+            Method setter = properties.get(label.replace("_", ""));
+
+            if (setter != null && isSimple(setter.getParameterTypes()[0])) {
+                BeanMapping.ColumnReader reader = readerFor(setter.getParameterTypes()[0]);
+                indexes.add(column.getValue());
+                readers.add(reader);
+                setters.add(bindSetter(type, setter));
+
+                if (label.equals("id")) {
+                    idColumn = column.getValue();
+                    idReader = reader;
+                }
+                continue;
+            }
+
+            int separator = label.indexOf('_');
+            Method association = separator > 0 ? properties.get(label.substring(0, separator)) : null;
+
+            if (association == null || isSimple(association.getParameterTypes()[0])) {
+                throw new DbException("Column '" + label + "' matches no property of " + type.getSimpleName());
+            }
+            associatedColumns
+                    .computeIfAbsent(label.substring(0, separator), property -> new LinkedHashMap<>())
+                    .put(label.substring(separator + 1), column.getValue());
+        }
+
+        List<BeanMapping.Association> associations = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Integer>> group : associatedColumns.entrySet()) {
+            Method setter = properties.get(group.getKey());
+            associations.add(new BeanMapping.Association(
+                    bindSetter(type, setter), compile(setter.getParameterTypes()[0], group.getValue())));
+        }
+
+        return new BeanMapping<>(
+                bindConstructor(type),
+                indexes.stream().mapToInt(Integer::intValue).toArray(),
+                readers.toArray(new BeanMapping.ColumnReader[0]),
+                setters.toArray(new BiConsumer[0]),
+                associations.toArray(new BeanMapping.Association[0]),
+                idColumn,
+                idReader
+        );
+    }
+
+    /**
+     * Indexes the public setters of a type by property name,
+     * lowercase and without underscores.
+     */
+    private static Map<String, Method> findSetters(Class<?> type) {
+        Map<String, Method> setters = new HashMap<>();
+
+        for (Method method : type.getMethods()) {
+            if (method.getName().startsWith("set") && method.getName().length() > 3
+                    && method.getParameterCount() == 1 && !Modifier.isStatic(method.getModifiers())) {
+                setters.put(method.getName().substring(3).toLowerCase(Locale.ROOT), method);
+            }
+        }
+        return setters;
+    }
+
+    /**
+     * Returns whether a property type is read from a single column,
+     * as opposed to an entity mapped from a group of columns.
+     */
+    private static boolean isSimple(Class<?> type) {
+        return type.isPrimitive() || type.isEnum() || type.getName().startsWith("java.");
+    }
+
+    private static BeanMapping.ColumnReader readerFor(Class<?> type) {
+        if (type == int.class) {
+            return ResultSet::getInt;
+        }
+        if (type == Integer.class) {
+            return (resultSet, column) -> {
+                int value = resultSet.getInt(column);
+                return resultSet.wasNull() ? null : value;
+            };
+        }
+        if (type == long.class) {
+            return ResultSet::getLong;
+        }
+        if (type == Long.class) {
+            return (resultSet, column) -> {
+                long value = resultSet.getLong(column);
+                return resultSet.wasNull() ? null : value;
+            };
+        }
+        if (type == double.class) {
+            return ResultSet::getDouble;
+        }
+        if (type == Double.class) {
+            return (resultSet, column) -> {
+                double value = resultSet.getDouble(column);
+                return resultSet.wasNull() ? null : value;
+            };
+        }
+        if (type == boolean.class) {
+            return ResultSet::getBoolean;
+        }
+        if (type == Boolean.class) {
+            return (resultSet, column) -> {
+                boolean value = resultSet.getBoolean(column);
+                return resultSet.wasNull() ? null : value;
+            };
+        }
+        if (type == String.class) {
+            return ResultSet::getString;
+        }
+        if (type == BigDecimal.class) {
+            return ResultSet::getBigDecimal;
+        }
+        if (type == java.util.Date.class || type == java.sql.Date.class) {
+            return ResultSet::getDate;
+        }
+        if (type == Timestamp.class) {
+            return ResultSet::getTimestamp;
+        }
+        return (resultSet, column) -> resultSet.getObject(column, type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Supplier<T> bindConstructor(Class<T> type) {
+        try {
+            MethodHandle constructor = LOOKUP.findConstructor(type, MethodType.methodType(void.class));
+            CallSite site = LambdaMetafactory.metafactory(LOOKUP, "get",
+                    MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class),
+                    constructor,
+                    MethodType.methodType(type));
+            return (Supplier<T>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            throw new DbException("Cannot bind the no-argument constructor of " + type.getName() + ": " + e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> bindSetter(Class<?> type, Method method) {
+        try {
+            MethodHandle setter = LOOKUP.unreflect(method);
+            Class<?> parameter = MethodType.methodType(method.getParameterTypes()[0]).wrap().returnType();
+            CallSite site = LambdaMetafactory.metafactory(LOOKUP, "accept",
+                    MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class),
+                    setter,
+                    MethodType.methodType(void.class, type, parameter));
+            return (BiConsumer<Object, Object>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            throw new DbException("Cannot bind " + type.getName() + "." + method.getName() + ": " + e);
+        }
+    }
+
+    /**
+     * Cache key of a compiled mapping.
+     *
+     * @param type   the entity class
+     * @param labels the lowercase column labels, in result set order
+     */
+    private record Shape(Class<?> type, List<String> labels) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.kauanferreira.smartdaojdbc.dao.metrics;
+
+import com.kauanferreira.smartdaojdbc.dao.DepartmentDao;
+import com.kauanferreira.smartdaojdbc.dao.MultiGetResult;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Decorator for {@link DepartmentDao} that publishes the latency, returned
+ * rows and errors of every call through {@link DaoMetrics}, tagged
+ * {@code dao=department}.
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class MeteredDepartmentDao implements DepartmentDao {
+
+    private final DepartmentDao delegate;
+
+    private final DaoMetrics metrics;
+
+    /**
+     * Creates a new metered decorator.
+     *
+     * @param delegate the DAO whose calls are measured
+     * @param registry the registry the meters are published to
+     */
+    public MeteredDepartmentDao(DepartmentDao delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.metrics = new DaoMetrics(registry, "department");
+    }
+
+    @Override
+    public void insert(Department obj) {
+        metrics.write("insert", () -> delegate.insert(obj));
+    }
+
+    @Override
+    public void update(Department obj) {
+        metrics.write("update", () -> delegate.update(obj));
+    }
+
+    @Override
+    public void insertAll(Collection<Department> departments) {
+        metrics.write("insertAll", () -> delegate.insertAll(departments));
+    }
+
+    @Override
+    public void updateAll(Collection<Department> departments) {
+        metrics.write("updateAll", () -> delegate.updateAll(departments));
+    }
+
+    @Override
+    public void deleteById(Integer id) {
+        metrics.write("deleteById", () -> delegate.deleteById(id));
+    }
+
+    @Override
+    public Department findById(Integer id) {
+        return metrics.read("findById", () -> delegate.findById(id), department -> Objects.isNull(department) ? 0 : 1);
+    }
+
+    @Override
+    public MultiGetResult<Department> findByIds(Collection<Integer> ids) {
+        return metrics.read("findByIds", () -> delegate.findByIds(ids), result -> result.items().size());
+    }
+
+    @Override
+    public List<Department> findAll() {
+        return metrics.read("findAll", delegate::findAll, List::size);
+    }
+
+    @Override
+    public List<Department> findAll(int page, int size) {
+        return metrics.read("findAllPage", () -> delegate.findAll(page, size), List::size);
+    }
+
+    @Override
+    public List<Department> findAfter(String lastName, Integer lastId, int size) {
+        return metrics.read("findAfter", () -> delegate.findAfter(lastName, lastId, size), List::size);
+    }
+}
@@ -0,0 +1,141 @@
+package com.kauanferreira.smartdaojdbc.dao.metrics;
+
+import com.kauanferreira.smartdaojdbc.dao.MultiGetResult;
+import com.kauanferreira.smartdaojdbc.dao.SellerDao;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+import com.kauanferreira.smartdaojdbc.entity.Seller;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Decorator for {@link SellerDao} that publishes the latency, returned
+ * rows and errors of every call through {@link DaoMetrics}, tagged
+ * {@code dao=seller}.
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class MeteredSellerDao implements SellerDao {
+
+    private final SellerDao delegate;
+
+    private final DaoMetrics metrics;
+
+    /**
+     * Creates a new metered decorator.
+     *
+     * @param delegate the DAO whose calls are measured
+     * @param registry the registry the meters are published to
+     */
+    public MeteredSellerDao(SellerDao delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.metrics = new DaoMetrics(registry, "seller");
+    }
+
+    @Override
+    public void insert(Seller obj) {
+        metrics.write("insert", () -> delegate.insert(obj));
+    }
+
+    @Override
+    public void update(Seller obj) {
+        metrics.write("update", () -> delegate.update(obj));
+    }
+
+    @Override
+    public void insertAll(Collection<Seller> sellers) {
+        metrics.write("insertAll", () -> delegate.insertAll(sellers));
+    }
+
+    @Override
+    public void updateAll(Collection<Seller> sellers) {
+        metrics.write("updateAll", () -> delegate.updateAll(sellers));
+    }
+
+    @Override
+    public void deleteById(Integer id) {
+        metrics.write("deleteById", () -> delegate.deleteById(id));
+    }
+
+    @Override
+    public Seller findById(Integer id) {
+        return metrics.read("findById", () -> delegate.findById(id), MeteredSellerDao::count);
+    }
+
+    @Override
+    public MultiGetResult<Seller> findByIds(Collection<Integer> ids) {
+        return metrics.read("findByIds", () -> delegate.findByIds(ids), result -> result.items().size());
+    }
+
+    @Override
+    public List<Seller> findAll() {
+        return metrics.read("findAll", delegate::findAll, List::size);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The time measured includes the time spent in {@code action}.</p>
+     */
+    @Override
+    public void forEach(Consumer<Seller> action) {
+        AtomicInteger rows = new AtomicInteger();
+        metrics.read("forEach", () -> {
+            delegate.forEach(seller -> {
+                rows.incrementAndGet();
+                action.accept(seller);
+            });
+            return rows;
+        }, AtomicInteger::get);
+    }
+
+    @Override
+    public List<Seller> findByDepartment(Department department) {
+        return metrics.read("findByDepartment", () -> delegate.findByDepartment(department), List::size);
+    }
+
+    @Override
+    public List<Seller> findByName(String name) {
+        return metrics.read("findByName", () -> delegate.findByName(name), List::size);
+    }
+
+    @Override
+    public List<Seller> findByName(String name, int limit) {
+        return metrics.read("findByName", () -> delegate.findByName(name, limit), List::size);
+    }
+
+    @Override
+    public Seller findByEmail(String email) {
+        return metrics.read("findByEmail", () -> delegate.findByEmail(email), MeteredSellerDao::count);
+    }
+
+    @Override
+    public List<Seller> findByBirthMonth(int month) {
+        return metrics.read("findByBirthMonth", () -> delegate.findByBirthMonth(month), List::size);
+    }
+
+    @Override
+    public List<Seller> findByBirthMonth(int month, int limit) {
+        return metrics.read("findByBirthMonth", () -> delegate.findByBirthMonth(month, limit), List::size);
+    }
+
+    @Override
+    public List<Seller> findAll(int page, int size) {
+        return metrics.read("findAllPage", () -> delegate.findAll(page, size), List::size);
+    }
+
+    @Override
+    public List<Seller> findAfter(String lastName, Integer lastId, int size) {
+        return metrics.read("findAfter", () -> delegate.findAfter(lastName, lastId, size), List::size);
+    }
+
+    private static int count(Seller seller) {
+        return Objects.isNull(seller) ? 0 : 1;
+    }
+}
@@ -0,0 +1,42 @@
+package com.kauanferreira.smartdaojdbc.dao.routing;
+
+import java.time.Duration;
+
+/**
+ * Keeps reads on the primary for a short window after a write, so that
+ * a write is not followed by a read from a replica that has not yet
+ * replayed it. This also keeps the caches above the routing DAOs from
+ * reloading an invalidated entry from a lagging replica.
+ *
+ * <p>The window is shared by every caller of a routing DAO: it trades a
+ * few primary reads after each write for not tracking sessions.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+class ReadYourWrites {
+
+    /** Window length in nanoseconds; {@code 0} disables it. */
+    private final long windowNanos;
+
+    /** {@link System#nanoTime()} until which reads go to the primary. */
+    private volatile long primaryUntil;
+
+    ReadYourWrites(Duration window) {
+        this.windowNanos = window.toNanos();
+        this.primaryUntil = System.nanoTime();
+    }
+
+    /** Records a write, opening the window. */
+    void wrote() {
+        if (windowNanos > 0) {
+            primaryUntil = System.nanoTime() + windowNanos;
+        }
+    }
+
+    /** Tells whether reads must still go to the primary. */
+    boolean readFromPrimary() {
+        return windowNanos > 0 && System.nanoTime() - primaryUntil < 0;
+    }
+}
@@ -0,0 +1,123 @@
+package com.kauanferreira.smartdaojdbc.dao.routing;
+
+import com.kauanferreira.smartdaojdbc.dao.DepartmentDao;
+import com.kauanferreira.smartdaojdbc.dao.MultiGetResult;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Decorator for {@link DepartmentDao} sending writes to a DAO on the
+ * primary and queries to a DAO on the read replicas, with the same
+ * read-your-writes window as {@link RoutingSellerDao}.
+ *
+ * @author Kauan
+ * @version 1.1
+ * @since 2026
+ */
+public class RoutingDepartmentDao implements DepartmentDao {
+
+    private final DepartmentDao primary;
+
+    private final DepartmentDao replica;
+
+    private final ReadYourWrites readYourWrites;
+
+    /**
+     * Creates a new routing decorator.
+     *
+     * @param primary        the DAO leasing connections from the primary
+     * @param replica        the DAO leasing connections from the replicas
+     * @param readYourWrites how long queries stay on the primary after a write, {@link Duration#ZERO} to disable
+     */
+    public RoutingDepartmentDao(DepartmentDao primary, DepartmentDao replica, Duration readYourWrites) {
+        this.primary = primary;
+        this.replica = replica;
+        this.readYourWrites = new ReadYourWrites(readYourWrites);
+    }
+
+    @Override
+    public void insert(Department obj) {
+        try {
+            primary.insert(obj);
+        } finally {
+            readYourWrites.wrote();
+        }
+    }
+
+    @Override
+    public void update(Department obj) {
+        try {
+            primary.update(obj);
+        } finally {
+            readYourWrites.wrote();
+        }
+    }
+
+    @Override
+    public void insertAll(Collection<Department> departments) {
+        try {
+            primary.insertAll(departments);
+        } finally {
+            readYourWrites.wrote();
+        }
+    }
+
+    @Override
+    public void updateAll(Collection<Department> departments) {
+        try {
+            primary.updateAll(departments);
+        } finally {
+            readYourWrites.wrote();
+        }
+    }
+
+    @Override
+    public void deleteById(Integer id) {
+        try {
+            primary.deleteById(id);
+        } finally {
+            readYourWrites.wrote();
+        }
+    }
+
+    @Override
+    public Department findById(Integer id) {
+        return reader().findById(id);
+    }
+
+    @Override
+    public MultiGetResult<Department> findByIds(Collection<Integer> ids) {
+        return reader().findByIds(ids);
+    }
+
+    @Override
+    public List<Department> findAll() {
+        return reader().findAll();
+    }
+
+    @Override
+    public List<Department> findAll(int page, int size) {
+        return reader().findAll(page, size);
+    }
+
+    @Override
+    public List<Department> findAfter(String lastName, Integer lastId, int size) {
+        return reader().findAfter(lastName, lastId, size);
+    }
+
+    /**
+     * Records a write made around this DAO, such as a unit of work or a
+     * bulk import, opening the read-your-writes window as if the write
+     * had gone through it.
+     */
+    public void wrote() {
+        readYourWrites.wrote();
+    }
+
+    private DepartmentDao reader() {
+        return readYourWrites.readFromPrimary() ? primary : replica;
+    }
+}
@@ -0,0 +1,164 @@
+package com.kauanferreira.smartdaojdbc.dao.routing;
+
+import com.kauanferreira.smartdaojdbc.dao.MultiGetResult;
+import com.kauanferreira.smartdaojdbc.dao.SellerDao;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+import com.kauanferreira.smartdaojdbc.entity.Seller;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Decorator for {@link SellerDao} sending writes to a DAO on the primary
+ * and queries to a DAO on the read replicas.
+ *
+ * <p>For a window after each write, queries go to the primary too, see
+ * {@link ReadYourWrites}. Work that needs to read its own writes for
+ * longer runs in a {@link com.kauanferreira.smartdaojdbc.dao.UnitOfWork},
+ * whose DAOs stay on the primary connection of the transaction.</p>
+ *
+ * @author Kauan
+ * @version 1.1
+ * @since 2026
+ */
+public class RoutingSellerDao implements SellerDao {
+
+    private final SellerDao primary;
+
+    private final SellerDao replica;
+
+    private final ReadYourWrites readYourWrites;
+
+    /**
+     * Creates a new routing decorator.
+     *
+     * @param primary        the DAO leasing connections from the primary
+     * @param replica        the DAO leasing connections from the replicas
+     * @param readYourWrites how long queries stay on the primary after a write, {@link Duration#ZERO} to disable
+     */
+    public RoutingSellerDao(SellerDao primary, SellerDao replica, Duration readYourWrites) {
+        this.primary = primary;
+        this.replica = replica;
+        this.readYourWrites = new ReadYourWrites(readYourWrites);
+    }
+
+    @Override
+    public void insert(Seller obj) {
+        try {
+            primary.insert(obj);
+        } finally {
+            readYourWrites.wrote();
+        }
+    }
+
+    @Override
+    public void update(Seller obj) {
+        try {
+            primary.update(obj);
+        } finally {
+            readYourWrites.wrote();
+        }
+    }
+
+    @Override
+    public void insertAll(Collection<Seller> sellers) {
+        try {
+            primary.insertAll(sellers);
+        } finally {
+            readYourWrites.wrote();
+        }
+    }
+
+    @Override
+    public void updateAll(Collection<Seller> sellers) {
+        try {
+            primary.updateAll(sellers);
+        } finally {
+            readYourWrites.wrote();
+        }
+    }
+
+    @Override
+    public void deleteById(Integer id) {
+        try {
+            primary.deleteById(id);
+        } finally {
+            readYourWrites.wrote();
+        }
+    }
+
+    @Override
+    public Seller findById(Integer id) {
+        return reader().findById(id);
+    }
+
+    @Override
+    public MultiGetResult<Seller> findByIds(Collection<Integer> ids) {
+        return reader().findByIds(ids);
+    }
+
+    @Override
+    public List<Seller> findAll() {
+        return reader().findAll();
+    }
+
+    @Override
+    public void forEach(Consumer<Seller> action) {
+        reader().forEach(action);
+    }
+
+    @Override
+    public List<Seller> findByDepartment(Department department) {
+        return reader().findByDepartment(department);
+    }
+
+    @Override
+    public List<Seller> findByName(String name) {
+        return reader().findByName(name);
+    }
+
+    @Override
+    public List<Seller> findByName(String name, int limit) {
+        return reader().findByName(name, limit);
+    }
+
+    @Override
+    public Seller findByEmail(String email) {
+        return reader().findByEmail(email);
+    }
+
+    @Override
+    public List<Seller> findByBirthMonth(int month) {
+        return reader().findByBirthMonth(month);
+    }
+
+    @Override
+    public List<Seller> findByBirthMonth(int month, int limit) {
+        return reader().findByBirthMonth(month, limit);
+    }
+
+    @Override
+    public List<Seller> findAll(int page, int size) {
+        return reader().findAll(page, size);
+    }
+
+    @Override
+    public List<Seller> findAfter(String lastName, Integer lastId, int size) {
+        return reader().findAfter(lastName, lastId, size);
+    }
+
+    /**
+     * Records a write made around this DAO, such as a unit of work or a
+     * bulk import, opening the read-your-writes window as if the write
+     * had gone through it.
+     */
+    public void wrote() {
+        readYourWrites.wrote();
+    }
+
+    private SellerDao reader() {
+        return readYourWrites.readFromPrimary() ? primary : replica;
+    }
+}
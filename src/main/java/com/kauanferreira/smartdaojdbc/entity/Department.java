@@ -12,7 +12,7 @@ import java.util.Objects;
  * following the database primary key convention.</p>
  *
  * @author Kauan
- * @version 1.0
+ * @version 1.1
  * @since 2026
  */
 
@@ -27,6 +27,9 @@ public class Department implements Serializable {
     /** Department name. */
     private String name;
 
+    /** Row version, incremented by the database on every update. */
+    private Long version;
+
     /**
      * Default no-args constructor required for frameworks and serialization.
      */
@@ -88,6 +91,24 @@ public class Department implements Serializable {
         this.name = name;
     }
 
+    /**
+     * Returns the row version as of when this department was read from the database.
+     *
+     * @return the version, or {@code null} if this department was not read from the database
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the row version. Filled by the DAOs; writes ignore it.
+     *
+     * @param version the row version read from the database
+     */
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     /**
      * Compares this department with another object for equality.
      * Two departments are equal if they share the same {@code id}.
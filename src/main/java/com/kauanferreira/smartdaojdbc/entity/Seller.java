@@ -14,7 +14,7 @@ import java.util.Objects;
  * following the database primary key convention.</p>
  *
  * @author Kauan
- * @version 1.0
+ * @version 1.1
  * @since 2026
  */
 public class Seller implements Serializable {
@@ -40,6 +40,9 @@ public class Seller implements Serializable {
     /** Department to which the seller belongs. */
     private Department department;
 
+    /** Row version, incremented by the database on every update. */
+    private Long version;
+
     /**
      * Default no-args constructor required for frameworks and serialization.
      */
@@ -192,6 +195,24 @@ public class Seller implements Serializable {
         this.department = department;
     }
 
+    /**
+     * Returns the row version as of when this seller was read from the database.
+     *
+     * @return the version, or {@code null} if this seller was not read from the database
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the row version. Filled by the DAOs; writes ignore it.
+     *
+     * @param version the row version read from the database
+     */
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     /**
      * Compares this seller with another object for equality.
      * Two sellers are equal if they share the same {@code id}.
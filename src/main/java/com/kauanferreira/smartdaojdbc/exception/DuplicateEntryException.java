@@ -1,16 +1,20 @@
-package com.kauanferreira.smartdaojdbc.exception;
-
-/**
- * Thrown when attempting to insert a duplicate record
- * that violates a unique constraint in the database.
- *
- * @author Kauan
- * @version 1.0
- * @since 2026
- */
-
-public class DuplicateEntryException extends RuntimeException {
-    public DuplicateEntryException(String message) {
-        super(message);
-    }
-}
+package com.kauanferreira.smartdaojdbc.exception;
+
+/**
+ * Thrown when attempting to insert a duplicate record
+ * that violates a unique constraint in the database.
+ *
+ * @author Kauan
+ * @version 1.1
+ * @since 2026
+ */
+
+public class DuplicateEntryException extends RuntimeException {
+    public DuplicateEntryException(String message) {
+        super(message);
+    }
+
+    public DuplicateEntryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,5 @@
+-- Composite (name, id) indexes backing keyset pagination (findAfter).
+-- The id column makes the key unique, so rows sharing a name are never skipped.
+CREATE INDEX idx_seller_name_id ON seller (name, id);
+
+CREATE INDEX idx_department_name_id ON department (name, id);
@@ -0,0 +1,5 @@
+-- Trigram index backing the case-insensitive substring search (findByName).
+-- A B-tree cannot serve ILIKE '%x%'; a pg_trgm GIN index can, for patterns of 3+ characters.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_seller_name_trgm ON seller USING gin (name gin_trgm_ops);
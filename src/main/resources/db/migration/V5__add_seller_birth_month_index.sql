@@ -0,0 +1,4 @@
+-- Expression index backing findByBirthMonth. The query filters on the same
+-- EXTRACT(MONTH ...)::int expression, and the trailing name column returns
+-- the rows already in the ORDER BY name order, so the LIMIT stops early.
+CREATE INDEX idx_seller_birth_month_name ON seller ((EXTRACT(MONTH FROM birthdate)::int), name);
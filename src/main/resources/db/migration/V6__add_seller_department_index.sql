@@ -0,0 +1,4 @@
+-- Index on the seller -> department foreign key, which PostgreSQL does not create on its own.
+-- Serves findByDepartment (WHERE departmentid = ? ORDER BY name) and lets the foreign key
+-- check on DELETE FROM department probe the index instead of scanning the seller table.
+CREATE INDEX idx_seller_department_name ON seller (departmentid, name);
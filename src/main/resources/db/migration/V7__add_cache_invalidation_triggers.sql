@@ -0,0 +1,46 @@
+-- Notifies the application instances of committed changes to seller and department, so each
+-- node can evict the affected entries from its in-process caches. The payload is
+-- '<table>:<id>,<id>,...', or '<table>:*' after a TRUNCATE or when the ids would not fit in
+-- the 8000-byte NOTIFY limit. Statement-level triggers with transition tables send one
+-- notification per statement, so bulk COPY loads do not flood the channel.
+CREATE FUNCTION notify_cache_invalidation() RETURNS trigger AS $$
+DECLARE
+    ids TEXT;
+BEGIN
+    IF TG_OP = 'TRUNCATE' THEN
+        ids := '*';
+    ELSIF TG_OP = 'DELETE' THEN
+        SELECT string_agg(DISTINCT id::TEXT, ',') INTO ids FROM old_rows;
+    ELSE
+        SELECT string_agg(DISTINCT id::TEXT, ',') INTO ids FROM new_rows;
+    END IF;
+
+    IF ids IS NULL THEN
+        RETURN NULL;
+    END IF;
+    IF length(ids) > 7000 THEN
+        ids := '*';
+    END IF;
+
+    PERFORM pg_notify('cache_invalidation', TG_TABLE_NAME || ':' || ids);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER department_insert_notify AFTER INSERT ON department
+    REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION notify_cache_invalidation();
+CREATE TRIGGER department_update_notify AFTER UPDATE ON department
+    REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION notify_cache_invalidation();
+CREATE TRIGGER department_delete_notify AFTER DELETE ON department
+    REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE FUNCTION notify_cache_invalidation();
+CREATE TRIGGER department_truncate_notify AFTER TRUNCATE ON department
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_cache_invalidation();
+
+CREATE TRIGGER seller_insert_notify AFTER INSERT ON seller
+    REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION notify_cache_invalidation();
+CREATE TRIGGER seller_update_notify AFTER UPDATE ON seller
+    REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION notify_cache_invalidation();
+CREATE TRIGGER seller_delete_notify AFTER DELETE ON seller
+    REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE FUNCTION notify_cache_invalidation();
+CREATE TRIGGER seller_truncate_notify AFTER TRUNCATE ON seller
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_cache_invalidation();
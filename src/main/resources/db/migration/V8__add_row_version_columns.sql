@@ -0,0 +1,17 @@
+-- Row version of seller and department, incremented by every UPDATE, including updates made
+-- outside the application and by COPY-based tools. The REST controllers derive strong ETags
+-- from it, so conditional GETs are answered with 304 Not Modified without sending the body.
+ALTER TABLE department ADD COLUMN version BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE seller ADD COLUMN version BIGINT NOT NULL DEFAULT 1;
+
+CREATE FUNCTION increment_row_version() RETURNS trigger AS $$
+BEGIN
+    NEW.version := OLD.version + 1;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER department_increment_version BEFORE UPDATE ON department
+    FOR EACH ROW EXECUTE FUNCTION increment_row_version();
+CREATE TRIGGER seller_increment_version BEFORE UPDATE ON seller
+    FOR EACH ROW EXECUTE FUNCTION increment_row_version();
@@ -0,0 +1,96 @@
+package com.kauanferreira.smartdaojdbc;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the PgJDBC prepared statement cache configured by {@link DB}.
+ * Uses a dedicated pool with a single connection, so every lease gets the
+ * same physical connection.
+ *
+ * @author Kauan
+ * @version 1.1
+ * @since 2026
+ */
+public class StatementCacheTest {
+
+    private static final String SQL = "SELECT ?::int AS statement_cache_probe";
+
+    private static HikariDataSource dataSource;
+
+    @BeforeAll
+    public static void setUp() {
+        HikariConfig config = DB.createConfig();
+        config.setMaximumPoolSize(1);
+        config.setMinimumIdle(1);
+        dataSource = new HikariDataSource(config);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        dataSource.close();
+        DB.closePool();
+    }
+
+    @Test
+    @DisplayName("Should reuse the server-side statement across leases of the same physical connection")
+    public void statementShouldStayPreparedAfterConnectionIsReturned() throws Exception {
+        int threshold = Integer.parseInt(DB.getProperty("prepareThreshold", "5"));
+        Assumptions.assumeTrue(threshold > 0, "prepared statement cache disabled");
+
+        for (int lease = 0; lease < threshold + 2; lease++) {
+            try (Connection connection = dataSource.getConnection()) {
+                PreparedStatement statement = DB.prepareStatement(connection, SQL);
+                statement.setInt(1, lease);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    assertTrue(resultSet.next());
+                    assertEquals(lease, resultSet.getInt(1));
+                }
+                DB.closeStatement(statement);
+            }
+        }
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT generic_plans + custom_plans FROM pg_prepared_statements WHERE statement = ?")) {
+            statement.setString(1, SQL.replace("?", "$1"));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                assertTrue(resultSet.next(), "Statement was not kept prepared on the connection");
+                assertEquals(3, resultSet.getLong(1));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should evict a connection terminated while running a prepared statement")
+    public void fatalErrorShouldEvictConnection() throws Exception {
+        int terminatedPid;
+
+        try (Connection connection = dataSource.getConnection()) {
+            terminatedPid = backendPid(connection);
+            PreparedStatement statement = DB.prepareStatement(connection, "SELECT pg_terminate_backend(pg_backend_pid())");
+            SQLException e = assertThrows(SQLException.class, statement::executeQuery);
+            assertEquals("57P01", e.getSQLState());
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            assertNotEquals(terminatedPid, backendPid(connection));
+        }
+    }
+
+    private static int backendPid(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_backend_pid()");
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+}
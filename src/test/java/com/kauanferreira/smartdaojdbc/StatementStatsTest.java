@@ -0,0 +1,117 @@
+package com.kauanferreira.smartdaojdbc;
+
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for {@link StatementStats} and the JDBC proxies feeding it.
+ * Uses a proxied connection leased from the {@link DB} pool, inside a
+ * transaction that is rolled back after each test.
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class StatementStatsTest {
+
+    private static Connection connection;
+    private StatementStats stats;
+    private Connection proxied;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        connection = DB.getConnection();
+        connection.setAutoCommit(false);
+    }
+
+    @BeforeEach
+    public void createStats() {
+        stats = new StatementStats(Duration.ZERO, 2);
+        proxied = StatementStatsProxy.connection(connection, stats);
+    }
+
+    @AfterEach
+    public void rollback() throws Exception {
+        connection.rollback();
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        connection.setAutoCommit(true);
+        DB.closeConnection(connection);
+        DB.closePool();
+    }
+
+    @Test
+    @DisplayName("Should count executions and fetched rows per SQL text")
+    public void queryShouldRecordExecutionsAndRowsFetched() throws Exception {
+        String sql = "SELECT g FROM generate_series(1, ?) AS g";
+
+        try (PreparedStatement statement = proxied.prepareStatement(sql)) {
+            for (int rows : new int[]{3, 5}) {
+                statement.setInt(1, rows);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        assertTrue(resultSet.getInt(1) > 0);
+                    }
+                }
+            }
+        }
+        StatementStats.Entry entry = stats.getStatements().getFirst();
+
+        assertEquals(sql, entry.sql());
+        assertEquals(2, entry.executions());
+        assertEquals(8, entry.rowsFetched());
+        assertEquals(0, entry.rowsAffected());
+        assertTrue(entry.maxMillis() > 0);
+        assertTrue(entry.p50Millis() <= entry.p99Millis());
+        assertTrue(entry.p99Millis() <= entry.maxMillis());
+    }
+
+    @Test
+    @DisplayName("Should count affected rows and failed executions")
+    public void updateShouldRecordRowsAffectedAndErrors() throws Exception {
+        String sql = "UPDATE seller SET basesalary = basesalary WHERE departmentid = ?";
+
+        try (PreparedStatement statement = proxied.prepareStatement(sql)) {
+            statement.setInt(1, 1);
+            int updated = statement.executeUpdate();
+
+            assertEquals(updated, stats.getStatements().getFirst().rowsAffected());
+        }
+        try (Statement statement = proxied.createStatement()) {
+            assertThrows(SQLException.class, () -> statement.executeQuery("SELECT * FROM missing_table"));
+        }
+        StatementStats.Entry failed = stats.getStatements().stream()
+                .filter(entry -> entry.sql().contains("missing_table"))
+                .findFirst()
+                .orElseThrow();
+
+        assertEquals(1, failed.executions());
+        assertEquals(1, failed.errors());
+    }
+
+    @Test
+    @DisplayName("Should stop tracking new SQL texts at the limit")
+    public void statementsBeyondLimitShouldBeUntracked() throws Exception {
+        try (Statement statement = proxied.createStatement()) {
+            statement.execute("SELECT 1");
+            statement.execute("SELECT 2");
+            statement.execute("SELECT 3");
+        }
+
+        assertEquals(2, stats.getStatements().size());
+        assertEquals(1, stats.getUntrackedExecutions());
+
+        stats.reset();
+        assertTrue(stats.getStatements().isEmpty());
+    }
+}
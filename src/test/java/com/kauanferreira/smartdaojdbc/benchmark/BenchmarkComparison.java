@@ -0,0 +1,112 @@
+package com.kauanferreira.smartdaojdbc.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the JMH results stored by {@link BenchmarkRunner} for two
+ * commits and fails when a benchmark got slower than the threshold.
+ * Prints one line per benchmark and parameter combination found in both runs.
+ *
+ * <p>Run with {@code mvn test -Pbenchmark -Dtest=BenchmarkComparison
+ * -Dbaseline=<commit> -Dcandidate=<commit>}, optionally with
+ * {@code -Dthreshold=0.10} (the tolerated relative slowdown).</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+@Tag("benchmark")
+public class BenchmarkComparison {
+
+    @Test
+    @DisplayName("Compare the stored benchmark results of two commits")
+    public void compare() throws IOException {
+        Path resultsDir = Path.of(System.getProperty("benchmark.resultsDir", "benchmark-results"));
+        String baseline = System.getProperty("baseline");
+        String candidate = System.getProperty("candidate");
+        double threshold = Double.parseDouble(System.getProperty("threshold", "0.10"));
+        assertNotNull(baseline, "Set -Dbaseline to the results directory of the reference commit");
+        assertNotNull(candidate, "Set -Dcandidate to the results directory of the commit to check");
+
+        Map<String, Score> before = readScores(resultsDir.resolve(baseline));
+        Map<String, Score> after = readScores(resultsDir.resolve(candidate));
+        List<String> regressions = new ArrayList<>();
+
+        for (Map.Entry<String, Score> entry : after.entrySet()) {
+            Score reference = before.get(entry.getKey());
+
+            if (reference == null) {
+                continue;
+            }
+            double change = entry.getValue().slowdownFrom(reference);
+            String line = String.format("%-70s %12.3f -> %12.3f %s  %+6.1f%%", entry.getKey(),
+                    reference.value(), entry.getValue().value(), entry.getValue().unit(), change * 100);
+            System.out.println(line);
+
+            if (change > threshold) {
+                regressions.add(line);
+            }
+        }
+        assertTrue(regressions.isEmpty(), "Benchmarks slower than " + threshold * 100 + "%:\n"
+                + String.join("\n", regressions));
+    }
+
+    /**
+     * Reads every JSON result file of a directory, indexing the primary
+     * score by benchmark name and parameters.
+     */
+    private static Map<String, Score> readScores(Path directory) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, Score> scores = new TreeMap<>();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".json")).toList()) {
+                for (JsonNode result : mapper.readTree(file.toFile())) {
+                    StringBuilder key = new StringBuilder(result.get("benchmark").asString());
+                    JsonNode params = result.get("params");
+
+                    if (params != null) {
+                        params.properties().forEach(param ->
+                                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asString()));
+                    }
+                    JsonNode metric = result.get("primaryMetric");
+                    scores.put(key.toString(), new Score(metric.get("score").asDouble(),
+                            metric.get("scoreUnit").asString(), result.get("mode").asString()));
+                }
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Primary score of one benchmark run.
+     *
+     * @param value the score
+     * @param unit  the score unit, e.g. {@code us/op} or {@code ops/s}
+     * @param mode  the JMH mode, {@code thrpt} when higher is better
+     */
+    private record Score(double value, String unit, String mode) {
+
+        /** Returns how much slower this score is than the reference, as a fraction. */
+        double slowdownFrom(Score reference) {
+            return mode.equals("thrpt")
+                    ? reference.value() / value - 1
+                    : value / reference.value() - 1;
+        }
+    }
+}
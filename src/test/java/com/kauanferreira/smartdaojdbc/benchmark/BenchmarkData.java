@@ -0,0 +1,72 @@
+package com.kauanferreira.smartdaojdbc.benchmark;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Seeds synthetic sellers for benchmarks.
+ * Rows are generated server-side with {@code generate_series}, so
+ * large datasets load in seconds. Callers usually seed inside a
+ * transaction and roll it back when done.
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Inserts {@code count} sellers spread over the existing departments
+     * and refreshes the planner statistics of the seller table.
+     *
+     * @param connection the connection to seed through
+     * @param count      the number of sellers to insert
+     * @throws SQLException if a database access error occurs
+     */
+    public static void seedSellers(Connection connection, int count) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(
+                "INSERT INTO seller (name, email, birthdate, basesalary, departmentid) "
+                        + "SELECT 'Bench Seller ' || lpad(g::text, 8, '0'), "
+                        + "'bench' || g || '@bench.com', "
+                        + "DATE '1960-01-01' + (g % 15000), "
+                        + "1000 + (g % 5000), "
+                        + "(SELECT min(id) FROM department) + (g % 4) "
+                        + "FROM generate_series(1, ?) AS g")) {
+            preparedStatement.setInt(1, count);
+            preparedStatement.executeUpdate();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE seller");
+        }
+    }
+
+    /**
+     * Returns the execution plan the database chooses for a query.
+     *
+     * @param connection the connection to plan on
+     * @param sql        the query, with {@code ?} placeholders
+     * @param parameters the values bound to the placeholders, in order
+     * @return the text of the plan, one node per line
+     * @throws SQLException if a database access error occurs
+     */
+    public static String explain(Connection connection, String sql, Object... parameters) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                preparedStatement.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append(System.lineSeparator());
+                }
+                return plan.toString();
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.kauanferreira.smartdaojdbc.benchmark;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+
+/**
+ * Launches JMH benchmarks from JUnit and stores their results as JSON,
+ * one directory per commit, so runs of two commits can be compared with
+ * {@link BenchmarkComparison}.
+ *
+ * <p>System properties, passed with {@code -D} on the Maven command line:</p>
+ * <ul>
+ *     <li>{@code benchmark.rows}: comma-separated dataset sizes, overriding
+ *     the {@code rows} parameter of the benchmark (e.g. {@code 1000,100000})</li>
+ *     <li>{@code benchmark.resultsDir}: where results are written,
+ *     {@code benchmark-results} by default</li>
+ *     <li>{@code benchmark.label}: the results subdirectory, the short
+ *     commit hash by default</li>
+ * </ul>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Runs every benchmark method of a class and writes its JSON results
+     * to {@code <resultsDir>/<label>/<class name>.json}.
+     *
+     * @param benchmark the JMH benchmark class
+     * @return the results of each benchmark method and parameter combination
+     * @throws RunnerException if JMH fails to run the benchmarks
+     * @throws IOException     if the results directory cannot be created
+     */
+    public static Collection<RunResult> run(Class<?> benchmark) throws RunnerException, IOException {
+        Path directory = Path.of(System.getProperty("benchmark.resultsDir", "benchmark-results"), label());
+        Files.createDirectories(directory);
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(benchmark.getSimpleName())
+                .resultFormat(ResultFormatType.JSON)
+                .result(directory.resolve(benchmark.getSimpleName() + ".json").toString());
+
+        // Forked JVMs must reach the same server, e.g. the embedded one of -Pembedded-db
+        String[] databaseOverrides = System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(DB.SYSTEM_PROPERTY_PREFIX))
+                .map(name -> "-D" + name + "=" + System.getProperty(name))
+                .toArray(String[]::new);
+        if (databaseOverrides.length > 0) {
+            options.jvmArgsAppend(databaseOverrides);
+        }
+
+        String rows = System.getProperty("benchmark.rows");
+        if (rows != null && !rows.isBlank()) {
+            options.param("rows", rows.split(","));
+        }
+        return new Runner(options.build()).run();
+    }
+
+    /**
+     * Returns the results subdirectory: {@code benchmark.label} if set,
+     * otherwise the short hash of the current commit, or {@code local}
+     * when it cannot be read.
+     */
+    private static String label() {
+        String label = System.getProperty("benchmark.label");
+
+        if (label != null && !label.isBlank()) {
+            return label;
+        }
+        try {
+            Process git = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").start();
+
+            try (InputStream output = git.getInputStream()) {
+                String hash = new String(output.readAllBytes(), StandardCharsets.UTF_8).trim();
+                return git.waitFor() == 0 && !hash.isEmpty() ? hash : "local";
+            }
+        } catch (IOException e) {
+            return "local";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "local";
+        }
+    }
+}
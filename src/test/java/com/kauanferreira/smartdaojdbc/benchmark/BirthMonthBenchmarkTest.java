@@ -0,0 +1,78 @@
+package com.kauanferreira.smartdaojdbc.benchmark;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.dao.SellerDao;
+import com.kauanferreira.smartdaojdbc.dao.impl.SellerDaoJDBC;
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures the birth month lookup on 2M sellers and checks that it is
+ * served by the expression index, without sorting the month's rows.
+ * Seeds inside a transaction that is rolled back at the end, so the
+ * database is left untouched.
+ *
+ * <p>Run with {@code mvn test -Pbenchmark}.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+@Tag("benchmark")
+public class BirthMonthBenchmarkTest {
+
+    private static final int ROWS = 2_000_000;
+    private static final int MONTH = 7;
+    private static final int LIMIT = 50;
+    private static final int ITERATIONS = 100;
+
+    /** Same statement as SellerDaoJDBC.findByBirthMonth, used to read the plan. */
+    private static final String BIRTH_MONTH_SQL = "SELECT seller.*, department.Name as DepName "
+            + "FROM seller INNER JOIN department "
+            + "ON seller.DepartmentId = department.Id "
+            + "WHERE EXTRACT(MONTH FROM seller.BirthDate)::int = ? "
+            + "ORDER BY seller.Name "
+            + "LIMIT ?";
+
+    private static Connection connection;
+    private static SellerDao sellerDao;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        connection = DB.getConnection();
+        connection.setAutoCommit(false);
+        BenchmarkData.seedSellers(connection, ROWS);
+        sellerDao = new SellerDaoJDBC(connection);
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        connection.rollback();
+        connection.setAutoCommit(true);
+        DB.closeConnection(connection);
+        DB.closePool();
+    }
+
+    @Test
+    @DisplayName("Birth month lookup should read the expression index in name order")
+    public void birthMonthShouldUseExpressionIndex() throws Exception {
+        String plan = BenchmarkData.explain(connection, BIRTH_MONTH_SQL, MONTH, LIMIT);
+
+        for (int i = 0; i < 10; i++) {
+            sellerDao.findByBirthMonth(MONTH, LIMIT);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertEquals(LIMIT, sellerDao.findByBirthMonth(MONTH, LIMIT).size());
+        }
+        double millis = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+
+        System.out.printf("Birth month lookup on %d rows: %.3f ms%n%s%n", ROWS, millis, plan);
+
+        assertTrue(plan.contains("idx_seller_birth_month_name"));
+        assertFalse(plan.contains("Sort"));
+    }
+}
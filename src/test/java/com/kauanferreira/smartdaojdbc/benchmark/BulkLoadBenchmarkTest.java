@@ -0,0 +1,87 @@
+package com.kauanferreira.smartdaojdbc.benchmark;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.dao.BulkDao;
+import com.kauanferreira.smartdaojdbc.dao.BulkLoadResult;
+import com.kauanferreira.smartdaojdbc.dao.SellerDao;
+import com.kauanferreira.smartdaojdbc.dao.impl.BulkDaoJDBC;
+import com.kauanferreira.smartdaojdbc.dao.impl.SellerDaoJDBC;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+import com.kauanferreira.smartdaojdbc.entity.Seller;
+import org.junit.jupiter.api.*;
+
+import java.io.StringReader;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the throughput of COPY-based imports ({@link BulkDao#importSellers})
+ * with batched INSERTs ({@link SellerDao#insertAll}). Every load runs in a
+ * transaction that is rolled back, so the database is left untouched.
+ *
+ * <p>Run with {@code mvn test -Pbenchmark}.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+@Tag("benchmark")
+public class BulkLoadBenchmarkTest {
+
+    private static final int ROWS = 100_000;
+
+    private static Connection connection;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        connection = DB.getConnection();
+        connection.setAutoCommit(false);
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        connection.rollback();
+        connection.setAutoCommit(true);
+        DB.closeConnection(connection);
+        DB.closePool();
+    }
+
+    @Test
+    @DisplayName("COPY import should outperform batched INSERTs")
+    public void copyShouldBeFasterThanInsertAll() throws Exception {
+        List<Seller> sellers = new ArrayList<>(ROWS);
+        StringBuilder csv = new StringBuilder("name,email,birthdate,basesalary,departmentid\n");
+        Date birthDate = Date.from(LocalDate.of(1990, 1, 1).atStartOfDay(ZoneId.systemDefault()).toInstant());
+
+        for (int i = 0; i < ROWS; i++) {
+            sellers.add(new Seller(null, "Batch " + i, "batch" + i + "@bench.com", 1000.0 + i,
+                    birthDate, new Department(1, null)));
+            csv.append("Copy ").append(i).append(",copy").append(i).append("@bench.com,1990-01-01,")
+                    .append(1000 + i).append(",1\n");
+        }
+
+        SellerDao sellerDao = new SellerDaoJDBC(connection);
+        long start = System.nanoTime();
+        sellerDao.insertAll(sellers);
+        double insertAllMillis = (System.nanoTime() - start) / 1_000_000.0;
+        connection.rollback();
+
+        BulkDao bulkDao = new BulkDaoJDBC(connection);
+        start = System.nanoTime();
+        BulkLoadResult result = bulkDao.importSellers(new StringReader(csv.toString()));
+        double copyMillis = (System.nanoTime() - start) / 1_000_000.0;
+        connection.rollback();
+
+        System.out.printf("insertAll: %.0f ms (%.0f rows/s) | COPY: %.0f ms (%.0f rows/s)%n",
+                insertAllMillis, ROWS / (insertAllMillis / 1000), copyMillis, ROWS / (copyMillis / 1000));
+
+        assertEquals(ROWS, result.rowsLoaded());
+        assertTrue(copyMillis < insertAllMillis);
+    }
+}
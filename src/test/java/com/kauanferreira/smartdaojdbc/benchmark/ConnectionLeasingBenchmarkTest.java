@@ -0,0 +1,102 @@
+package com.kauanferreira.smartdaojdbc.benchmark;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.dao.SellerDao;
+import com.kauanferreira.smartdaojdbc.dao.impl.SellerDaoJDBC;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Concurrent load benchmark for the connection-leasing mode of {@link SellerDaoJDBC}.
+ * Runs the same workload against pools of different sizes and checks
+ * that throughput grows with {@code maximumPoolSize} instead of
+ * flattening on a single shared connection.
+ *
+ * <p>Run with {@code mvn test -Pbenchmark}.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+@Tag("benchmark")
+public class ConnectionLeasingBenchmarkTest {
+
+    private static final int THREADS = 16;
+    private static final long DURATION_MILLIS = 2000;
+
+    @AfterAll
+    public static void tearDown() {
+        DB.closePool();
+    }
+
+    @Test
+    @DisplayName("Should increase throughput when the pool has more connections")
+    public void throughputShouldGrowWithPoolSize() throws Exception {
+        double singleConnection = measureThroughput(1);
+        double pooled = measureThroughput(8);
+
+        System.out.printf("maximumPoolSize=1 -> %.0f ops/s | maximumPoolSize=8 -> %.0f ops/s%n",
+                singleConnection, pooled);
+
+        assertTrue(pooled > singleConnection,
+                "Expected throughput to grow with the pool size");
+    }
+
+    /**
+     * Runs {@link #THREADS} concurrent workers against a leasing DAO
+     * backed by a dedicated pool of the given size.
+     *
+     * @param maximumPoolSize the pool size to measure
+     * @return completed operations per second
+     */
+    private double measureThroughput(int maximumPoolSize) throws Exception {
+        HikariConfig config = DB.createConfig();
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setMinimumIdle(maximumPoolSize);
+
+        try (HikariDataSource dataSource = new HikariDataSource(config)) {
+            SellerDao sellerDao = new SellerDaoJDBC(dataSource);
+            sellerDao.findAll(1, 5);
+
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            LongAdder operations = new LongAdder();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> workers = new ArrayList<>();
+
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+            for (int i = 0; i < THREADS; i++) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    while (System.nanoTime() < deadline) {
+                        sellerDao.findAll(1, 5);
+                        operations.increment();
+                    }
+                    return null;
+                }));
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+            long elapsed = System.nanoTime() - begin;
+            executor.shutdown();
+
+            assertEquals(0, dataSource.getHikariPoolMXBean().getActiveConnections());
+            return operations.sum() / (elapsed / 1_000_000_000.0);
+        }
+    }
+}
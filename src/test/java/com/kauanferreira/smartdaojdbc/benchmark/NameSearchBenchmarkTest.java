@@ -0,0 +1,94 @@
+package com.kauanferreira.smartdaojdbc.benchmark;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.dao.SellerDao;
+import com.kauanferreira.smartdaojdbc.dao.impl.SellerDaoJDBC;
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the plan and latency of the name search with and without the
+ * {@code pg_trgm} GIN index, on 1M sellers. The index is dropped inside the
+ * same transaction that seeds the data, and everything is rolled back at
+ * the end, so the database is left untouched.
+ *
+ * <p>Run with {@code mvn test -Pbenchmark}.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+@Tag("benchmark")
+public class NameSearchBenchmarkTest {
+
+    private static final int ROWS = 1_000_000;
+    private static final String SEARCH = "0012345";
+    private static final int LIMIT = 50;
+    private static final int ITERATIONS = 20;
+
+    /** Same statement as SellerDaoJDBC.findByName, used to read the plan. */
+    private static final String SEARCH_SQL = "SELECT seller.*, department.Name as DepName "
+            + "FROM seller INNER JOIN department "
+            + "ON seller.DepartmentId = department.Id "
+            + "WHERE seller.Name ILIKE ? "
+            + "ORDER BY Name "
+            + "LIMIT ?";
+
+    private static Connection connection;
+    private static SellerDao sellerDao;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        connection = DB.getConnection();
+        connection.setAutoCommit(false);
+        BenchmarkData.seedSellers(connection, ROWS);
+        sellerDao = new SellerDaoJDBC(connection);
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        connection.rollback();
+        connection.setAutoCommit(true);
+        DB.closeConnection(connection);
+        DB.closePool();
+    }
+
+    @Test
+    @DisplayName("Name search should switch from a sequential scan to the trigram index")
+    public void trigramIndexShouldReplaceSequentialScan() throws Exception {
+        String indexedPlan = explain();
+        double indexedMillis = averageMillis();
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP INDEX idx_seller_name_trgm");
+        }
+        String scanPlan = explain();
+        double scanMillis = averageMillis();
+
+        System.out.printf("With trigram index (%.3f ms):%n%s%n", indexedMillis, indexedPlan);
+        System.out.printf("Without index (%.3f ms):%n%s%n", scanMillis, scanPlan);
+
+        assertTrue(indexedPlan.contains("idx_seller_name_trgm"));
+        assertTrue(scanPlan.contains("Seq Scan on seller"));
+        assertTrue(indexedMillis < scanMillis);
+    }
+
+    private static String explain() throws Exception {
+        return BenchmarkData.explain(connection, SEARCH_SQL, "%" + SEARCH + "%", LIMIT);
+    }
+
+    private static double averageMillis() {
+        for (int i = 0; i < 3; i++) {
+            sellerDao.findByName(SEARCH, LIMIT);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertFalse(sellerDao.findByName(SEARCH, LIMIT).isEmpty());
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+}
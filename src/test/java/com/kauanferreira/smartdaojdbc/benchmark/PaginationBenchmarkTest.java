@@ -0,0 +1,103 @@
+package com.kauanferreira.smartdaojdbc.benchmark;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.dao.SellerDao;
+import com.kauanferreira.smartdaojdbc.dao.impl.SellerDaoJDBC;
+import com.kauanferreira.smartdaojdbc.entity.Seller;
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares LIMIT/OFFSET pagination with keyset pagination on the first
+ * page and on page 10,000. Seeds 100k sellers inside a transaction that
+ * is rolled back at the end, so the database is left untouched.
+ *
+ * <p>Run with {@code mvn test -Pbenchmark}.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+@Tag("benchmark")
+public class PaginationBenchmarkTest {
+
+    private static final int PAGE_SIZE = 10;
+    private static final int DEEP_PAGE = 10_000;
+    private static final int ITERATIONS = 20;
+
+    private static Connection connection;
+    private static SellerDao sellerDao;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        connection = DB.getConnection();
+        connection.setAutoCommit(false);
+        BenchmarkData.seedSellers(connection, PAGE_SIZE * DEEP_PAGE);
+        sellerDao = new SellerDaoJDBC(connection);
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        connection.rollback();
+        connection.setAutoCommit(true);
+        DB.closeConnection(connection);
+        DB.closePool();
+    }
+
+    @Test
+    @DisplayName("Keyset deep page should be faster than OFFSET deep page")
+    public void keysetShouldNotDegradeWithDepth() throws Exception {
+        Seller lastOfPreviousPage = keyBeforePage(DEEP_PAGE);
+
+        double offsetFirst = averageMillis(() -> sellerDao.findAll(1, PAGE_SIZE));
+        double offsetDeep = averageMillis(() -> sellerDao.findAll(DEEP_PAGE, PAGE_SIZE));
+        double keysetFirst = averageMillis(() -> sellerDao.findAfter(null, null, PAGE_SIZE));
+        double keysetDeep = averageMillis(() -> sellerDao.findAfter(
+                lastOfPreviousPage.getName(), lastOfPreviousPage.getId(), PAGE_SIZE));
+
+        System.out.printf("OFFSET page 1: %.3f ms | page %d: %.3f ms%n", offsetFirst, DEEP_PAGE, offsetDeep);
+        System.out.printf("Keyset page 1: %.3f ms | page %d: %.3f ms%n", keysetFirst, DEEP_PAGE, keysetDeep);
+
+        assertEquals(
+                sellerDao.findAll(DEEP_PAGE, PAGE_SIZE).stream().map(Seller::getId).toList(),
+                sellerDao.findAfter(lastOfPreviousPage.getName(), lastOfPreviousPage.getId(), PAGE_SIZE)
+                        .stream().map(Seller::getId).toList());
+        assertTrue(keysetDeep < offsetDeep);
+    }
+
+    /**
+     * Finds the last seller of the page preceding the given one,
+     * in the {@code (name, id)} order used by both pagination modes.
+     */
+    private static Seller keyBeforePage(int page) throws Exception {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(
+                "SELECT id, name FROM seller ORDER BY name, id OFFSET ? LIMIT 1")) {
+            preparedStatement.setInt(1, (page - 1) * PAGE_SIZE - 1);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                assertTrue(resultSet.next());
+                Seller seller = new Seller();
+                seller.setId(resultSet.getInt("id"));
+                seller.setName(resultSet.getString("name"));
+                return seller;
+            }
+        }
+    }
+
+    private static double averageMillis(Supplier<List<Seller>> query) {
+        for (int i = 0; i < 3; i++) {
+            query.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertEquals(PAGE_SIZE, query.get().size());
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+}
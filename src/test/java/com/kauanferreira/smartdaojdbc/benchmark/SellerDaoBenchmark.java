@@ -0,0 +1,143 @@
+package com.kauanferreira.smartdaojdbc.benchmark;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.dao.SellerDao;
+import com.kauanferreira.smartdaojdbc.dao.impl.SellerDaoJDBC;
+import com.kauanferreira.smartdaojdbc.dao.mapper.RowMappers;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+import com.kauanferreira.smartdaojdbc.entity.Seller;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JMH benchmarks of the {@link SellerDao} hot paths against the database
+ * configured in db.properties, for several dataset sizes.
+ * Scores are the average time per call, in microseconds.
+ * Each trial seeds {@code rows} sellers inside a transaction that is
+ * rolled back at the end, together with the rows inserted by
+ * {@link #insert()}.
+ *
+ * <p>Run with {@code mvn test -Pbenchmark -Dtest=SellerDaoBenchmark},
+ * adding {@code -Dbenchmark.rows=1000} to run a single size. Results are
+ * stored by {@link BenchmarkRunner}.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class SellerDaoBenchmark {
+
+    /** Rows mapped per call of {@link #mapRows()}. */
+    private static final int MAPPED_ROWS = 1000;
+
+    /** The column list of the DAO seller queries. */
+    private static final String SELECT_MAPPED_ROWS = "SELECT seller.Id, seller.Name, seller.Email, "
+            + "seller.BirthDate, seller.BaseSalary, seller.DepartmentId AS department_id, "
+            + "department.Name AS department_name "
+            + "FROM seller INNER JOIN department ON seller.DepartmentId = department.Id "
+            + "ORDER BY seller.Id LIMIT " + MAPPED_ROWS;
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private Connection connection;
+    private SellerDao sellerDao;
+    private int firstId;
+    private int departmentId;
+    private long inserted;
+
+    private PreparedStatement mappedStatement;
+    private ResultSet mappedRows;
+
+    @Test
+    @DisplayName("Run the seller DAO JMH benchmarks")
+    public void runBenchmark() throws Exception {
+        assertFalse(BenchmarkRunner.run(SellerDaoBenchmark.class).isEmpty());
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DB.getConnection();
+        connection.setAutoCommit(false);
+        BenchmarkData.seedSellers(connection, rows);
+        sellerDao = new SellerDaoJDBC(connection);
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(
+                "SELECT min(id), min(departmentid) FROM seller WHERE email = 'bench1@bench.com'");
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            resultSet.next();
+            firstId = resultSet.getInt(1);
+            departmentId = resultSet.getInt(2);
+        }
+
+        mappedStatement = connection.prepareStatement(SELECT_MAPPED_ROWS,
+                ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+        mappedRows = mappedStatement.executeQuery();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        DB.closeResultSet(mappedRows);
+        mappedStatement.close();
+        connection.rollback();
+        connection.setAutoCommit(true);
+        DB.closeConnection(connection);
+        DB.closePool();
+    }
+
+    @Benchmark
+    public Seller findById() {
+        return sellerDao.findById(firstId + ThreadLocalRandom.current().nextInt(rows));
+    }
+
+    @Benchmark
+    public List<Seller> findAll() {
+        return sellerDao.findAll();
+    }
+
+    @Benchmark
+    public List<Seller> findAllPage() {
+        return sellerDao.findAll(1 + ThreadLocalRandom.current().nextInt(Math.max(1, rows / 20)), 20);
+    }
+
+    @Benchmark
+    public List<Seller> findByName() {
+        return sellerDao.findByName(String.format("Seller %08d", 1 + ThreadLocalRandom.current().nextInt(rows)), 50);
+    }
+
+    @Benchmark
+    public Seller insert() {
+        inserted++;
+        Seller seller = new Seller(null, "Inserted Seller " + inserted, "inserted" + inserted + "@bench.com",
+                3000.0, new Date(), new Department(departmentId, null));
+        sellerDao.insert(seller);
+        return seller;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MAPPED_ROWS)
+    public List<Seller> mapRows() throws SQLException {
+        mappedRows.beforeFirst();
+        return RowMappers.forResultSet(Seller.class, mappedRows).mapAll(mappedRows);
+    }
+}
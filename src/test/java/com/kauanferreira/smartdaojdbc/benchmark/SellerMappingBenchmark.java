@@ -0,0 +1,114 @@
+package com.kauanferreira.smartdaojdbc.benchmark;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.dao.SellerDao;
+import com.kauanferreira.smartdaojdbc.dao.impl.SellerDaoJDBC;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+import com.kauanferreira.smartdaojdbc.entity.Seller;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JMH benchmark of the seller row mapping on a 100k-row {@code findAll}.
+ * Compares the DAO, which maps rows through a compiled {@code RowMapper},
+ * with the former hand-written mapping that looked every column up by
+ * label. Scores are rows per second.
+ * Seeds inside a transaction that is rolled back at the end.
+ *
+ * <p>Run with {@code mvn test -Pbenchmark -Dtest=SellerMappingBenchmark}.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SellerMappingBenchmark {
+
+    private static final int ROWS = 100_000;
+
+    /** The seller query as it was before the explicit column list. */
+    private static final String SELECT_ALL_BY_LABEL = "SELECT seller.*, department.Name as DepName "
+            + "FROM seller INNER JOIN department "
+            + "ON seller.DepartmentId = department.Id "
+            + "ORDER BY Name";
+
+    private Connection connection;
+    private SellerDao sellerDao;
+
+    @Test
+    @DisplayName("Run the seller mapping JMH benchmark")
+    public void runBenchmark() throws Exception {
+        assertFalse(BenchmarkRunner.run(SellerMappingBenchmark.class).isEmpty());
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DB.getConnection();
+        connection.setAutoCommit(false);
+        BenchmarkData.seedSellers(connection, ROWS);
+        sellerDao = new SellerDaoJDBC(connection);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.rollback();
+        connection.setAutoCommit(true);
+        DB.closeConnection(connection);
+        DB.closePool();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Seller> findAllByIndex() {
+        return sellerDao.findAll();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Seller> findAllByLabel() throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(SELECT_ALL_BY_LABEL);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            List<Seller> sellers = new ArrayList<>();
+            Map<Integer, Department> map = new HashMap<>();
+
+            while (resultSet.next()) {
+                Department dept = map.get(resultSet.getInt("departmentid"));
+
+                if (dept == null) {
+                    dept = new Department(resultSet.getInt("departmentid"), resultSet.getString("DepName"));
+                    map.put(resultSet.getInt("departmentid"), dept);
+                }
+
+                Seller seller = new Seller();
+                seller.setId(resultSet.getInt("id"));
+                seller.setName(resultSet.getString("name"));
+                seller.setEmail(resultSet.getString("email"));
+                seller.setBirthDate(resultSet.getDate("birthdate"));
+                seller.setBaseSalary(resultSet.getDouble("basesalary"));
+                seller.setDepartment(dept);
+                sellers.add(seller);
+            }
+            return sellers;
+        }
+    }
+}
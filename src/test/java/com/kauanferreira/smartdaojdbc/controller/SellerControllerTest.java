@@ -0,0 +1,89 @@
+package com.kauanferreira.smartdaojdbc.controller;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.dao.DaoFactory;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+import org.junit.jupiter.api.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests of the conditional seller reads of {@link SellerController},
+ * served through MockMvc against a real PostgreSQL database.
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class SellerControllerTest {
+
+    private static final int SELLER_ID = 1;
+
+    private static MockMvc mockMvc;
+
+    @BeforeAll
+    public static void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new SellerController(JsonMapper.builder().build()), new DepartmentController())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        DB.closePool();
+    }
+
+    @Test
+    @DisplayName("Should answer 304 Not Modified when If-None-Match holds the current ETag")
+    public void findByIdShouldAnswerNotModifiedForCurrentETag() throws Exception {
+        String eTag = currentETag();
+
+        mockMvc.perform(get("/api/sellers/{id}", SELLER_ID).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Should serve a new ETag after the seller's department is renamed")
+    public void findByIdShouldChangeETagAfterDepartmentRename() throws Exception {
+        String eTag = currentETag();
+        Department department = DaoFactory.createSellerDao().findById(SELLER_ID).getDepartment();
+
+        try {
+            rename(department.getId(), "Renamed Through API");
+
+            String renamedETag = currentETag();
+            assertNotEquals(eTag, renamedETag);
+            String body = mockMvc.perform(get("/api/sellers/{id}", SELLER_ID).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            assertTrue(body.contains("Renamed Through API"));
+        } finally {
+            rename(department.getId(), department.getName());
+        }
+    }
+
+    private static String currentETag() throws Exception {
+        String eTag = mockMvc.perform(get("/api/sellers/{id}", SELLER_ID))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertNotNull(eTag);
+        return eTag;
+    }
+
+    private static void rename(Integer departmentId, String name) throws Exception {
+        mockMvc.perform(put("/api/departments/{id}", departmentId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + name + "\"}"))
+                .andExpect(status().isOk());
+    }
+}
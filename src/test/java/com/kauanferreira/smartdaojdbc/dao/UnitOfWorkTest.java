@@ -0,0 +1,124 @@
+package com.kauanferreira.smartdaojdbc.dao;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.dao.impl.DepartmentDaoJDBC;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+import com.kauanferreira.smartdaojdbc.entity.Seller;
+import com.kauanferreira.smartdaojdbc.exception.DbException;
+import com.kauanferreira.smartdaojdbc.exception.EntityNotFoundException;
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for {@link UnitOfWork} through {@link DaoFactory#inTransaction(java.util.function.Function)}.
+ * Committed rows are deleted after each test.
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class UnitOfWorkTest {
+
+    private final DepartmentDao departmentReader = new DepartmentDaoJDBC(DB.getDataSource());
+    private Department department;
+
+    @AfterEach
+    public void cleanUp() {
+        if (department != null && department.getId() != null) {
+            DaoFactory.runInTransaction(unit -> {
+                unit.sellerDao().findByDepartment(department).forEach(seller -> unit.sellerDao().deleteById(seller.getId()));
+                unit.departmentDao().deleteById(department.getId());
+            });
+        }
+        assertEquals(0, DB.getDataSource().getHikariPoolMXBean().getActiveConnections());
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        DB.closePool();
+    }
+
+    @Test
+    @DisplayName("Should commit a department and its sellers together on one connection")
+    public void inTransactionShouldCommitOnce() {
+        department = new Department(null, "Unit Of Work " + System.nanoTime());
+
+        Connection used = DaoFactory.inTransaction(unit -> {
+            unit.departmentDao().insert(department);
+            unit.sellerDao().insertAll(List.of(seller("uow.a"), seller("uow.b")));
+            assertSame(unit, UnitOfWork.current().orElseThrow());
+            return unit.getConnection();
+        });
+
+        assertNotNull(used);
+        assertTrue(UnitOfWork.current().isEmpty());
+        assertEquals(department.getName(), departmentReader.findById(department.getId()).getName());
+        assertEquals(2, DaoFactory.createSellerDao().findByDepartment(department).size());
+    }
+
+    @Test
+    @DisplayName("Should roll back every write when the callback throws")
+    public void inTransactionShouldRollBackOnException() {
+        Department rolledBack = new Department(null, "Unit Of Work " + System.nanoTime());
+
+        assertThrows(IllegalArgumentException.class, () -> DaoFactory.runInTransaction(unit -> {
+            unit.departmentDao().insert(rolledBack);
+            throw new IllegalArgumentException("abort");
+        }));
+
+        assertNotNull(rolledBack.getId());
+        assertThrows(EntityNotFoundException.class, () -> departmentReader.findById(rolledBack.getId()));
+    }
+
+    @Test
+    @DisplayName("Should roll back without an exception after setRollbackOnly")
+    public void setRollbackOnlyShouldDiscardWrites() {
+        Department discarded = new Department(null, "Unit Of Work " + System.nanoTime());
+
+        DaoFactory.runInTransaction(unit -> {
+            unit.departmentDao().insert(discarded);
+            unit.setRollbackOnly();
+        });
+
+        assertThrows(EntityNotFoundException.class, () -> departmentReader.findById(discarded.getId()));
+    }
+
+    @Test
+    @DisplayName("Should join the unit already running on the thread")
+    public void nestedCallShouldJoinRunningUnit() {
+        department = new Department(null, "Unit Of Work " + System.nanoTime());
+
+        assertThrows(IllegalStateException.class, () -> DaoFactory.runInTransaction(outer -> {
+            outer.departmentDao().insert(department);
+            DaoFactory.runInTransaction(inner -> assertSame(outer, inner));
+            throw new IllegalStateException("abort");
+        }));
+
+        assertThrows(EntityNotFoundException.class, () -> departmentReader.findById(department.getId()));
+        department = null;
+    }
+
+    @Test
+    @DisplayName("Should reject writes in a read-only unit")
+    public void readOnlyUnitShouldRejectWrites() {
+        List<Department> departments = DaoFactory.inTransaction(UnitOfWork.Isolation.REPEATABLE_READ, true,
+                unit -> unit.departmentDao().findAll());
+
+        assertFalse(departments.isEmpty());
+        assertThrows(DbException.class, () -> DaoFactory.inTransaction(UnitOfWork.Isolation.DEFAULT, true, unit -> {
+            unit.departmentDao().insert(new Department(null, "Read Only"));
+            return null;
+        }));
+        assertThrows(IllegalStateException.class, () -> DaoFactory.inTransaction(UnitOfWork.Isolation.DEFAULT, true,
+                unit -> DaoFactory.inTransaction(inner -> null)));
+    }
+
+    private Seller seller(String name) {
+        return new Seller(null, name, name + "." + System.nanoTime() + "@uow.example.com", 3000.0, new Date(), department);
+    }
+}
@@ -0,0 +1,82 @@
+package com.kauanferreira.smartdaojdbc.dao.async;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.dao.DaoFactory;
+import com.kauanferreira.smartdaojdbc.entity.Seller;
+import com.kauanferreira.smartdaojdbc.exception.EntityNotFoundException;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for {@link AsyncSellerDao} and {@link BoundedVirtualThreadExecutor}.
+ * Runs against the leasing DAOs from {@link DaoFactory}.
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class AsyncSellerDaoTest {
+
+    private static AsyncSellerDao asyncSellerDao;
+
+    @BeforeAll
+    public static void setUp() {
+        asyncSellerDao = DaoFactory.createAsyncSellerDao();
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        DB.closePool();
+    }
+
+    @Test
+    @DisplayName("Should combine independent lookups started together")
+    public void lookupsShouldRunInParallelAndCombine() {
+        Seller first = asyncSellerDao.findAll(1, 1).join().get(0);
+
+        CompletableFuture<Seller> byId = asyncSellerDao.findById(first.getId());
+        CompletableFuture<Seller> byEmail = asyncSellerDao.findByEmail(first.getEmail());
+
+        assertTrue(byId.thenCombine(byEmail, (a, b) -> a.getId().equals(b.getId())).join());
+    }
+
+    @Test
+    @DisplayName("Should complete exceptionally with the DAO exception")
+    public void findByIdShouldFailWithEntityNotFound() {
+        CompletionException e = assertThrows(CompletionException.class,
+                () -> asyncSellerDao.findById(999999).join());
+
+        assertInstanceOf(EntityNotFoundException.class, e.getCause());
+    }
+
+    @Test
+    @DisplayName("Should never run more calls at once than permits")
+    public void executorShouldBoundConcurrency() {
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor(3);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        List<CompletableFuture<Void>> calls = IntStream.range(0, 50)
+                .mapToObj(i -> executor.run(() -> {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                }))
+                .toList();
+        CompletableFuture.allOf(calls.toArray(new CompletableFuture[0])).join();
+
+        assertTrue(peak.get() <= 3);
+        assertEquals(3, executor.getAvailablePermits());
+    }
+}
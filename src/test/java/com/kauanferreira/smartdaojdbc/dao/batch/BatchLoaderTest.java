@@ -0,0 +1,121 @@
+package com.kauanferreira.smartdaojdbc.dao.batch;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.dao.SellerDao;
+import com.kauanferreira.smartdaojdbc.dao.impl.SellerDaoJDBC;
+import com.kauanferreira.smartdaojdbc.entity.Seller;
+import com.kauanferreira.smartdaojdbc.exception.DbException;
+import com.kauanferreira.smartdaojdbc.exception.EntityNotFoundException;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for {@link BatchLoader} and {@link BatchingSellerDao}
+ * against a real PostgreSQL database.
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class BatchLoaderTest {
+
+    private static SellerDao sellerDao;
+    private static ExecutorService executor;
+    private static List<Integer> sellerIds;
+
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+
+    @BeforeAll
+    public static void setUp() {
+        sellerDao = new SellerDaoJDBC(DB.getDataSource());
+        executor = Executors.newFixedThreadPool(4);
+        sellerIds = sellerDao.findAll().stream().map(Seller::getId).limit(5).toList();
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        executor.shutdown();
+        DB.closePool();
+    }
+
+    private BatchLoader<Seller> newLoader(int maxBatchSize, Duration window) {
+        return new BatchLoader<>(ids -> {
+            batches.add(ids);
+            return sellerDao.findByIds(ids);
+        }, Seller::getId, maxBatchSize, window, executor);
+    }
+
+    @Test
+    @DisplayName("Should load concurrent lookups with one query and share identical ids")
+    public void loadShouldCoalesceConcurrentLookups() {
+        BatchLoader<Seller> loader = newLoader(100, Duration.ofMillis(50));
+        List<CompletableFuture<Optional<Seller>>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 50; i++) {
+            futures.add(loader.load(sellerIds.get(i % sellerIds.size())));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            assertEquals(sellerIds.get(i % sellerIds.size()), futures.get(i).join().orElseThrow().getId());
+        }
+        BatchLoaderMetrics metrics = loader.getMetrics();
+        assertEquals(1, batches.size());
+        assertEquals(sellerIds.size(), batches.get(0).size());
+        assertEquals(50, metrics.requests());
+        assertEquals(50 - sellerIds.size(), metrics.coalesced());
+        assertEquals(1, metrics.batches());
+        assertTrue(metrics.maxWaitMillis() > 0);
+    }
+
+    @Test
+    @DisplayName("Should send a batch as soon as it reaches the maximum size")
+    public void loadShouldSplitAtMaxBatchSize() {
+        BatchLoader<Seller> loader = newLoader(2, Duration.ofSeconds(10));
+        List<CompletableFuture<Optional<Seller>>> futures = new ArrayList<>();
+
+        for (Integer id : sellerIds.subList(0, 4)) {
+            futures.add(loader.load(id));
+        }
+
+        futures.forEach(future -> assertTrue(future.join().isPresent()));
+        assertEquals(2, batches.size());
+        assertEquals(2L, loader.getMetrics().batchSizes().get("2-3"));
+    }
+
+    @Test
+    @DisplayName("Should complete missing ids empty and report failed batches to every caller")
+    public void loadShouldReportMissingIdsAndFailures() {
+        BatchLoader<Seller> loader = newLoader(100, Duration.ofMillis(1));
+        assertTrue(loader.get(999999999).isEmpty());
+
+        BatchLoader<Seller> failing = new BatchLoader<>(ids -> {
+            throw new DbException("connection refused");
+        }, Seller::getId, 100, Duration.ofMillis(1), executor);
+
+        DbException e = assertThrows(DbException.class, () -> failing.get(1));
+        assertEquals("connection refused", e.getMessage());
+        assertEquals(1, failing.getMetrics().failedBatches());
+    }
+
+    @Test
+    @DisplayName("Should find sellers by id through the batching decorator")
+    public void batchingSellerDaoShouldFindById() {
+        BatchingSellerDao batching = new BatchingSellerDao(sellerDao, 100, Duration.ofMillis(1), executor);
+
+        Seller seller = batching.findById(sellerIds.get(0));
+
+        assertEquals(sellerIds.get(0), seller.getId());
+        assertNotSame(seller, batching.findById(sellerIds.get(0)));
+        assertThrows(EntityNotFoundException.class, () -> batching.findById(999999999));
+    }
+}
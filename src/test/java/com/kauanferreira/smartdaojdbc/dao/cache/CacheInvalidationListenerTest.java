@@ -0,0 +1,164 @@
+package com.kauanferreira.smartdaojdbc.dao.cache;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.dao.DepartmentDao;
+import com.kauanferreira.smartdaojdbc.dao.impl.DepartmentDaoJDBC;
+import com.kauanferreira.smartdaojdbc.dao.impl.SellerDaoJDBC;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for {@link CacheInvalidationListener} and the
+ * notification triggers of the V7 migration. Writes are committed,
+ * as notifications are only sent on commit, and undone after each test.
+ *
+ * @author Kauan
+ * @version 1.1
+ * @since 2026
+ */
+public class CacheInvalidationListenerTest {
+
+    private final DepartmentDao departmentDao = new DepartmentDaoJDBC(DB.getDataSource());
+    private final BlockingQueue<CacheInvalidationListener.Invalidation> received = new LinkedBlockingQueue<>();
+    private CacheInvalidationListener listener;
+
+    @AfterEach
+    public void stopListener() throws Exception {
+        if (listener != null) {
+            listener.close();
+        }
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        DB.closePool();
+    }
+
+    @Test
+    @DisplayName("Should parse trigger payloads")
+    public void parseShouldReadTableAndIds() {
+        CacheInvalidationListener.Invalidation rows = CacheInvalidationListener.Invalidation.parse("seller:3,7");
+        CacheInvalidationListener.Invalidation table = CacheInvalidationListener.Invalidation.parse("department:*");
+        CacheInvalidationListener.Invalidation garbage = CacheInvalidationListener.Invalidation.parse("garbage");
+
+        assertEquals("seller", rows.table());
+        assertEquals(List.of(3, 7), rows.ids());
+        assertTrue(table.isWholeTable());
+        assertEquals(CacheInvalidationListener.Invalidation.ALL_TABLES, garbage.table());
+    }
+
+    @Test
+    @DisplayName("Should notify the ids of committed writes, and nothing for a rollback")
+    public void committedWritesShouldNotifyChangedIds() throws Exception {
+        start(received::add);
+        Department rolledBack = new Department(null, "Rolled Back");
+        List<Department> departments = List.of(new Department(null, "Notify A"), new Department(null, "Notify B"));
+        Set<Integer> notified = new HashSet<>();
+
+        try (Connection connection = DB.getConnection()) {
+            connection.setAutoCommit(false);
+            new DepartmentDaoJDBC(connection).insert(rolledBack);
+            connection.rollback();
+            connection.setAutoCommit(true);
+        }
+        departmentDao.insertAll(departments);
+        try {
+            while (notified.size() < departments.size()) {
+                CacheInvalidationListener.Invalidation invalidation = received.poll(5, TimeUnit.SECONDS);
+
+                assertNotNull(invalidation, "Missing notification, got " + notified);
+                assertEquals("department", invalidation.table());
+                notified.addAll(invalidation.ids());
+            }
+        } finally {
+            departments.forEach(department -> departmentDao.deleteById(department.getId()));
+        }
+
+        assertEquals(departments.stream().map(Department::getId).collect(Collectors.toSet()), notified);
+        assertFalse(notified.contains(rolledBack.getId()));
+    }
+
+    @Test
+    @DisplayName("Should evict a cached seller changed outside the DAO")
+    public void externalUpdateShouldEvictCachedSeller() throws Exception {
+        CachingSellerDao sellerDao = new CachingSellerDao(new SellerDaoJDBC(DB.getDataSource()),
+                100, Duration.ofMinutes(5), Duration.ofMinutes(1));
+        start(invalidation -> invalidation.ids().forEach(sellerDao::invalidate));
+        String name = sellerDao.findById(1).getName();
+
+        try {
+            execute("UPDATE seller SET name = 'Changed Elsewhere' WHERE id = 1");
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+
+            while (!sellerDao.findById(1).getName().equals("Changed Elsewhere")) {
+                assertTrue(System.nanoTime() < deadline, "Cached seller was not evicted");
+                Thread.sleep(20);
+            }
+        } finally {
+            execute("UPDATE seller SET name = '" + name + "' WHERE id = 1");
+        }
+    }
+
+    @Test
+    @DisplayName("Should evict cached sellers of a department renamed outside the DAO")
+    public void externalDepartmentRenameShouldEvictCachedSellers() throws Exception {
+        CachingSellerDao sellerDao = new CachingSellerDao(new SellerDaoJDBC(DB.getDataSource()),
+                100, Duration.ofMinutes(5), Duration.ofMinutes(1));
+        start(invalidation -> {
+            if (invalidation.table().equals("department")) {
+                invalidation.ids().forEach(sellerDao::invalidateDepartment);
+            }
+        });
+        Department department = sellerDao.findById(1).getDepartment();
+
+        try {
+            execute("UPDATE department SET name = 'Renamed Elsewhere' WHERE id = " + department.getId());
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+
+            while (!sellerDao.findById(1).getDepartment().getName().equals("Renamed Elsewhere")) {
+                assertTrue(System.nanoTime() < deadline, "Cached seller kept the old department");
+                Thread.sleep(20);
+            }
+        } finally {
+            execute("UPDATE department SET name = '" + department.getName() + "' WHERE id = " + department.getId());
+        }
+    }
+
+    /** Starts the listener, then waits until a probe notification shows it is listening. */
+    private void start(Consumer<CacheInvalidationListener.Invalidation> handler) throws Exception {
+        BlockingQueue<Boolean> listening = new LinkedBlockingQueue<>();
+        listener = new CacheInvalidationListener(DB::openDedicatedConnection, invalidation -> {
+            if (invalidation.table().equals("probe")) {
+                listening.add(true);
+            } else {
+                handler.accept(invalidation);
+            }
+        }, Duration.ofMillis(100));
+        listener.start();
+
+        do {
+            execute("SELECT pg_notify('" + CacheInvalidationListener.CHANNEL + "', 'probe:0')");
+        } while (listening.poll(100, TimeUnit.MILLISECONDS) == null);
+    }
+
+    private static void execute(String sql) throws Exception {
+        try (Connection connection = DB.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
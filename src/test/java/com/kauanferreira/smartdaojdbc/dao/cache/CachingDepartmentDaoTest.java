@@ -0,0 +1,92 @@
+package com.kauanferreira.smartdaojdbc.dao.cache;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.dao.DaoFactory;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for {@link CachingDepartmentDao}.
+ * The decorated DAO runs on a bound connection inside a transaction
+ * that is rolled back after each test.
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class CachingDepartmentDaoTest {
+
+    private static Connection connection;
+    private CachingDepartmentDao departmentDao;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        connection = DB.getConnection();
+        connection.setAutoCommit(false);
+    }
+
+    @BeforeEach
+    public void createCache() {
+        departmentDao = new CachingDepartmentDao(
+                DaoFactory.createDepartmentDao(connection), 100, Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    public void rollback() throws Exception {
+        connection.rollback();
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        connection.setAutoCommit(true);
+        DB.closeConnection(connection);
+        DB.closePool();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups from the cache")
+    public void findByIdShouldHitAfterFirstLookup() {
+        Department first = departmentDao.findById(1);
+        Department second = departmentDao.findById(1);
+
+        assertEquals(first.getName(), second.getName());
+        assertEquals(1, departmentDao.getByIdMetrics().misses());
+        assertEquals(1, departmentDao.getByIdMetrics().hits());
+    }
+
+    @Test
+    @DisplayName("Should return copies that do not alter the cached department")
+    public void findByIdShouldReturnCopies() {
+        Department department = departmentDao.findById(1);
+        String name = department.getName();
+
+        department.setName("Changed By Caller");
+
+        assertEquals(name, departmentDao.findById(1).getName());
+    }
+
+    @Test
+    @DisplayName("Should reload a department after it is updated")
+    public void updateShouldInvalidateCachedDepartment() {
+        departmentDao.findById(1);
+        departmentDao.update(new Department(1, "Renamed Department"));
+
+        assertEquals("Renamed Department", departmentDao.findById(1).getName());
+        assertEquals(2, departmentDao.getByIdMetrics().misses());
+    }
+
+    @Test
+    @DisplayName("Should reload cached lists after an insert")
+    public void insertShouldInvalidateCachedLists() {
+        int before = departmentDao.findAll().size();
+
+        departmentDao.insert(new Department(null, "Cached Department"));
+
+        assertEquals(before + 1, departmentDao.findAll().size());
+    }
+}
@@ -0,0 +1,237 @@
+package com.kauanferreira.smartdaojdbc.dao.cache;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.dao.DaoFactory;
+import com.kauanferreira.smartdaojdbc.dao.DepartmentDao;
+import com.kauanferreira.smartdaojdbc.dao.MultiGetResult;
+import com.kauanferreira.smartdaojdbc.dao.SellerDao;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+import com.kauanferreira.smartdaojdbc.entity.Seller;
+import com.kauanferreira.smartdaojdbc.exception.EntityNotFoundException;
+import org.junit.jupiter.api.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for {@link CachingSellerDao}.
+ * The decorated DAO runs on a bound connection inside a transaction
+ * that is rolled back after each test.
+ *
+ * @author Kauan
+ * @version 1.2
+ * @since 2026
+ */
+public class CachingSellerDaoTest {
+
+    private static Connection connection;
+    private CachingSellerDao sellerDao;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        connection = DB.getConnection();
+        connection.setAutoCommit(false);
+    }
+
+    @BeforeEach
+    public void createCache() {
+        sellerDao = new CachingSellerDao(DaoFactory.createSellerDao(connection),
+                100, Duration.ofMinutes(5), Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    public void rollback() throws Exception {
+        connection.rollback();
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        connection.setAutoCommit(true);
+        DB.closeConnection(connection);
+        DB.closePool();
+    }
+
+    @Test
+    @DisplayName("Should resolve an email through the cached seller after the first lookup")
+    public void findByEmailShouldHitAfterFirstLookup() {
+        Seller seller = sellerDao.findByEmail("bob@gmail.com");
+
+        assertEquals(seller.getId(), sellerDao.findByEmail("bob@gmail.com").getId());
+        assertEquals(seller.getName(), sellerDao.findById(seller.getId()).getName());
+        assertEquals(1, sellerDao.getByEmailMetrics().hits());
+        assertEquals(2, sellerDao.getByIdMetrics().hits());
+    }
+
+    @Test
+    @DisplayName("Should remember missing ids and emails")
+    public void findShouldCacheNotFound() {
+        assertThrows(EntityNotFoundException.class, () -> sellerDao.findById(999999));
+        assertThrows(EntityNotFoundException.class, () -> sellerDao.findById(999999));
+        assertThrows(EntityNotFoundException.class, () -> sellerDao.findByEmail("nobody@gmail.com"));
+        assertThrows(EntityNotFoundException.class, () -> sellerDao.findByEmail("nobody@gmail.com"));
+
+        assertEquals(1, sellerDao.getByIdMetrics().misses());
+        assertEquals(1, sellerDao.getByEmailMetrics().hits());
+    }
+
+    @Test
+    @DisplayName("Should load only uncached ids and remember the missing ones")
+    public void findByIdsShouldFillAndReuseIdIndex() {
+        Seller bob = sellerDao.findByEmail("bob@gmail.com");
+
+        MultiGetResult<Seller> result = sellerDao.findByIds(List.of(999999, bob.getId()));
+        sellerDao.findByIds(List.of(999999, bob.getId()));
+
+        assertEquals(List.of(bob.getId()), result.items().stream().map(Seller::getId).toList());
+        assertEquals(List.of(999999), result.missingIds());
+        assertEquals(3, sellerDao.getByIdMetrics().hits());
+        assertEquals(2, sellerDao.getByIdMetrics().misses());
+    }
+
+    @Test
+    @DisplayName("Should find a seller inserted after a negative lookup of its email")
+    public void insertShouldInvalidateNegativeEmail() {
+        assertThrows(EntityNotFoundException.class, () -> sellerDao.findByEmail("cached@gmail.com"));
+
+        Seller seller = new Seller(null, "Cached Seller", "cached@gmail.com", 3000.0, new Date(),
+                new Department(1, null));
+        sellerDao.insert(seller);
+
+        assertEquals(seller.getId(), sellerDao.findByEmail("cached@gmail.com").getId());
+    }
+
+    @Test
+    @DisplayName("Should drop the old email index entry when the email changes")
+    public void updateShouldInvalidateOldEmail() {
+        Seller seller = sellerDao.findByEmail("bob@gmail.com");
+
+        seller.setEmail("bob.changed@gmail.com");
+        sellerDao.update(seller);
+
+        assertThrows(EntityNotFoundException.class, () -> sellerDao.findByEmail("bob@gmail.com"));
+        assertEquals(seller.getId(), sellerDao.findByEmail("bob.changed@gmail.com").getId());
+    }
+
+    @Test
+    @DisplayName("Should report a deleted seller as not found")
+    public void deleteByIdShouldInvalidateSeller() {
+        Seller seller = new Seller(null, "Deleted Seller", "deleted@gmail.com", 3000.0, new Date(),
+                new Department(1, null));
+        sellerDao.insert(seller);
+        sellerDao.findById(seller.getId());
+
+        sellerDao.deleteById(seller.getId());
+
+        assertThrows(EntityNotFoundException.class, () -> sellerDao.findById(seller.getId()));
+        assertThrows(EntityNotFoundException.class, () -> sellerDao.findByEmail("deleted@gmail.com"));
+    }
+
+    @Test
+    @DisplayName("Should reload cached sellers after their department is renamed")
+    public void departmentUpdateShouldEvictItsSellers() {
+        DepartmentDao departmentDao = new SellerEvictingDepartmentDao(
+                DaoFactory.createDepartmentDao(connection), sellerDao);
+        Seller cached = sellerDao.findById(1);
+        Department department = departmentDao.findById(cached.getDepartment().getId());
+
+        department.setName("Renamed Department");
+        departmentDao.update(department);
+
+        Seller reloaded = sellerDao.findById(1);
+        assertEquals("Renamed Department", reloaded.getDepartment().getName());
+        assertTrue(reloaded.getDepartment().getVersion() > cached.getDepartment().getVersion());
+    }
+
+    @Test
+    @DisplayName("Should not cache a seller read before a concurrent update of it")
+    public void findByEmailShouldNotRestoreSellerUpdatedDuringLoad() throws Exception {
+        PausedReads reads = new PausedReads(DaoFactory.createSellerDao(connection));
+        CachingSellerDao cache = new CachingSellerDao(reads.dao(), 100, Duration.ofMinutes(5), Duration.ofMinutes(1));
+        Seller seller = DaoFactory.createSellerDao(connection).findByEmail("bob@gmail.com");
+        seller.setName("Bob Updated");
+
+        reads.interleave(() -> cache.findByEmail("bob@gmail.com"), () -> cache.update(seller));
+
+        assertEquals("Bob Updated", cache.findByEmail("bob@gmail.com").getName());
+        assertEquals("Bob Updated", cache.findById(seller.getId()).getName());
+    }
+
+    @Test
+    @DisplayName("Should not remember a missing email once a concurrent insert adds it")
+    public void findByEmailShouldNotHideSellerInsertedDuringLoad() throws Exception {
+        PausedReads reads = new PausedReads(DaoFactory.createSellerDao(connection));
+        CachingSellerDao cache = new CachingSellerDao(reads.dao(), 100, Duration.ofMinutes(5), Duration.ofMinutes(1));
+        Seller seller = new Seller(null, "Racing Seller", "racing@gmail.com", 3000.0, new Date(),
+                new Department(1, null));
+
+        reads.interleave(() -> assertThrows(EntityNotFoundException.class, () -> cache.findByEmail("racing@gmail.com")),
+                () -> cache.insert(seller));
+
+        assertEquals(seller.getId(), cache.findByEmail("racing@gmail.com").getId());
+    }
+
+    /**
+     * Wraps a DAO so that the first read returns its result only after a
+     * write made from another thread has reached the database.
+     */
+    private static final class PausedReads {
+
+        private static final Set<String> READS = Set.of("findById", "findByEmail");
+
+        private final CountDownLatch readDone = new CountDownLatch(1);
+        private final CountDownLatch written = new CountDownLatch(1);
+        private final SellerDao dao;
+
+        PausedReads(SellerDao delegate) {
+            dao = (SellerDao) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{SellerDao.class},
+                    (proxy, method, args) -> {
+                        Object result;
+                        Throwable failure = null;
+                        try {
+                            result = method.invoke(delegate, args);
+                        } catch (InvocationTargetException e) {
+                            result = null;
+                            failure = e.getCause();
+                        }
+                        if (READS.contains(method.getName()) && readDone.getCount() > 0) {
+                            readDone.countDown();
+                            assertTrue(written.await(10, TimeUnit.SECONDS), "Write did not reach the database");
+                        } else if (!READS.contains(method.getName())) {
+                            written.countDown();
+                        }
+                        if (failure != null) {
+                            throw failure;
+                        }
+                        return result;
+                    });
+        }
+
+        SellerDao dao() {
+            return dao;
+        }
+
+        /**
+         * Runs the read, and the write once the read has hit the database,
+         * each on its own thread. The write's cache invalidation then runs
+         * while the read is still holding its result.
+         */
+        void interleave(Runnable read, Runnable write) throws Exception {
+            CompletableFuture<Void> reader = CompletableFuture.runAsync(read);
+            assertTrue(readDone.await(10, TimeUnit.SECONDS), "Read did not reach the database");
+            CompletableFuture<Void> writer = CompletableFuture.runAsync(write);
+
+            writer.get(10, TimeUnit.SECONDS);
+            reader.get(10, TimeUnit.SECONDS);
+        }
+    }
+}
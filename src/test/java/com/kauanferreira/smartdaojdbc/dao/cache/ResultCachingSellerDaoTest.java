@@ -0,0 +1,113 @@
+package com.kauanferreira.smartdaojdbc.dao.cache;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.dao.DaoFactory;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+import com.kauanferreira.smartdaojdbc.entity.Seller;
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for {@link ResultCachingSellerDao} and {@link VersionedDepartmentDao}.
+ * The decorated DAOs run on a bound connection inside a transaction
+ * that is rolled back after each test.
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class ResultCachingSellerDaoTest {
+
+    private static Connection connection;
+    private TableVersions versions;
+    private ResultCachingSellerDao sellerDao;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        connection = DB.getConnection();
+        connection.setAutoCommit(false);
+    }
+
+    @BeforeEach
+    public void createCache() {
+        versions = new TableVersions();
+        sellerDao = new ResultCachingSellerDao(DaoFactory.createSellerDao(connection), versions,
+                1000, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    public void rollback() throws Exception {
+        connection.rollback();
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        connection.setAutoCommit(true);
+        DB.closeConnection(connection);
+        DB.closePool();
+    }
+
+    @Test
+    @DisplayName("Should share one unmodifiable list per method and arguments")
+    public void listsShouldBeCachedPerArguments() {
+        List<Seller> page = sellerDao.findAll(1, 2);
+
+        assertSame(page, sellerDao.findAll(1, 2));
+        assertNotSame(page, sellerDao.findAll(2, 2));
+        assertSame(sellerDao.findByBirthMonth(1, 5), sellerDao.findByBirthMonth(1, 5));
+        assertThrows(UnsupportedOperationException.class, () -> page.add(page.getFirst()));
+        assertEquals(2, sellerDao.getMetrics().hits());
+        assertEquals(3, sellerDao.getMetrics().misses());
+    }
+
+    @Test
+    @DisplayName("Should reload the lists after a seller write")
+    public void sellerWriteShouldInvalidateLists() {
+        Department department = new Department(1, null);
+        List<Seller> before = sellerDao.findByDepartment(department);
+
+        sellerDao.insert(new Seller(null, "Result Cache", "result.cache@gmail.com", 2500.0, new Date(), department));
+        List<Seller> after = sellerDao.findByDepartment(department);
+
+        assertNotSame(before, after);
+        assertEquals(before.size() + 1, after.size());
+        assertSame(after, sellerDao.findByDepartment(new Department(1, "Other Name")));
+    }
+
+    @Test
+    @DisplayName("Should reload the lists after a department write")
+    public void departmentWriteShouldInvalidateLists() {
+        VersionedDepartmentDao departmentDao = new VersionedDepartmentDao(
+                DaoFactory.createDepartmentDao(connection), versions);
+        Department department = departmentDao.findById(1);
+        List<Seller> before = sellerDao.findByDepartment(department);
+
+        department.setName("Renamed " + department.getName());
+        departmentDao.update(department);
+        List<Seller> after = sellerDao.findByDepartment(department);
+
+        assertNotSame(before, after);
+        assertTrue(after.stream().allMatch(seller -> seller.getDepartment().getName().equals(department.getName())));
+    }
+
+    @Test
+    @DisplayName("Should evict lists once the cached rows exceed the limit")
+    public void cacheShouldBeBoundedByRowCount() {
+        ResultCachingSellerDao small = new ResultCachingSellerDao(DaoFactory.createSellerDao(connection), versions,
+                3, Duration.ofMinutes(5));
+
+        for (int page = 1; page <= 5; page++) {
+            small.findAll(page, 2);
+        }
+        small.findAll(1, 2);
+
+        assertTrue(small.getMetrics().evictions() > 0);
+        assertTrue(small.getMetrics().size() <= 2);
+    }
+}
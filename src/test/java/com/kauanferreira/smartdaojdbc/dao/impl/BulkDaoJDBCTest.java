@@ -0,0 +1,101 @@
+package com.kauanferreira.smartdaojdbc.dao.impl;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.dao.BulkDao;
+import com.kauanferreira.smartdaojdbc.dao.BulkLoadResult;
+import com.kauanferreira.smartdaojdbc.dao.DaoFactory;
+import com.kauanferreira.smartdaojdbc.dao.SellerDao;
+import com.kauanferreira.smartdaojdbc.entity.Seller;
+import org.junit.jupiter.api.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for {@link BulkDaoJDBC}.
+ * Imports run on a bound connection inside a transaction
+ * that is rolled back after each test.
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class BulkDaoJDBCTest {
+
+    private static Connection connection;
+    private static BulkDao bulkDao;
+    private static SellerDao sellerDao;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        connection = DB.getConnection();
+        connection.setAutoCommit(false);
+        bulkDao = new BulkDaoJDBC(connection);
+        sellerDao = DaoFactory.createSellerDao(connection);
+    }
+
+    @AfterEach
+    public void rollback() throws Exception {
+        connection.rollback();
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        connection.setAutoCommit(true);
+        DB.closeConnection(connection);
+        DB.closePool();
+    }
+
+    @Test
+    @DisplayName("Should load valid sellers and report every rejected row")
+    public void importSellersShouldReportRowErrors() {
+        String csv = """
+                name,email,birthdate,basesalary,departmentid
+                Copy One,copyone@gmail.com,1990-05-01,1500,1
+                "Copy, Two",copytwo@gmail.com,1991-06-02,2500.50,2
+                Bad Date,baddate@gmail.com,1991-13-45,2500,2
+                No Department,nodep@gmail.com,1990-01-01,1000,999999
+                Existing,bob@gmail.com,1990-01-01,1000,1
+                Copy Again,copyone@gmail.com,1990-01-01,1000,1
+                Too,Few
+                """;
+
+        BulkLoadResult result = bulkDao.importSellers(new StringReader(csv));
+
+        assertEquals(7, result.rowsRead());
+        assertEquals(2, result.rowsLoaded());
+        assertEquals(5, result.rowsRejected());
+        assertEquals(java.util.List.of(4L, 5L, 6L, 7L, 8L),
+                result.errors().stream().map(BulkLoadResult.RowError::line).toList());
+
+        Seller seller = sellerDao.findByEmail("copytwo@gmail.com");
+        assertEquals("Copy, Two", seller.getName());
+        assertEquals(2500.50, seller.getBaseSalary());
+    }
+
+    @Test
+    @DisplayName("Should load departments without a header line")
+    public void importDepartmentsShouldLoadRows() {
+        BulkLoadResult result = bulkDao.importDepartments(new StringReader("Copy Dept A\nCopy Dept B\n\"\"\n"));
+
+        assertEquals(3, result.rowsRead());
+        assertEquals(2, result.rowsLoaded());
+        assertEquals(1, result.errors().size());
+    }
+
+    @Test
+    @DisplayName("Should export sellers as CSV with a header")
+    public void exportSellersShouldWriteCsv() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        bulkDao.exportSellers(out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith("id,name,email,birthdate,basesalary,departmentid"));
+        assertTrue(csv.contains("bob@gmail.com"));
+    }
+}
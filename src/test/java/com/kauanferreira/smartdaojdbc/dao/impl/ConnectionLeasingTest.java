@@ -0,0 +1,87 @@
+package com.kauanferreira.smartdaojdbc.dao.impl;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.dao.SellerDao;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the connection-leasing mode of {@link SellerDaoJDBC}: concurrent
+ * callers of one DAO must each run on their own pooled connection.
+ * Throughput is measured by the benchmark profile instead.
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class ConnectionLeasingTest {
+
+    private static final int THREADS = 4;
+
+    @AfterAll
+    public static void tearDown() {
+        DB.closePool();
+    }
+
+    @Test
+    @DisplayName("Should lease one physical connection per concurrent caller")
+    public void concurrentCallsShouldUseSeveralConnections() throws Exception {
+        HikariConfig config = DB.createConfig();
+        config.setMaximumPoolSize(THREADS);
+
+        try (HikariDataSource dataSource = new HikariDataSource(config)) {
+            SellerDao sellerDao = new SellerDaoJDBC(dataSource);
+            CountDownLatch inside = new CountDownLatch(THREADS);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            List<Future<?>> workers = new ArrayList<>();
+
+            try {
+                for (int i = 0; i < THREADS; i++) {
+                    workers.add(executor.submit(() -> {
+                        AtomicBoolean first = new AtomicBoolean(true);
+                        sellerDao.forEach(seller -> {
+                            if (first.getAndSet(false)) {
+                                inside.countDown();
+                                await(release);
+                            }
+                        });
+                        return null;
+                    }));
+                }
+
+                assertTrue(inside.await(10, TimeUnit.SECONDS), "Callers were serialized on one connection");
+                assertEquals(THREADS, dataSource.getHikariPoolMXBean().getActiveConnections());
+            } finally {
+                release.countDown();
+                for (Future<?> worker : workers) {
+                    worker.get(10, TimeUnit.SECONDS);
+                }
+                executor.shutdown();
+            }
+            assertEquals(0, dataSource.getHikariPoolMXBean().getActiveConnections());
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.kauanferreira.smartdaojdbc.dao.impl;
 import com.kauanferreira.smartdaojdbc.DB;
 import com.kauanferreira.smartdaojdbc.dao.DaoFactory;
 import com.kauanferreira.smartdaojdbc.dao.DepartmentDao;
+import com.kauanferreira.smartdaojdbc.dao.MultiGetResult;
 import com.kauanferreira.smartdaojdbc.entity.Department;
 import com.kauanferreira.smartdaojdbc.exception.EntityNotFoundException;
 import org.junit.jupiter.api.*;
@@ -17,7 +18,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * Tests all CRUD operations against a real PostgreSQL database.
  *
  * @author Kauan
- * @version 1.0
+ * @version 1.1
  * @since 2026
  */
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -66,6 +67,17 @@ public class DepartmentDaoJDBCTest {
         assertThrows(EntityNotFoundException.class, () -> departmentDao.findById(9999999));
     }
 
+    @Test
+    @Order(3)
+    @DisplayName("Should find departments by ids in request order, reporting missing ids")
+    public void findByIdsShouldKeepOrderAndReportMissingIds() {
+        MultiGetResult<Department> result = departmentDao.findByIds(List.of(9999999, insertedId, insertedId));
+
+        assertEquals(1, result.items().size());
+        assertEquals("Test Department", result.items().get(0).getName());
+        assertEquals(List.of(9999999), result.missingIds());
+    }
+
     @Test
     @Order(4)
     @DisplayName("Should return all departments")
@@ -85,6 +97,20 @@ public class DepartmentDaoJDBCTest {
         assertTrue(departments.size() <= 2);
     }
 
+    @Test
+    @Order(5)
+    @DisplayName("Should return the next keyset page after the given key")
+    public void findAfterShouldContinueFromLastKey() {
+        List<Department> firstPage = departmentDao.findAfter(null, null, 2);
+        Department last = firstPage.get(firstPage.size() - 1);
+
+        List<Department> secondPage = departmentDao.findAfter(last.getName(), last.getId(), 2);
+
+        assertEquals(2, firstPage.size());
+        assertFalse(secondPage.isEmpty());
+        assertTrue(secondPage.stream().noneMatch(firstPage::contains));
+    }
+
     @Test
     @Order(6)
     @DisplayName("Should update department data")
@@ -106,4 +132,39 @@ public class DepartmentDaoJDBCTest {
 
         assertThrows(EntityNotFoundException.class, () -> departmentDao.findById(insertedId));
     }
+
+    @Test
+    @Order(8)
+    @DisplayName("Should batch insert and update departments")
+    public void insertAllAndUpdateAllShouldPersistEveryDepartment() {
+        List<Department> departments = List.of(
+                new Department(null, "Batch One"),
+                new Department(null, "Batch Two")
+        );
+
+        departmentDao.insertAll(departments);
+        departments.forEach(department -> assertNotNull(department.getId()));
+        assertEquals("Batch Two", departmentDao.findById(departments.get(1).getId()).getName());
+
+        departments.forEach(department -> department.setName(department.getName() + " Updated"));
+        departmentDao.updateAll(departments);
+        assertEquals("Batch One Updated", departmentDao.findById(departments.get(0).getId()).getName());
+
+        departments.forEach(department -> departmentDao.deleteById(department.getId()));
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Should reject a batch with a department missing its name before inserting any row")
+    public void insertAllShouldRejectIncompleteDepartmentBeforeBatching() {
+        List<Department> departments = List.of(
+                new Department(null, "Batch Unnamed Sibling"),
+                new Department(null, null)
+        );
+
+        assertThrows(IllegalArgumentException.class, () -> departmentDao.insertAll(departments));
+        assertNull(departments.get(0).getId());
+        assertTrue(departmentDao.findAll().stream()
+                .noneMatch(department -> department.getName().equals("Batch Unnamed Sibling")));
+    }
 }
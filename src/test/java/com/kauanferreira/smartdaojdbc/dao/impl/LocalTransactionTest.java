@@ -0,0 +1,156 @@
+package com.kauanferreira.smartdaojdbc.dao.impl;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+import com.kauanferreira.smartdaojdbc.entity.Seller;
+import com.kauanferreira.smartdaojdbc.exception.DbException;
+import com.kauanferreira.smartdaojdbc.exception.DuplicateEntryException;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.*;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Date;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the transactions the JDBC DAOs open for a single operation when
+ * the rollback itself fails: the connection must go back to the pool and
+ * the original failure must not be masked.
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class LocalTransactionTest {
+
+    private static HikariDataSource pool;
+
+    @BeforeAll
+    public static void setUp() {
+        HikariConfig config = DB.createConfig();
+        config.setMaximumPoolSize(2);
+        config.setMinimumIdle(1);
+        pool = new HikariDataSource(config);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        pool.close();
+        DB.closePool();
+    }
+
+    @Test
+    @DisplayName("Should keep the batch failure and release the connection when the rollback fails")
+    public void failedRollbackShouldBeSuppressedAndConnectionReleased() {
+        SellerDaoJDBC sellerDao = new SellerDaoJDBC(new FailingRollbackDataSource(pool));
+        List<Seller> sellers = List.of(
+                new Seller(null, "Rollback Dup", "rollbackdup@gmail.com", 1000.0, new Date(), new Department(1, null)),
+                new Seller(null, "Rollback Dup", "rollbackdup@gmail.com", 1000.0, new Date(), new Department(1, null))
+        );
+
+        DuplicateEntryException e = assertThrows(DuplicateEntryException.class, () -> sellerDao.insertAll(sellers));
+
+        assertEquals(0, pool.getHikariPoolMXBean().getActiveConnections());
+        assertEquals(FailingRollbackDataSource.MESSAGE, e.getCause().getSuppressed()[0].getMessage());
+    }
+
+    @Test
+    @DisplayName("Should report a failed rollback after a successful scan and release the connection")
+    public void failedRollbackAloneShouldBeThrownAndConnectionReleased() {
+        SellerDaoJDBC sellerDao = new SellerDaoJDBC(new FailingRollbackDataSource(pool));
+
+        DbException e = assertThrows(DbException.class, () -> sellerDao.forEach(seller -> {
+        }));
+
+        assertEquals(FailingRollbackDataSource.MESSAGE, e.getMessage());
+        assertEquals(0, pool.getHikariPoolMXBean().getActiveConnections());
+    }
+
+    @Test
+    @DisplayName("Should attach the failed rollback to the exception of the operation")
+    public void failedRollbackShouldBeAddedAsSuppressed() throws Exception {
+        SQLException failure = new SQLException("operation failed");
+
+        try (Connection connection = new FailingRollbackDataSource(pool).getConnection()) {
+            SQLException thrown = assertThrows(SQLException.class, () -> {
+                try (LocalTransaction ignored = LocalTransaction.begin(connection)) {
+                    throw failure;
+                }
+            });
+
+            assertSame(failure, thrown);
+            assertEquals(FailingRollbackDataSource.MESSAGE, thrown.getSuppressed()[0].getMessage());
+        }
+        assertEquals(0, pool.getHikariPoolMXBean().getActiveConnections());
+    }
+
+    /** Hands out pooled connections whose {@code rollback()} always fails. */
+    private record FailingRollbackDataSource(DataSource delegate) implements DataSource {
+
+        static final String MESSAGE = "rollback failed";
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = delegate.getConnection();
+
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("rollback") && args == null) {
+                            throw new SQLException(MESSAGE, "08006");
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public PrintWriter getLogWriter() {
+            return null;
+        }
+
+        @Override
+        public void setLogWriter(PrintWriter out) {
+        }
+
+        @Override
+        public void setLoginTimeout(int seconds) {
+        }
+
+        @Override
+        public int getLoginTimeout() {
+            return 0;
+        }
+
+        @Override
+        public Logger getParentLogger() {
+            return Logger.getGlobal();
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> type) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> type) {
+            return false;
+        }
+    }
+}
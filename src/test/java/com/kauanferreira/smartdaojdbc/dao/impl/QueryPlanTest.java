@@ -0,0 +1,117 @@
+package com.kauanferreira.smartdaojdbc.dao.impl;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query plan regression tests for the indexed {@link SellerDaoJDBC} lookups.
+ * Seeds 50k sellers over 200 departments, so a sequential scan is never
+ * the cheapest plan, and fails if the planner stops using the expected index.
+ * Everything runs in a transaction that is rolled back at the end.
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class QueryPlanTest {
+
+    private static Connection connection;
+    private static int departmentId;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        connection = DB.getConnection();
+        connection.setAutoCommit(false);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO department (name) "
+                    + "SELECT 'Plan Department ' || g FROM generate_series(1, 200) AS g");
+            statement.executeUpdate("INSERT INTO seller (name, email, birthdate, basesalary, departmentid) "
+                    + "SELECT 'Plan Seller ' || lpad(g::text, 6, '0'), 'plan' || g || '@plan.com', "
+                    + "DATE '1960-01-01' + (g % 15000), 1000, "
+                    + "(SELECT max(id) FROM department) - (g % 200) "
+                    + "FROM generate_series(1, 50000) AS g");
+            // Merge the GIN pending list, as autovacuum would, so its size does not skew the trigram cost
+            statement.execute("SELECT gin_clean_pending_list('idx_seller_name_trgm')");
+            statement.execute("ANALYZE seller");
+            statement.execute("ANALYZE department");
+
+            try (ResultSet resultSet = statement.executeQuery("SELECT max(id) FROM department")) {
+                resultSet.next();
+                departmentId = resultSet.getInt(1);
+            }
+        }
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        connection.rollback();
+        connection.setAutoCommit(true);
+        DB.closeConnection(connection);
+        DB.closePool();
+    }
+
+    @Test
+    @DisplayName("findByDepartment should read the department index")
+    public void findByDepartmentShouldUseDepartmentIndex() throws Exception {
+        String plan = explain("SELECT seller.*, department.Name as DepName "
+                + "FROM seller INNER JOIN department "
+                + "ON seller.DepartmentId = department.Id "
+                + "WHERE DepartmentId = ? "
+                + "ORDER BY Name", departmentId);
+
+        assertFalse(plan.contains("Seq Scan on seller"), plan);
+        assertTrue(plan.contains("idx_seller_department_name"), plan);
+    }
+
+    @Test
+    @DisplayName("findByBirthMonth should read the birth month index")
+    public void findByBirthMonthShouldUseExpressionIndex() throws Exception {
+        String plan = explain("SELECT seller.*, department.Name as DepName "
+                + "FROM seller INNER JOIN department "
+                + "ON seller.DepartmentId = department.Id "
+                + "WHERE EXTRACT(MONTH FROM seller.BirthDate)::int = ? "
+                + "ORDER BY seller.Name "
+                + "LIMIT ?", 7, 50);
+
+        assertFalse(plan.contains("Seq Scan on seller"), plan);
+        assertTrue(plan.contains("idx_seller_birth_month_name"), plan);
+    }
+
+    @Test
+    @DisplayName("findByName should read the trigram index")
+    public void findByNameShouldUseTrigramIndex() throws Exception {
+        String plan = explain("SELECT seller.*, department.Name as DepName "
+                + "FROM seller INNER JOIN department "
+                + "ON seller.DepartmentId = department.Id "
+                + "WHERE seller.Name ILIKE ? "
+                + "ORDER BY Name "
+                + "LIMIT ?", "%Plan Seller 012345%", 50);
+
+        assertFalse(plan.contains("Seq Scan on seller"), plan);
+        assertTrue(plan.contains("idx_seller_name_trgm"), plan);
+    }
+
+    private static String explain(String sql, Object... parameters) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                preparedStatement.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append(System.lineSeparator());
+                }
+                return plan.toString();
+            }
+        }
+    }
+}
@@ -2,12 +2,15 @@ package com.kauanferreira.smartdaojdbc.dao.impl;
 
 import com.kauanferreira.smartdaojdbc.DB;
 import com.kauanferreira.smartdaojdbc.dao.DaoFactory;
+import com.kauanferreira.smartdaojdbc.dao.MultiGetResult;
 import com.kauanferreira.smartdaojdbc.dao.SellerDao;
 import com.kauanferreira.smartdaojdbc.entity.Department;
 import com.kauanferreira.smartdaojdbc.entity.Seller;
+import com.kauanferreira.smartdaojdbc.exception.DuplicateEntryException;
 import com.kauanferreira.smartdaojdbc.exception.EntityNotFoundException;
 import org.junit.jupiter.api.*;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -18,7 +21,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * a real PostgreSQL database.
  *
  * @author Kauan
- * @version 1.0
+ * @version 1.1
  * @since 2026
  */
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -73,6 +76,22 @@ public class SellerDaoJDBCTest {
         });
     }
 
+    @Test
+    @Order(3)
+    @DisplayName("Should find sellers by ids in request order, reporting missing ids")
+    public void findByIdsShouldKeepOrderAndReportMissingIds() {
+        Seller other = sellerDao.findAll(1, 1).get(0);
+
+        MultiGetResult<Seller> result = sellerDao.findByIds(List.of(999999999, insertId, other.getId(), insertId));
+
+        assertEquals(other.getId().equals(insertId) ? 1 : 2, result.items().size());
+        assertEquals(insertId, result.items().get(0).getId());
+        assertEquals("testuser@gmail.com", result.items().get(0).getEmail());
+        assertNotNull(result.items().get(0).getDepartment().getName());
+        assertEquals(List.of(999999999), result.missingIds());
+        assertTrue(sellerDao.findByIds(List.of()).items().isEmpty());
+    }
+
     @Test
     @Order(4)
     @DisplayName("Should find seller by email")
@@ -102,6 +121,14 @@ public class SellerDaoJDBCTest {
         assertTrue(sellers.stream().anyMatch(s -> s.getName().contains("Test")));
     }
 
+    @Test
+    @Order(6)
+    @DisplayName("Should limit name search results and match wildcards literally")
+    public void findByNameShouldRespectLimitAndEscapeWildcards() {
+        assertEquals(1, sellerDao.findByName("e", 1).size());
+        assertTrue(sellerDao.findByName("%", 10).isEmpty());
+    }
+
     @Test
     @Order(7)
     @DisplayName("Should find sellers by department")
@@ -124,6 +151,18 @@ public class SellerDaoJDBCTest {
         assertFalse(sellers.isEmpty());
     }
 
+    @Test
+    @Order(8)
+    @DisplayName("Should limit birth month results in name order")
+    public void findByBirthMonthShouldRespectLimit() {
+        int currentMonth = new Date().getMonth() + 1;
+        List<Seller> sellers = sellerDao.findByBirthMonth(currentMonth);
+        List<Seller> limited = sellerDao.findByBirthMonth(currentMonth, 1);
+
+        assertEquals(1, limited.size());
+        assertEquals(sellers.get(0).getName(), limited.get(0).getName());
+    }
+
     @Test
     @Order(9)
     @DisplayName("Should return all sellers")
@@ -133,6 +172,18 @@ public class SellerDaoJDBCTest {
         assertFalse(sellers.isEmpty());
     }
 
+    @Test
+    @Order(9)
+    @DisplayName("Should stream every seller in name order")
+    public void forEachShouldVisitAllSellers() {
+        List<Seller> streamed = new ArrayList<>();
+
+        sellerDao.forEach(streamed::add);
+
+        assertEquals(sellerDao.findAll().stream().map(Seller::getId).toList(),
+                streamed.stream().map(Seller::getId).toList());
+    }
+
     @Test
     @Order(10)
     @DisplayName("Should return paginated sellers")
@@ -143,6 +194,21 @@ public class SellerDaoJDBCTest {
         assertTrue(sellers.size() <= 2);
     }
 
+    @Test
+    @Order(10)
+    @DisplayName("Should return the next keyset page after the given key")
+    public void findAfterShouldContinueFromLastKey() {
+        List<Seller> firstPage = sellerDao.findAfter(null, null, 2);
+        Seller last = firstPage.get(firstPage.size() - 1);
+
+        List<Seller> secondPage = sellerDao.findAfter(last.getName(), last.getId(), 2);
+
+        assertEquals(2, firstPage.size());
+        assertFalse(secondPage.isEmpty());
+        assertTrue(secondPage.stream().noneMatch(firstPage::contains));
+        assertTrue(secondPage.get(0).getName().compareTo(last.getName()) >= 0);
+    }
+
     @Test
     @Order(11)
     @DisplayName("Should update seller date")
@@ -168,4 +234,81 @@ public class SellerDaoJDBCTest {
             sellerDao.findById(insertId);
         });
     }
+
+    @Test
+    @Order(13)
+    @DisplayName("Should batch insert and update sellers")
+    public void insertAllAndUpdateAllShouldPersistEverySeller() {
+        List<Seller> sellers = List.of(
+                new Seller(null, "Batch One", "batchone@gmail.com", 1000.0, new Date(), new Department(1, null)),
+                new Seller(null, "Batch Two", "batchtwo@gmail.com", 2000.0, new Date(), new Department(2, null)),
+                new Seller(null, "Batch Three", "batchthree@gmail.com", 3000.0, new Date(), new Department(3, null))
+        );
+
+        sellerDao.insertAll(sellers);
+        sellers.forEach(seller -> assertNotNull(seller.getId()));
+        assertEquals("Batch Two", sellerDao.findById(sellers.get(1).getId()).getName());
+
+        sellers.forEach(seller -> seller.setBaseSalary(seller.getBaseSalary() + 1));
+        sellerDao.updateAll(sellers);
+        assertEquals(3001.0, sellerDao.findById(sellers.get(2).getId()).getBaseSalary());
+
+        sellers.forEach(seller -> sellerDao.deleteById(seller.getId()));
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("Should roll back the whole batch on a duplicate email")
+    public void insertAllShouldRollBackOnDuplicateEmail() {
+        List<Seller> sellers = List.of(
+                new Seller(null, "Batch Dup", "batchdup@gmail.com", 1000.0, new Date(), new Department(1, null)),
+                new Seller(null, "Batch Dup", "batchdup@gmail.com", 1000.0, new Date(), new Department(1, null))
+        );
+
+        assertThrows(DuplicateEntryException.class, () -> sellerDao.insertAll(sellers));
+        assertThrows(EntityNotFoundException.class, () -> sellerDao.findByEmail("batchdup@gmail.com"));
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("Should reject a batch with a seller missing its department without leaving rows behind")
+    public void insertAllShouldRejectIncompleteSellerBeforeBatching() {
+        List<Seller> invalid = List.of(
+                new Seller(null, "Batch Stale", "batchstale@gmail.com", 1000.0, new Date(), new Department(1, null)),
+                new Seller(null, "Batch Orphan", "batchorphan@gmail.com", 1000.0, new Date(), null)
+        );
+        List<Seller> valid = List.of(
+                new Seller(null, "Batch Clean", "batchclean@gmail.com", 1000.0, new Date(), new Department(1, null))
+        );
+
+        assertThrows(IllegalArgumentException.class, () -> sellerDao.insertAll(invalid));
+        sellerDao.insertAll(valid);
+
+        try {
+            assertEquals("Batch Clean", sellerDao.findByEmail("batchclean@gmail.com").getName());
+            assertThrows(EntityNotFoundException.class, () -> sellerDao.findByEmail("batchstale@gmail.com"));
+            assertThrows(EntityNotFoundException.class, () -> sellerDao.findByEmail("batchorphan@gmail.com"));
+        } finally {
+            valid.forEach(seller -> sellerDao.deleteById(seller.getId()));
+        }
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("Should read the row versions of the seller and its department")
+    public void updateShouldIncrementVersion() {
+        Seller seller = new Seller(null, "Versioned", "versioned@gmail.com", 1000.0, new Date(), new Department(1, null));
+        sellerDao.insert(seller);
+
+        Seller loaded = sellerDao.findById(seller.getId());
+        assertEquals(1L, loaded.getVersion());
+        assertNotNull(loaded.getDepartment().getVersion());
+
+        loaded.setBaseSalary(1100.0);
+        sellerDao.update(loaded);
+        sellerDao.update(loaded);
+        assertEquals(3L, sellerDao.findById(seller.getId()).getVersion());
+
+        sellerDao.deleteById(seller.getId());
+    }
 }
@@ -0,0 +1,100 @@
+package com.kauanferreira.smartdaojdbc.dao.mapper;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+import com.kauanferreira.smartdaojdbc.entity.Seller;
+import com.kauanferreira.smartdaojdbc.exception.DbException;
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for {@link RowMappers}.
+ * Maps rows built with literal SELECTs, so no table data is needed.
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class RowMappersTest {
+
+    private static Connection connection;
+
+    @BeforeAll
+    public static void setUp() {
+        connection = DB.getConnection();
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        DB.closeConnection(connection);
+        DB.closePool();
+    }
+
+    @Test
+    @DisplayName("Should fill simple and associated properties from column labels")
+    public void forResultSetShouldMapNestedEntity() throws Exception {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT 7 AS id, 'Ana' AS name, 'ana@gmail.com' AS email, DATE '1990-05-01' AS birth_date, "
+                             + "2500.5::float8 AS basesalary, 3 AS department_id, 'Books' AS department_name")) {
+            List<Seller> sellers = RowMappers.forResultSet(Seller.class, resultSet).mapAll(resultSet);
+
+            assertEquals(1, sellers.size());
+            Seller seller = sellers.get(0);
+            assertEquals(7, seller.getId());
+            assertEquals("Ana", seller.getName());
+            assertEquals("ana@gmail.com", seller.getEmail());
+            assertEquals(java.sql.Date.valueOf("1990-05-01"), seller.getBirthDate());
+            assertEquals(2500.5, seller.getBaseSalary());
+            assertEquals(new Department(3, "Books"), seller.getDepartment());
+            assertEquals("Books", seller.getDepartment().getName());
+        }
+    }
+
+    @Test
+    @DisplayName("Should share one associated instance per id within a result set")
+    public void mapAllShouldShareAssociatedEntities() throws Exception {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT g AS id, 'Seller ' || g AS name, g % 2 + 1 AS department_id, 'Dep' AS department_name "
+                             + "FROM generate_series(1, 4) AS g")) {
+            List<Seller> sellers = RowMappers.forResultSet(Seller.class, resultSet).mapAll(resultSet);
+
+            assertSame(sellers.get(0).getDepartment(), sellers.get(2).getDepartment());
+            assertNotSame(sellers.get(0).getDepartment(), sellers.get(1).getDepartment());
+        }
+    }
+
+    @Test
+    @DisplayName("Should compile a shape once and reuse it")
+    public void forResultSetShouldCacheMappingPerShape() throws Exception {
+        String sql = "SELECT 1 AS id, 'Cached' AS name";
+
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery(sql)) {
+                RowMappers.forResultSet(Department.class, resultSet);
+            }
+            int cached = RowMappers.getCachedMappings();
+
+            try (ResultSet resultSet = statement.executeQuery(sql)) {
+                RowMappers.forResultSet(Department.class, resultSet);
+            }
+            assertEquals(cached, RowMappers.getCachedMappings());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a column that matches no property")
+    public void forResultSetShouldRejectUnknownColumn() throws Exception {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT 1 AS id, 'x' AS nickname")) {
+            assertThrows(DbException.class, () -> RowMappers.forResultSet(Department.class, resultSet));
+        }
+    }
+}
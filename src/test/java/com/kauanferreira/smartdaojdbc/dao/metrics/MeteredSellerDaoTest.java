@@ -0,0 +1,93 @@
+package com.kauanferreira.smartdaojdbc.dao.metrics;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.dao.impl.SellerDaoJDBC;
+import com.kauanferreira.smartdaojdbc.entity.Seller;
+import com.kauanferreira.smartdaojdbc.exception.DbException;
+import com.kauanferreira.smartdaojdbc.exception.EntityNotFoundException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for {@link MeteredSellerDao}.
+ * The decorated DAO runs on a bound connection inside a transaction
+ * that is rolled back after each test.
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class MeteredSellerDaoTest {
+
+    private static Connection connection;
+    private SimpleMeterRegistry registry;
+    private MeteredSellerDao sellerDao;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        connection = DB.getConnection();
+        connection.setAutoCommit(false);
+    }
+
+    @BeforeEach
+    public void createDao() {
+        registry = new SimpleMeterRegistry();
+        sellerDao = new MeteredSellerDao(new SellerDaoJDBC(connection), registry);
+    }
+
+    @AfterEach
+    public void rollback() throws Exception {
+        connection.rollback();
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        connection.setAutoCommit(true);
+        DB.closeConnection(connection);
+        DB.closePool();
+    }
+
+    @Test
+    @DisplayName("Should time each call and record the rows it returned")
+    public void readShouldRecordLatencyAndRows() {
+        List<Seller> sellers = sellerDao.findAll();
+        sellerDao.findAll();
+
+        Timer timer = registry.get(DaoMetrics.CALLS)
+                .tags("dao", "seller", "method", "findAll", "outcome", "success").timer();
+        DistributionSummary rows = registry.get(DaoMetrics.ROWS).tags("method", "findAll").summary();
+
+        assertEquals(2, timer.count());
+        assertTrue(timer.totalTime(TimeUnit.NANOSECONDS) > 0);
+        assertEquals(2, rows.count());
+        assertEquals(sellers.size() * 2.0, rows.totalAmount());
+    }
+
+    @Test
+    @DisplayName("Should count a missing seller as a successful read of zero rows")
+    public void findByIdShouldRecordNotFoundAsEmptyRead() {
+        assertThrows(EntityNotFoundException.class, () -> sellerDao.findById(999999));
+
+        assertEquals(1, registry.get(DaoMetrics.CALLS).tags("method", "findById", "outcome", "success").timer().count());
+        assertEquals(0.0, registry.get(DaoMetrics.ROWS).tags("method", "findById").summary().totalAmount());
+        assertTrue(registry.find(DaoMetrics.ERRORS).counters().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should count failed calls by SQLState")
+    public void failedCallShouldCountErrorBySqlState() {
+        assertThrows(DbException.class, () -> sellerDao.findAll(0, 10));
+
+        assertEquals(1, registry.get(DaoMetrics.CALLS).tags("method", "findAllPage", "outcome", "error").timer().count());
+        assertEquals(1.0, registry.get(DaoMetrics.ERRORS)
+                .tags("dao", "seller", "method", "findAllPage", "sqlstate", "2201X").counter().count());
+    }
+}
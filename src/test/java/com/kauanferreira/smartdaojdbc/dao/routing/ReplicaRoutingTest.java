@@ -0,0 +1,205 @@
+package com.kauanferreira.smartdaojdbc.dao.routing;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.ReplicaDataSource;
+import com.kauanferreira.smartdaojdbc.dao.DepartmentDao;
+import com.kauanferreira.smartdaojdbc.dao.impl.DepartmentDaoJDBC;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+import com.kauanferreira.smartdaojdbc.exception.EntityNotFoundException;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the replica routing DAOs and {@link ReplicaDataSource}.
+ *
+ * <p>Starts two embedded PostgreSQL servers: a primary, and a replica
+ * subscribed to it through logical replication. Rows with ids above
+ * {@value #REPLICA_ONLY_ID} are written straight to the replica, so a
+ * read finding them proves it ran there.</p>
+ *
+ * @author Kauan
+ * @version 1.1
+ * @since 2026
+ */
+public class ReplicaRoutingTest {
+
+    private static final int REPLICA_ONLY_ID = 900_000;
+
+    private static EmbeddedPostgres primaryServer;
+    private static EmbeddedPostgres replicaServer;
+    private static HikariDataSource primaryPool;
+    private static HikariDataSource replicaPool;
+
+    private DepartmentDao primaryDao;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        primaryServer = EmbeddedPostgres.builder().setServerConfig("wal_level", "logical").start();
+        replicaServer = EmbeddedPostgres.builder().start();
+        migrate(primaryServer);
+        migrate(replicaServer);
+
+        execute(primaryServer, "CREATE PUBLICATION smartdao FOR TABLE department, seller");
+        execute(replicaServer, "TRUNCATE seller, department");
+        execute(replicaServer, "CREATE SUBSCRIPTION smartdao CONNECTION 'host=localhost port="
+                + primaryServer.getPort() + " dbname=postgres user=postgres' PUBLICATION smartdao");
+
+        primaryPool = pool(primaryServer, "primary");
+        replicaPool = pool(replicaServer, "replica");
+        awaitReplica("SELECT count(*) FROM department", count(primaryServer, "SELECT count(*) FROM department"));
+        execute(replicaServer, "INSERT INTO department (id, name) VALUES (" + (REPLICA_ONLY_ID + 1) + ", 'Replica Only')");
+    }
+
+    @BeforeEach
+    public void createDao() {
+        primaryDao = new DepartmentDaoJDBC(primaryPool);
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        primaryPool.close();
+        replicaPool.close();
+        execute(replicaServer, "DROP SUBSCRIPTION smartdao");
+        replicaServer.close();
+        primaryServer.close();
+        DB.closePool();
+    }
+
+    @Test
+    @DisplayName("Should read from the replica and write to the primary")
+    public void shouldRouteReadsToReplicaAndWritesToPrimary() throws Exception {
+        RoutingDepartmentDao dao = router(Duration.ZERO, ReplicaDataSource.Strategy.ROUND_ROBIN);
+        Department written = new Department(null, "Routed Write");
+
+        assertEquals("Replica Only", dao.findById(REPLICA_ONLY_ID + 1).getName());
+        assertThrows(EntityNotFoundException.class, () -> primaryDao.findById(REPLICA_ONLY_ID + 1));
+
+        dao.insert(written);
+
+        assertEquals("Routed Write", primaryDao.findById(written.getId()).getName());
+        assertEquals("Replica Only", dao.findById(REPLICA_ONLY_ID + 1).getName());
+        awaitReplica("SELECT count(*) FROM department WHERE id = " + written.getId(), 1);
+        assertEquals("Routed Write", dao.findById(written.getId()).getName());
+    }
+
+    @Test
+    @DisplayName("Should keep reads on the primary during the read-your-writes window")
+    public void shouldReadOwnWritesFromPrimary() {
+        RoutingDepartmentDao dao = router(Duration.ofMinutes(1), ReplicaDataSource.Strategy.ROUND_ROBIN);
+
+        assertEquals("Replica Only", dao.findById(REPLICA_ONLY_ID + 1).getName());
+
+        Department written = new Department(null, "Read Your Writes");
+        dao.insert(written);
+
+        assertEquals("Read Your Writes", dao.findById(written.getId()).getName());
+        assertThrows(EntityNotFoundException.class, () -> dao.findById(REPLICA_ONLY_ID + 1));
+    }
+
+    @Test
+    @DisplayName("Should keep reads on the primary after a write reported from around the DAO")
+    public void wroteShouldKeepReadsOnPrimary() {
+        RoutingDepartmentDao dao = router(Duration.ofMinutes(1), ReplicaDataSource.Strategy.ROUND_ROBIN);
+
+        assertEquals("Replica Only", dao.findById(REPLICA_ONLY_ID + 1).getName());
+
+        Department written = new Department(null, "Written Around");
+        primaryDao.insert(written);
+        dao.wrote();
+
+        assertEquals("Written Around", dao.findById(written.getId()).getName());
+        assertThrows(EntityNotFoundException.class, () -> dao.findById(REPLICA_ONLY_ID + 1));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when no replica answers")
+    public void shouldFallBackToPrimary() {
+        HikariDataSource closed = pool(replicaServer, "closed-replica");
+        closed.close();
+        ReplicaDataSource replicas = new ReplicaDataSource(List.of(closed), ReplicaDataSource.Strategy.ROUND_ROBIN,
+                primaryPool);
+        DepartmentDao dao = new DepartmentDaoJDBC(replicas);
+
+        assertThrows(EntityNotFoundException.class, () -> dao.findById(REPLICA_ONLY_ID + 1));
+        assertFalse(dao.findAll().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should pick the replica with the fewest connections in use")
+    public void leastPendingShouldPickIdlestReplica() throws Exception {
+        try (HikariDataSource busy = pool(replicaServer, "busy-replica");
+             HikariDataSource idle = pool(replicaServer, "idle-replica");
+             Connection held = busy.getConnection()) {
+            ReplicaDataSource replicas = new ReplicaDataSource(List.of(busy, idle),
+                    ReplicaDataSource.Strategy.LEAST_PENDING, null);
+
+            try (Connection connection = replicas.getConnection()) {
+                assertNotNull(held);
+                assertNotNull(connection);
+                assertEquals(1, idle.getHikariPoolMXBean().getActiveConnections());
+                assertEquals(1, busy.getHikariPoolMXBean().getActiveConnections());
+            }
+        }
+    }
+
+    private RoutingDepartmentDao router(Duration readYourWrites, ReplicaDataSource.Strategy strategy) {
+        ReplicaDataSource replicas = new ReplicaDataSource(List.of(replicaPool), strategy, primaryPool);
+        return new RoutingDepartmentDao(primaryDao, new DepartmentDaoJDBC(replicas), readYourWrites);
+    }
+
+    private static void migrate(EmbeddedPostgres server) {
+        Flyway.configure()
+                .dataSource(server.getPostgresDatabase())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+    }
+
+    private static HikariDataSource pool(EmbeddedPostgres server, String name) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(server.getJdbcUrl("postgres", "postgres"));
+        config.setMaximumPoolSize(2);
+        config.setConnectionTimeout(2000);
+        return new HikariDataSource(config);
+    }
+
+    private static void execute(EmbeddedPostgres server, String sql) throws Exception {
+        try (Connection connection = server.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static long count(EmbeddedPostgres server, String sql) throws Exception {
+        try (Connection connection = server.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    /** Waits up to ten seconds for a count on the replica to reach the expected value. */
+    private static void awaitReplica(String sql, long expected) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+
+        while (count(replicaServer, sql) != expected) {
+            if (System.nanoTime() > deadline) {
+                fail("Replica did not catch up: " + sql);
+            }
+            Thread.sleep(50);
+        }
+    }
+}
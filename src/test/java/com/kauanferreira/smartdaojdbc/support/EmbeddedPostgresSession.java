@@ -0,0 +1,67 @@
+package com.kauanferreira.smartdaojdbc.support;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Starts a throwaway PostgreSQL server for the whole test run when the
+ * {@code embeddedPostgres} system property is {@code true}
+ * ({@code mvn test -Pembedded-db}).
+ *
+ * <p>The server listens on a random port and gets the Flyway migrations
+ * of {@code db/migration}, seed data included. Its address is published
+ * as {@code db.dburl}, {@code db.user} and {@code db.password} system
+ * properties, which {@link DB} reads before db.properties, so the tests
+ * and benchmarks run unchanged and need no database server or
+ * db.properties on the build machine.</p>
+ *
+ * <p>Registered through {@code META-INF/services}, so it runs before the
+ * first test class initializes {@link DB}.</p>
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class EmbeddedPostgresSession implements LauncherSessionListener {
+
+    private EmbeddedPostgres postgres;
+
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        if (!Boolean.getBoolean("embeddedPostgres")) {
+            return;
+        }
+        try {
+            postgres = EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start the embedded PostgreSQL server", e);
+        }
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        System.setProperty(DB.SYSTEM_PROPERTY_PREFIX + "dburl", postgres.getJdbcUrl("postgres", "postgres"));
+        System.setProperty(DB.SYSTEM_PROPERTY_PREFIX + "user", "postgres");
+        System.setProperty(DB.SYSTEM_PROPERTY_PREFIX + "password", "postgres");
+    }
+
+    @Override
+    public void launcherSessionClosed(LauncherSession session) {
+        if (postgres == null) {
+            return;
+        }
+        try {
+            postgres.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to stop the embedded PostgreSQL server", e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.kauanferreira.smartdaojdbc.support;
+
+import com.kauanferreira.smartdaojdbc.DB;
+import com.kauanferreira.smartdaojdbc.dao.SellerDao;
+import com.kauanferreira.smartdaojdbc.dao.impl.SellerDaoJDBC;
+import com.kauanferreira.smartdaojdbc.entity.Department;
+import com.kauanferreira.smartdaojdbc.entity.Seller;
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for {@link SyntheticDataGenerator}.
+ * Each test loads inside a transaction that is rolled back afterwards.
+ *
+ * @author Kauan
+ * @version 1.0
+ * @since 2026
+ */
+public class SyntheticDataGeneratorTest {
+
+    private static Connection connection;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        connection = DB.getConnection();
+        connection.setAutoCommit(false);
+    }
+
+    @AfterEach
+    public void rollback() throws Exception {
+        connection.rollback();
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        connection.setAutoCommit(true);
+        DB.closeConnection(connection);
+        DB.closePool();
+    }
+
+    @Test
+    @DisplayName("Should load sellers readable by the DAO, spread over the new departments")
+    public void loadShouldInsertValidRows() throws Exception {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(42);
+        List<Integer> departmentIds = generator.loadDepartments(connection, 20);
+
+        assertEquals(20, departmentIds.size());
+        assertEquals(20_000, generator.loadSellers(connection, 20_000, departmentIds));
+
+        SellerDao sellerDao = new SellerDaoJDBC(connection);
+        Department first = new Department(departmentIds.get(0), null);
+        Department last = new Department(departmentIds.get(19), null);
+        List<Seller> firstSellers = sellerDao.findByDepartment(first);
+
+        assertTrue(firstSellers.size() > sellerDao.findByDepartment(last).size());
+        assertTrue(firstSellers.get(0).getEmail().endsWith("@s42.example.com"));
+        assertTrue(firstSellers.get(0).getBaseSalary() > 0);
+    }
+
+    @Test
+    @DisplayName("Should generate the same sellers for the same seed")
+    public void loadShouldBeReproducible() throws Exception {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(7);
+        List<Integer> departmentIds = generator.loadDepartments(connection, 3);
+        generator.loadSellers(connection, 100, departmentIds);
+        Seller first = new SellerDaoJDBC(connection).findByEmail(firstEmail());
+        connection.rollback();
+
+        departmentIds = generator.loadDepartments(connection, 3);
+        generator.loadSellers(connection, 100, departmentIds);
+        Seller again = new SellerDaoJDBC(connection).findByEmail(firstEmail());
+
+        assertEquals(first.getName(), again.getName());
+        assertEquals(first.getBirthDate(), again.getBirthDate());
+        assertEquals(first.getBaseSalary(), again.getBaseSalary());
+    }
+
+    /** Returns the email of the first seller generated with seed 7. */
+    private static String firstEmail() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT email FROM seller WHERE email LIKE '%.1@s7.example.com'")) {
+            assertTrue(resultSet.next());
+            return resultSet.getString(1);
+        }
+    }
+}